@@ -5,6 +5,8 @@ export enum Status {
   FAILED = 'FAILED',
   RETRYING = 'RETRYING',
   PAUSED = 'PAUSED',
+  CLAIMED = 'CLAIMED',
+  CANCELLED = 'CANCELLED',
 }
 
 export enum Role {
@@ -62,3 +64,9 @@ export enum NotificationChannel {
   EMAIL = 'EMAIL',
   IN_APP = 'IN_APP',
 }
+
+export enum MisfirePolicy {
+  FIRE_ONCE = 'FIRE_ONCE',
+  SKIP = 'SKIP',
+  FIRE_ALL = 'FIRE_ALL',
+}
@@ -1,4 +1,4 @@
-import { JobType, ScheduleType, Status, TimeUnit } from './enums';
+import { JobType, MisfirePolicy, ScheduleType, Status, TimeUnit } from './enums';
 
 export interface HttpJobPayload {
   url: string;
@@ -14,6 +14,9 @@ export interface ScheduleRequest {
   frequency?: TimeUnit;
   interval?: number;
   cronExpression?: string;
+  timeZone?: string;
+  misfirePolicy?: MisfirePolicy;
+  spreadSeconds?: number;
 }
 
 export interface JobRequest {
@@ -34,6 +37,12 @@ export interface FullJobRequest {
   payload: string;
   schedule: ScheduleRequest;
   maxRetries: number;
+  priority?: number;
+  retryBaseDelayMs?: number;
+  retryMultiplier?: number;
+  retryMaxDelayMs?: number;
+  retryJitter?: boolean;
+  timeoutSeconds?: number;
 }
 
 export interface JobResponse {
@@ -45,11 +54,26 @@ export interface JobResponse {
   recurring: boolean;
   status: Status;
   maxRetries: number;
+  priority: number;
   retryCount: number;
   nextRunTime: string;
+  timeZone: string | null;
+  misfirePolicy: MisfirePolicy | null;
+  spreadSeconds: number | null;
+  retryBaseDelayMs: number | null;
+  retryMultiplier: number | null;
+  retryMaxDelayMs: number | null;
+  retryJitter: boolean | null;
+  timeoutSeconds: number | null;
   lastError: string;
 }
 
+// One page of a listing; pass nextCursor back as `cursor` for the next page (null on the last)
+export interface PageResponse<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
 export interface JobHistoryResponse {
   id: number;
   runTime: string;
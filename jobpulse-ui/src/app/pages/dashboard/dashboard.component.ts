@@ -350,8 +350,8 @@ export class DashboardComponent implements OnInit {
     });
 
     this.jobService.getAll().subscribe({
-      next: (jobs) => {
-        this.recentJobs = jobs.slice(0, 10);
+      next: (page) => {
+        this.recentJobs = page.items.slice(0, 10);
         this.loading = false;
         this.cdr.detectChanges();
       },
@@ -73,6 +73,13 @@ import { DeadLetterJobResponse } from '../../models';
             </div>
           }
         </div>
+        @if (nextCursor) {
+          <div class="load-more">
+            <button class="btn btn-primary" (click)="loadMore()" [disabled]="loadingMore">
+              {{ loadingMore ? 'Loading...' : 'Load more' }}
+            </button>
+          </div>
+        }
       }
     </div>
   `,
@@ -200,6 +207,11 @@ import { DeadLetterJobResponse } from '../../models';
         opacity: 0.4;
         cursor: not-allowed;
       }
+      .load-more {
+        display: flex;
+        justify-content: center;
+        margin-top: 16px;
+      }
       .loading-state,
       .empty-state {
         text-align: center;
@@ -233,6 +245,8 @@ import { DeadLetterJobResponse } from '../../models';
 export class DeadLetterComponent implements OnInit {
   deadLetterJobs: DeadLetterJobResponse[] = [];
   loading = true;
+  loadingMore = false;
+  nextCursor: string | null = null;
   replayingId: number | null = null;
 
   private jobService = inject(JobService);
@@ -246,8 +260,9 @@ export class DeadLetterComponent implements OnInit {
   load(): void {
     this.loading = true;
     this.jobService.getDeadLetterJobs().subscribe({
-      next: (jobs) => {
-        this.deadLetterJobs = jobs;
+      next: (page) => {
+        this.deadLetterJobs = page.items;
+        this.nextCursor = page.nextCursor;
         this.loading = false;
         this.cdr.detectChanges();
       },
@@ -259,6 +274,24 @@ export class DeadLetterComponent implements OnInit {
     });
   }
 
+  loadMore(): void {
+    if (!this.nextCursor) return;
+    this.loadingMore = true;
+    this.jobService.getDeadLetterJobs(this.nextCursor).subscribe({
+      next: (page) => {
+        this.deadLetterJobs = [...this.deadLetterJobs, ...page.items];
+        this.nextCursor = page.nextCursor;
+        this.loadingMore = false;
+        this.cdr.detectChanges();
+      },
+      error: () => {
+        this.toast.error('Failed to load more dead letter jobs.');
+        this.loadingMore = false;
+        this.cdr.detectChanges();
+      },
+    });
+  }
+
   replay(dlj: DeadLetterJobResponse): void {
     this.replayingId = dlj.id;
     this.jobService.replayDeadLetter(dlj.id).subscribe({
@@ -393,6 +393,8 @@ export class JobCreateComponent implements OnInit {
       type: ScheduleType.ONE_TIME,
       interval: 1,
       frequency: TimeUnit.MINUTES,
+      // runAt and cron fields are wall-clock times in the browser's zone
+      timeZone: Intl.DateTimeFormat().resolvedOptions().timeZone,
     },
   };
 
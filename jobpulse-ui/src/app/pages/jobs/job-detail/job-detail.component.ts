@@ -31,6 +31,9 @@ import { JobResponse, JobHistoryResponse } from '../../../models';
             ) {
               <button class="btn btn-outline" (click)="pauseJob()">Pause</button>
             }
+            @if (job.status === 'RUNNING') {
+              <button class="btn btn-outline" (click)="cancelRun()">Cancel run</button>
+            }
             @if (job.status === 'PAUSED') {
               <button class="btn btn-primary" (click)="resumeJob()">Resume</button>
             }
@@ -149,6 +152,11 @@ import { JobResponse, JobHistoryResponse } from '../../../models';
                 </tbody>
               </table>
             </div>
+            @if (historyCursor) {
+              <div class="load-more">
+                <button class="btn btn-outline" (click)="loadMoreHistory()">Load more</button>
+              </div>
+            }
           }
         </div>
       } @else {
@@ -224,6 +232,11 @@ import { JobResponse, JobHistoryResponse } from '../../../models';
         border-color: var(--text-muted);
         color: var(--text-secondary);
       }
+      .load-more {
+        display: flex;
+        justify-content: center;
+        margin-top: 16px;
+      }
       .btn-danger {
         background: transparent;
         color: var(--danger);
@@ -423,6 +436,7 @@ import { JobResponse, JobHistoryResponse } from '../../../models';
 export class JobDetailComponent implements OnInit {
   job: JobResponse | null = null;
   history: JobHistoryResponse[] = [];
+  historyCursor: string | null = null;
   loading = true;
   historyLoading = true;
 
@@ -456,8 +470,9 @@ export class JobDetailComponent implements OnInit {
 
   loadHistory(jobId: number): void {
     this.jobService.getHistory(jobId).subscribe({
-      next: (h: JobHistoryResponse[]) => {
-        this.history = h;
+      next: (page) => {
+        this.history = page.items;
+        this.historyCursor = page.nextCursor;
         this.historyLoading = false;
         this.cdr.detectChanges();
       },
@@ -468,6 +483,18 @@ export class JobDetailComponent implements OnInit {
     });
   }
 
+  loadMoreHistory(): void {
+    if (!this.job || !this.historyCursor) return;
+    this.jobService.getHistory(this.job.id, this.historyCursor).subscribe({
+      next: (page) => {
+        this.history = [...this.history, ...page.items];
+        this.historyCursor = page.nextCursor;
+        this.cdr.detectChanges();
+      },
+      error: () => this.toast.error('Failed to load more history.'),
+    });
+  }
+
   pauseJob(): void {
     if (!this.job) return;
     this.jobService.pause(this.job.id).subscribe({
@@ -479,6 +506,14 @@ export class JobDetailComponent implements OnInit {
     });
   }
 
+  cancelRun(): void {
+    if (!this.job) return;
+    this.jobService.cancel(this.job.id).subscribe({
+      next: () => this.toast.success('Cancellation requested.'),
+      error: () => this.toast.error('Failed to cancel job.'),
+    });
+  }
+
   resumeJob(): void {
     if (!this.job) return;
     this.jobService.resume(this.job.id).subscribe({
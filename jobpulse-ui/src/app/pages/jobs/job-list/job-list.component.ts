@@ -156,6 +156,13 @@ import { JobResponse } from '../../../models';
             </tbody>
           </table>
         </div>
+        @if (nextCursor) {
+          <div class="load-more">
+            <button class="btn btn-primary" (click)="loadMore()" [disabled]="loadingMore">
+              {{ loadingMore ? 'Loading...' : 'Load more' }}
+            </button>
+          </div>
+        }
       }
     </div>
   `,
@@ -202,6 +209,11 @@ import { JobResponse } from '../../../models';
       .btn-primary:hover {
         background: var(--accent-hover);
       }
+      .load-more {
+        display: flex;
+        justify-content: center;
+        margin-top: 16px;
+      }
       .filters {
         display: flex;
         gap: 10px;
@@ -420,6 +432,8 @@ export class JobListComponent implements OnInit {
   allJobs: JobResponse[] = [];
   filteredJobs: JobResponse[] = [];
   loading = true;
+  loadingMore = false;
+  nextCursor: string | null = null;
   searchTerm = '';
   statusFilter = '';
   typeFilter = '';
@@ -436,8 +450,9 @@ export class JobListComponent implements OnInit {
   loadJobs(): void {
     this.loading = true;
     this.jobService.getAll().subscribe({
-      next: (jobs: JobResponse[]) => {
-        this.allJobs = jobs;
+      next: (page) => {
+        this.allJobs = page.items;
+        this.nextCursor = page.nextCursor;
         this.applyFilters();
         this.loading = false;
         this.cdr.detectChanges();
@@ -451,6 +466,25 @@ export class JobListComponent implements OnInit {
     });
   }
 
+  loadMore(): void {
+    if (!this.nextCursor) return;
+    this.loadingMore = true;
+    this.jobService.getAll(this.nextCursor).subscribe({
+      next: (page) => {
+        this.allJobs = [...this.allJobs, ...page.items];
+        this.nextCursor = page.nextCursor;
+        this.applyFilters();
+        this.loadingMore = false;
+        this.cdr.detectChanges();
+      },
+      error: () => {
+        this.toast.error('Failed to load more jobs.');
+        this.loadingMore = false;
+        this.cdr.detectChanges();
+      },
+    });
+  }
+
   applyFilters(): void {
     this.filteredJobs = this.allJobs.filter((job) => {
       const matchSearch =
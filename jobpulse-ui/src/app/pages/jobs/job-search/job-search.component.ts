@@ -1,10 +1,11 @@
 import { inject, Component } from '@angular/core';
+import { Observable } from 'rxjs';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { Router } from '@angular/router';
 import { JobService } from '../../../services/job.service';
 import { ToastService } from '../../../services/toast.service';
-import { JobResponse } from '../../../models/job.model';
+import { JobResponse, PageResponse } from '../../../models/job.model';
 import { Status } from '../../../models/enums';
 
 @Component({
@@ -46,7 +47,7 @@ import { Status } from '../../../models/enums';
 
     @if (searchResults && searchResults.length > 0) {
       <div class="results-section">
-        <h3>Search Results ({{ searchResults.length }} jobs)</h3>
+        <h3>Search Results ({{ searchResults.length }}{{ nextCursor ? '+' : '' }} jobs)</h3>
         <div class="job-list">
           @for (job of searchResults; track job.id) {
             <div class="job-item">
@@ -65,6 +66,11 @@ import { Status } from '../../../models/enums';
             </div>
           }
         </div>
+        @if (nextCursor) {
+          <div class="load-more">
+            <button (click)="loadMore()" class="btn btn-secondary">Load more</button>
+          </div>
+        }
       </div>
     }
 
@@ -202,6 +208,12 @@ import { Status } from '../../../models/enums';
         margin: 5px 0;
       }
 
+      .load-more {
+        display: flex;
+        justify-content: center;
+        margin-top: 16px;
+      }
+
       .no-results {
         text-align: center;
         padding: 40px 20px;
@@ -217,8 +229,13 @@ export class JobSearchComponent {
   endDate = '';
   searchResults: JobResponse[] = [];
   searched = false;
+  nextCursor: string | null = null;
   Status = Status;
 
+  // The listing the results came from, to fetch its following pages
+  private fetchPage: ((cursor?: string | null) => Observable<PageResponse<JobResponse>>) | null =
+    null;
+
   private jobService = inject(JobService);
   private toast = inject(ToastService);
   private router = inject(Router);
@@ -228,13 +245,8 @@ export class JobSearchComponent {
       this.toast.warning('Please enter a search query');
       return;
     }
-    this.jobService.search(this.searchQuery).subscribe({
-      next: (results) => {
-        this.searchResults = results;
-        this.searched = true;
-      },
-      error: () => this.toast.error('Failed to search jobs'),
-    });
+    const query = this.searchQuery;
+    this.show((cursor) => this.jobService.search(query, cursor), 'Failed to search jobs');
   }
 
   filterByStatus(): void {
@@ -242,13 +254,8 @@ export class JobSearchComponent {
       this.clearSearch();
       return;
     }
-    this.jobService.filterByStatus(this.selectedStatus).subscribe({
-      next: (results) => {
-        this.searchResults = results;
-        this.searched = true;
-      },
-      error: () => this.toast.error('Failed to filter jobs'),
-    });
+    const status = this.selectedStatus;
+    this.show((cursor) => this.jobService.filterByStatus(status, cursor), 'Failed to filter jobs');
   }
 
   filterByDateRange(): void {
@@ -256,12 +263,21 @@ export class JobSearchComponent {
       this.toast.warning('Please select both start and end dates');
       return;
     }
-    this.jobService.filterByDateRange(this.startDate, this.endDate).subscribe({
-      next: (results) => {
-        this.searchResults = results;
-        this.searched = true;
+    const { startDate, endDate } = this;
+    this.show(
+      (cursor) => this.jobService.filterByDateRange(startDate, endDate, cursor),
+      'Failed to filter jobs by date',
+    );
+  }
+
+  loadMore(): void {
+    if (!this.fetchPage || !this.nextCursor) return;
+    this.fetchPage(this.nextCursor).subscribe({
+      next: (page) => {
+        this.searchResults = [...this.searchResults, ...page.items];
+        this.nextCursor = page.nextCursor;
       },
-      error: () => this.toast.error('Failed to filter jobs by date'),
+      error: () => this.toast.error('Failed to load more jobs'),
     });
   }
 
@@ -272,6 +288,23 @@ export class JobSearchComponent {
     this.endDate = '';
     this.searchResults = [];
     this.searched = false;
+    this.nextCursor = null;
+    this.fetchPage = null;
+  }
+
+  private show(
+    fetchPage: (cursor?: string | null) => Observable<PageResponse<JobResponse>>,
+    errorMessage: string,
+  ): void {
+    this.fetchPage = fetchPage;
+    fetchPage().subscribe({
+      next: (page) => {
+        this.searchResults = page.items;
+        this.nextCursor = page.nextCursor;
+        this.searched = true;
+      },
+      error: () => this.toast.error(errorMessage),
+    });
   }
 
   viewJob(jobId: number): void {
@@ -1,5 +1,5 @@
 import { inject, Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { environment } from '../../environments/environment';
 import {
@@ -8,6 +8,7 @@ import {
   JobHistoryResponse,
   DeadLetterJobResponse,
   JobStatsResponse,
+  PageResponse,
 } from '../models';
 
 @Injectable({ providedIn: 'root' })
@@ -16,8 +17,8 @@ export class JobService {
 
   private http = inject(HttpClient);
 
-  getAll(): Observable<JobResponse[]> {
-    return this.http.get<JobResponse[]>(this.apiUrl);
+  getAll(cursor?: string | null): Observable<PageResponse<JobResponse>> {
+    return this.http.get<PageResponse<JobResponse>>(this.apiUrl, { params: page(cursor) });
   }
 
   getById(id: number): Observable<JobResponse> {
@@ -36,16 +37,24 @@ export class JobService {
     return this.http.put<JobResponse>(`${this.apiUrl}/${id}/pause`, {});
   }
 
+  cancel(id: number): Observable<void> {
+    return this.http.post<void>(`${this.apiUrl}/${id}/cancel`, {});
+  }
+
   resume(id: number): Observable<JobResponse> {
     return this.http.put<JobResponse>(`${this.apiUrl}/${id}/resume`, {});
   }
 
-  getHistory(jobId: number): Observable<JobHistoryResponse[]> {
-    return this.http.get<JobHistoryResponse[]>(`${this.apiUrl}/${jobId}/history`);
+  getHistory(jobId: number, cursor?: string | null): Observable<PageResponse<JobHistoryResponse>> {
+    return this.http.get<PageResponse<JobHistoryResponse>>(`${this.apiUrl}/${jobId}/history`, {
+      params: page(cursor),
+    });
   }
 
-  getDeadLetterJobs(): Observable<DeadLetterJobResponse[]> {
-    return this.http.get<DeadLetterJobResponse[]>(`${this.apiUrl}/dead-letter`);
+  getDeadLetterJobs(cursor?: string | null): Observable<PageResponse<DeadLetterJobResponse>> {
+    return this.http.get<PageResponse<DeadLetterJobResponse>>(`${this.apiUrl}/dead-letter`, {
+      params: page(cursor),
+    });
   }
 
   replayDeadLetter(id: number): Observable<JobResponse> {
@@ -65,21 +74,30 @@ export class JobService {
   }
 
   // Search and Filtering
-  search(query: string): Observable<JobResponse[]> {
-    return this.http.get<JobResponse[]>(`${this.apiUrl}/search`, {
-      params: { query },
+  search(query: string, cursor?: string | null): Observable<PageResponse<JobResponse>> {
+    return this.http.get<PageResponse<JobResponse>>(`${this.apiUrl}/search`, {
+      params: page(cursor).set('query', query),
     });
   }
 
-  filterByStatus(status: string): Observable<JobResponse[]> {
-    return this.http.get<JobResponse[]>(`${this.apiUrl}/filter/status`, {
-      params: { status },
+  filterByStatus(status: string, cursor?: string | null): Observable<PageResponse<JobResponse>> {
+    return this.http.get<PageResponse<JobResponse>>(`${this.apiUrl}/filter/status`, {
+      params: page(cursor).set('status', status),
     });
   }
 
-  filterByDateRange(startDate: string, endDate: string): Observable<JobResponse[]> {
-    return this.http.get<JobResponse[]>(`${this.apiUrl}/filter/date-range`, {
-      params: { startDate, endDate },
+  filterByDateRange(
+    startDate: string,
+    endDate: string,
+    cursor?: string | null,
+  ): Observable<PageResponse<JobResponse>> {
+    return this.http.get<PageResponse<JobResponse>>(`${this.apiUrl}/filter/date-range`, {
+      params: page(cursor).set('startDate', startDate).set('endDate', endDate),
     });
   }
 }
+
+// Listings are keyset-paginated: no cursor asks for the first page
+function page(cursor?: string | null): HttpParams {
+  return cursor ? new HttpParams().set('cursor', cursor) : new HttpParams();
+}
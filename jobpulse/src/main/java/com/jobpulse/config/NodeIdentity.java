@@ -0,0 +1,39 @@
+package com.jobpulse.config;
+
+import java.net.InetAddress;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stable identifier of this JobPulse instance, used to record which node owns a claimed job. Taken
+ * from {@code jobpulse.node-id} when set, otherwise derived from the hostname plus a random suffix
+ * so two instances on the same host never collide.
+ */
+@Component
+@Slf4j
+public class NodeIdentity {
+
+  private final String nodeId;
+
+  public NodeIdentity(@Value("${jobpulse.node-id:}") String configuredNodeId) {
+    this.nodeId =
+        configuredNodeId.isBlank()
+            ? hostname() + "-" + UUID.randomUUID().toString().substring(0, 8)
+            : configuredNodeId;
+    log.info("JobPulse node id: {}", nodeId);
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  private static String hostname() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      return "node";
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.jobpulse.controller;
+
+import com.jobpulse.dto.response.ClusterStatusResponse;
+import com.jobpulse.service.ClusterMembership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/cluster")
+@Slf4j
+@RequiredArgsConstructor
+public class ClusterController {
+
+  private final ClusterMembership clusterMembership;
+
+  @GetMapping
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ClusterStatusResponse> getClusterStatus() {
+    log.debug("Fetching cluster partition assignment");
+    return ResponseEntity.ok(clusterMembership.status());
+  }
+}
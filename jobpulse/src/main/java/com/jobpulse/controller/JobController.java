@@ -6,10 +6,10 @@ import com.jobpulse.dto.response.DeadLetterJobResponse;
 import com.jobpulse.dto.response.JobHistoryResponse;
 import com.jobpulse.dto.response.JobResponse;
 import com.jobpulse.dto.response.JobStatsResponse;
+import com.jobpulse.dto.response.PageResponse;
 import com.jobpulse.model.Status;
 import com.jobpulse.service.JobService;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,9 +39,12 @@ public class JobController {
   }
 
   @GetMapping
-  public ResponseEntity<List<JobResponse>> getAllJobs(@AuthenticationPrincipal UUID userId) {
+  public ResponseEntity<PageResponse<JobResponse>> getAllJobs(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      @AuthenticationPrincipal UUID userId) {
     log.debug("Fetching jobs for user: {}", userId);
-    return ResponseEntity.ok(jobService.getJobs(userId));
+    return ResponseEntity.ok(jobService.getJobs(userId, cursor, size));
   }
 
   @GetMapping("/{id}")
@@ -68,17 +71,22 @@ public class JobController {
 
   @GetMapping("/dead-letter")
   @PreAuthorize("hasRole('ADMIN')")
-  public ResponseEntity<List<DeadLetterJobResponse>> getDeadLetterJobs(
+  public ResponseEntity<PageResponse<DeadLetterJobResponse>> getDeadLetterJobs(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
       @AuthenticationPrincipal UUID userId) {
     log.debug("Fetching dead letter jobs for user: {}", userId);
-    return ResponseEntity.ok(jobService.getDeadLetterJobs(userId));
+    return ResponseEntity.ok(jobService.getDeadLetterJobs(userId, cursor, size));
   }
 
   @GetMapping("/{id}/history")
-  public ResponseEntity<List<JobHistoryResponse>> getJobHistory(
-      @PathVariable long id, @AuthenticationPrincipal UUID userId) {
+  public ResponseEntity<PageResponse<JobHistoryResponse>> getJobHistory(
+      @PathVariable long id,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      @AuthenticationPrincipal UUID userId) {
     log.debug("Fetching history for job with ID: {} for user: {}", id, userId);
-    return ResponseEntity.ok(jobService.getJobHistory(id, userId));
+    return ResponseEntity.ok(jobService.getJobHistory(id, userId, cursor, size));
   }
 
   @GetMapping("/stats")
@@ -94,6 +102,14 @@ public class JobController {
     return ResponseEntity.ok(jobService.pauseJob(id, userId));
   }
 
+  @PostMapping("/{id}/cancel")
+  public ResponseEntity<Void> cancelJob(
+      @PathVariable long id, @AuthenticationPrincipal UUID userId) {
+    log.info("Cancelling job with ID: {} for user: {}", id, userId);
+    jobService.cancelJob(id, userId);
+    return ResponseEntity.accepted().build();
+  }
+
   @PutMapping("/{id}/resume")
   public ResponseEntity<JobResponse> resumeJob(
       @PathVariable long id, @AuthenticationPrincipal UUID userId) {
@@ -114,25 +130,34 @@ public class JobController {
   }
 
   @GetMapping("/search")
-  public ResponseEntity<List<JobResponse>> searchJobs(
-      @RequestParam String query, @AuthenticationPrincipal UUID userId) {
+  public ResponseEntity<PageResponse<JobResponse>> searchJobs(
+      @RequestParam String query,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      @AuthenticationPrincipal UUID userId) {
     log.debug("Searching jobs with query: {} for user: {}", query, userId);
-    return ResponseEntity.ok(jobService.searchJobs(query, userId));
+    return ResponseEntity.ok(jobService.searchJobs(query, userId, cursor, size));
   }
 
   @GetMapping("/filter/status")
-  public ResponseEntity<List<JobResponse>> filterByStatus(
-      @RequestParam Status status, @AuthenticationPrincipal UUID userId) {
+  public ResponseEntity<PageResponse<JobResponse>> filterByStatus(
+      @RequestParam Status status,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      @AuthenticationPrincipal UUID userId) {
     log.debug("Filtering jobs by status: {} for user: {}", status, userId);
-    return ResponseEntity.ok(jobService.filterByStatus(status, userId));
+    return ResponseEntity.ok(jobService.filterByStatus(status, userId, cursor, size));
   }
 
   @GetMapping("/filter/date-range")
-  public ResponseEntity<List<JobResponse>> filterByDateRange(
+  public ResponseEntity<PageResponse<JobResponse>> filterByDateRange(
       @RequestParam LocalDateTime startDate,
       @RequestParam LocalDateTime endDate,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
       @AuthenticationPrincipal UUID userId) {
     log.debug("Filtering jobs by date range: {} to {} for user: {}", startDate, endDate, userId);
-    return ResponseEntity.ok(jobService.filterByDateRange(startDate, endDate, userId));
+    return ResponseEntity.ok(
+        jobService.filterByDateRange(startDate, endDate, userId, cursor, size));
   }
 }
@@ -0,0 +1,30 @@
+package com.jobpulse.controller;
+
+import com.jobpulse.dto.response.FireTimeHistogramResponse;
+import com.jobpulse.service.FireTimeHistogram;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/schedule")
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduleController {
+
+  private final FireTimeHistogram fireTimeHistogram;
+
+  @GetMapping("/fire-histogram")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<FireTimeHistogramResponse> getFireHistogram(
+      @RequestParam(defaultValue = "300") long horizonSeconds,
+      @RequestParam(defaultValue = "1") int bucketSeconds) {
+    log.debug("Fetching fire time histogram for the next {} s", horizonSeconds);
+    return ResponseEntity.ok(fireTimeHistogram.snapshot(horizonSeconds, bucketSeconds));
+  }
+}
@@ -0,0 +1,6 @@
+package com.jobpulse.dto.others;
+
+import java.time.Instant;
+
+/** Id and next run time of a job waiting to be scheduled. */
+public record ScheduledJobRef(long id, Instant nextRunTime) {}
@@ -0,0 +1,6 @@
+package com.jobpulse.dto.others;
+
+import com.jobpulse.model.Status;
+
+/** Number of jobs in one status. */
+public record StatusCount(Status status, long count) {}
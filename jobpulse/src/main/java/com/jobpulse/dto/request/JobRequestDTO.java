@@ -1,6 +1,9 @@
 package com.jobpulse.dto.request;
 
+import com.jobpulse.model.Job;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -37,6 +40,28 @@ public class JobRequestDTO {
   @Builder.Default
   private int maxRetries = 3;
 
+  // Optional retry backoff overrides; unset values depend on the failure reason
+  @Min(value = 1, message = "Retry base delay must be at least 1 ms")
+  private Long retryBaseDelayMs;
+
+  @DecimalMin(value = "1.0", message = "Retry multiplier must be at least 1")
+  private Double retryMultiplier;
+
+  @Min(value = 1, message = "Retry max delay must be at least 1 ms")
+  private Long retryMaxDelayMs;
+
+  // Full jitter: wait a random time up to the computed delay
+  private Boolean retryJitter;
+
+  // Wall-clock limit of a single run; unset uses the job type's default, 0 disables it
+  @Min(value = 0, message = "Timeout cannot be negative")
+  private Integer timeoutSeconds;
+
+  @Min(value = 0, message = "Priority must be between 0 and 9")
+  @Max(value = 9, message = "Priority must be between 0 and 9")
+  @Builder.Default
+  private int priority = Job.DEFAULT_PRIORITY;
+
   public enum JobType {
     EMAIL,
     HTTP_CALL,
@@ -1,6 +1,7 @@
 package com.jobpulse.dto.request;
 
 import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.model.Job;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,5 +20,6 @@ public class JobTemplateRequestDTO {
   private String payload;
   private String cronExpression;
   private int maxRetries;
+  @Builder.Default private int priority = Job.DEFAULT_PRIORITY;
   private boolean isPublic;
 }
@@ -1,6 +1,7 @@
 package com.jobpulse.dto.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.jobpulse.model.MisfirePolicy;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -30,6 +31,16 @@ public class ScheduleDTO {
   // Only for CRON
   private String cronExpression;
 
+  // IANA zone id such as "Europe/Berlin" for runAt and the cron fields; defaults to the server zone
+  private String timeZone;
+
+  // Only for RECURRING and CRON; defaults to FIRE_ONCE
+  private MisfirePolicy misfirePolicy;
+
+  // Only for RECURRING and CRON: spread fires over up to this many seconds, by job id
+  @Min(value = 0, message = "Spread cannot be negative")
+  private Integer spreadSeconds;
+
   public enum ScheduleType {
     ONE_TIME,
     RECURRING,
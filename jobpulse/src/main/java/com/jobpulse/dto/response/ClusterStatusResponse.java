@@ -0,0 +1,18 @@
+package com.jobpulse.dto.response;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class ClusterStatusResponse {
+  private boolean enabled;
+  private String nodeId;
+  private int partitionCount;
+  // Node id -> owned partition ranges, e.g. ["0-11", "40", "97-103"]
+  private Map<String, List<String>> partitionRanges;
+}
@@ -1,5 +1,6 @@
 package com.jobpulse.dto.response;
 
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,4 +17,26 @@ public class DeadLetterJobResponse {
   private LocalDateTime failedAt;
   private int retryCount;
   private int maxRetries;
+
+  /**
+   * Row of {@link com.jobpulse.repository.DeadLetterJobRepository#findPageByOwner}, which selects
+   * the job type as stored.
+   */
+  public DeadLetterJobResponse(
+      Long id,
+      String jobName,
+      JobType jobType,
+      String lastError,
+      LocalDateTime failedAt,
+      int retryCount,
+      int maxRetries) {
+    this(
+        id,
+        jobName,
+        jobType != null ? jobType.name() : null,
+        lastError,
+        failedAt,
+        retryCount,
+        maxRetries);
+  }
 }
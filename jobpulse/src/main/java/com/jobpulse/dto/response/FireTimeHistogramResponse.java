@@ -0,0 +1,21 @@
+package com.jobpulse.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class FireTimeHistogramResponse {
+  private Instant from;
+  private int bucketSeconds;
+  // Jobs due in each bucket, starting at `from`
+  private List<Long> counts;
+  private long total;
+  private long peak;
+  // Busiest bucket relative to the average bucket: 1.0 is perfectly flat
+  private double peakToMean;
+}
@@ -1,7 +1,9 @@
 package com.jobpulse.dto.response;
 
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.model.MisfirePolicy;
 import com.jobpulse.model.Status;
-import java.time.LocalDateTime;
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +25,63 @@ public class JobResponse {
   private Status status;
   private int retryCount;
   private int maxRetries;
-  private LocalDateTime nextRunTime;
+  private int priority;
+  private Instant nextRunTime;
+  private String timeZone;
+  private MisfirePolicy misfirePolicy;
+  private Integer spreadSeconds;
+  private Long retryBaseDelayMs;
+  private Double retryMultiplier;
+  private Long retryMaxDelayMs;
+  private Boolean retryJitter;
+  private Integer timeoutSeconds;
   private String lastError;
+
+  /**
+   * Row of {@link com.jobpulse.repository.JobRepository#JOB_RESPONSE}, which selects the job type
+   * as stored.
+   */
+  public JobResponse(
+      long id,
+      String name,
+      JobType jobType,
+      String payload,
+      String cronExpression,
+      boolean recurring,
+      Status status,
+      int retryCount,
+      int maxRetries,
+      int priority,
+      Instant nextRunTime,
+      String timeZone,
+      MisfirePolicy misfirePolicy,
+      Integer spreadSeconds,
+      Long retryBaseDelayMs,
+      Double retryMultiplier,
+      Long retryMaxDelayMs,
+      Boolean retryJitter,
+      Integer timeoutSeconds,
+      String lastError) {
+    this(
+        id,
+        name,
+        jobType != null ? jobType.name() : null,
+        payload,
+        cronExpression,
+        recurring,
+        status,
+        retryCount,
+        maxRetries,
+        priority,
+        nextRunTime,
+        timeZone,
+        misfirePolicy,
+        spreadSeconds,
+        retryBaseDelayMs,
+        retryMultiplier,
+        retryMaxDelayMs,
+        retryJitter,
+        timeoutSeconds,
+        lastError);
+  }
 }
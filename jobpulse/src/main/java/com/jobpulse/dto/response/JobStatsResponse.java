@@ -1,5 +1,7 @@
 package com.jobpulse.dto.response;
 
+import com.jobpulse.model.Status;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,4 +17,19 @@ public class JobStatsResponse {
   private long retryingJobs;
   private long failedJobs;
   private long deadLetterJobs;
+
+  /**
+   * @param byStatus number of jobs per status; statuses without jobs may be absent
+   */
+  public static JobStatsResponse of(Map<Status, Long> byStatus, long deadLetterJobs) {
+    return JobStatsResponse.builder()
+        .totalJobs(byStatus.values().stream().mapToLong(Long::longValue).sum())
+        .pendingJobs(byStatus.getOrDefault(Status.PENDING, 0L))
+        .runningJobs(byStatus.getOrDefault(Status.RUNNING, 0L))
+        .successfulJobs(byStatus.getOrDefault(Status.SUCCESS, 0L))
+        .retryingJobs(byStatus.getOrDefault(Status.RETRYING, 0L))
+        .failedJobs(byStatus.getOrDefault(Status.FAILED, 0L))
+        .deadLetterJobs(deadLetterJobs)
+        .build();
+  }
 }
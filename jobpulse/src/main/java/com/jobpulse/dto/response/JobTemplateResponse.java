@@ -21,6 +21,7 @@ public class JobTemplateResponse {
   private String payload;
   private String cronExpression;
   private int maxRetries;
+  private int priority;
   private boolean isPublic;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
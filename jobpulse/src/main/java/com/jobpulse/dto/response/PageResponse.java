@@ -0,0 +1,28 @@
+package com.jobpulse.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class PageResponse<T> {
+  private List<T> items;
+  // Pass back as `cursor` to get the next page; null on the last page
+  private String nextCursor;
+
+  /**
+   * Builds a page from up to {@code size + 1} rows fetched in page order: the extra row only tells
+   * whether another page follows.
+   *
+   * @param cursorOf cursor resuming after a given row
+   */
+  public static <T> PageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+    boolean more = rows.size() > size;
+    List<T> page = more ? List.copyOf(rows.subList(0, size)) : rows;
+    return new PageResponse<>(page, more ? cursorOf.apply(page.get(size - 1)) : null);
+  }
+}
@@ -0,0 +1,27 @@
+package com.jobpulse.event;
+
+import com.jobpulse.model.Job;
+import com.jobpulse.model.Status;
+import java.time.Instant;
+
+/**
+ * Published by {@code JobService} after a job's status or next run time has been persisted, so
+ * schedulers keeping their own view of upcoming jobs can update it without polling the table.
+ *
+ * @param status {@code null} when the job was deleted
+ */
+public record JobScheduleChangedEvent(long jobId, Status status, Instant nextRunTime) {
+
+  public static JobScheduleChangedEvent of(Job job) {
+    return new JobScheduleChangedEvent(job.getId(), job.getStatus(), job.getNextRunTime());
+  }
+
+  public static JobScheduleChangedEvent removed(long jobId) {
+    return new JobScheduleChangedEvent(jobId, null, null);
+  }
+
+  /** Whether the job is waiting for the scheduler to pick it up at {@link #nextRunTime()}. */
+  public boolean isSchedulable() {
+    return nextRunTime != null && (status == Status.PENDING || status == Status.RETRYING);
+  }
+}
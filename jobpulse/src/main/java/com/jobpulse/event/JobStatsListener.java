@@ -0,0 +1,69 @@
+package com.jobpulse.event;
+
+import com.jobpulse.model.DeadLetterJob;
+import com.jobpulse.model.Job;
+import com.jobpulse.model.User;
+import com.jobpulse.service.JobStatsCache;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds entity writes of jobs and dead letters to {@link JobStatsCache}. A job remembers the status
+ * it was loaded or last written with, so each insert, update or delete is one status transition.
+ * Writes that bypass the entity (the claim and reaper updates, fenced outcome writes) report their
+ * transitions to the cache themselves.
+ */
+@Component
+public class JobStatsListener {
+
+  // Looked up per write, so JPA test slices without Redis run without the cache
+  private final ObjectProvider<JobStatsCache> statsCache;
+
+  public JobStatsListener(ObjectProvider<JobStatsCache> statsCache) {
+    this.statsCache = statsCache;
+  }
+
+  @PostLoad
+  void loaded(Object entity) {
+    if (entity instanceof Job job) {
+      job.setPersistedStatus(job.getStatus());
+    }
+  }
+
+  @PostPersist
+  void persisted(Object entity) {
+    if (entity instanceof Job job) {
+      statsCache.ifAvailable(cache -> cache.statusPersisted(job));
+    } else if (entity instanceof DeadLetterJob deadLetter) {
+      deadLettersChanged(deadLetter, 1);
+    }
+  }
+
+  @PostUpdate
+  void updated(Object entity) {
+    if (entity instanceof Job job) {
+      statsCache.ifAvailable(cache -> cache.statusPersisted(job));
+    }
+  }
+
+  @PostRemove
+  void removed(Object entity) {
+    if (entity instanceof Job job && job.getOwner() != null) {
+      statsCache.ifAvailable(
+          cache -> cache.transition(job.getOwner().getId(), job.getPersistedStatus(), null));
+    } else if (entity instanceof DeadLetterJob deadLetter) {
+      deadLettersChanged(deadLetter, -1);
+    }
+  }
+
+  private void deadLettersChanged(DeadLetterJob deadLetter, long delta) {
+    User owner = deadLetter.getJob() != null ? deadLetter.getJob().getOwner() : null;
+    if (owner != null) {
+      statsCache.ifAvailable(cache -> cache.deadLettersChanged(owner.getId(), delta));
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.jobpulse.exception;
+
+/** Ends a run that was cancelled through the API; the run is neither retried nor dead-lettered. */
+public class JobCancelledException extends RuntimeException {
+
+  public JobCancelledException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
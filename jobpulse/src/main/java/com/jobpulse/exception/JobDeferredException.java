@@ -0,0 +1,22 @@
+package com.jobpulse.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown instead of running a job when a downstream guard (open circuit breaker, rate limiter,
+ * bulkhead) turns it away. The job is rescheduled after {@link #getDelay()} without counting as a
+ * failed attempt.
+ */
+public class JobDeferredException extends RuntimeException {
+
+  private final Duration delay;
+
+  public JobDeferredException(String message, Duration delay) {
+    super(message);
+    this.delay = delay;
+  }
+
+  public Duration getDelay() {
+    return delay;
+  }
+}
@@ -1,15 +1,30 @@
 package com.jobpulse.exception;
 
 import com.jobpulse.dto.others.JobFailureReason;
+import java.time.Duration;
 
 public class RetryableJobException extends JobExecutionException {
 
+  // Wait requested by the remote side (Retry-After), or null
+  private final Duration retryAfter;
+
   public RetryableJobException(JobFailureReason reason, String message) {
     super(reason, message);
+    this.retryAfter = null;
   }
 
   public RetryableJobException(JobFailureReason reason, String message, Throwable cause) {
+    this(reason, message, cause, null);
+  }
+
+  public RetryableJobException(
+      JobFailureReason reason, String message, Throwable cause, Duration retryAfter) {
     super(reason, message);
     initCause(cause);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
   }
 }
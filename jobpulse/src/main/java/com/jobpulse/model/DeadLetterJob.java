@@ -1,10 +1,14 @@
 package com.jobpulse.model;
 
+import com.jobpulse.event.JobStatsListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +17,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = @Index(name = "idx_dead_letter_job_job", columnList = "job_id"))
+@EntityListeners(JobStatsListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
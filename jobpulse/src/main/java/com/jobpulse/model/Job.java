@@ -1,15 +1,21 @@
 package com.jobpulse.model;
 
 import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.event.JobStatsListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -17,15 +23,27 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 
 @Entity
+@Table(
+    indexes = {
+      @Index(name = "idx_job_status_next_run_time", columnList = "status, next_run_time"),
+      @Index(name = "idx_job_owner_status", columnList = "owner_id, status"),
+      @Index(name = "idx_job_owner_id", columnList = "owner_id, id DESC")
+    })
+@EntityListeners(JobStatsListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 @Builder
 public class Job {
+
+  /** Priority given to jobs that do not set one; 0 is the most urgent, 9 the least. */
+  public static final int DEFAULT_PRIORITY = 5;
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private long id;
@@ -46,9 +64,45 @@ public class Job {
 
   private int retryCount;
   private int maxRetries;
-  private LocalDateTime nextRunTime;
+
+  // Per-job retry backoff; null fields fall back to the failure reason's default
+  private Long retryBaseDelayMs;
+  private Double retryMultiplier;
+  private Long retryMaxDelayMs;
+  private Boolean retryJitter;
+
+  // Wall-clock limit of a single run; null uses the job type's default, 0 disables it
+  private Integer timeoutSeconds;
+
+  @ColumnDefault("5")
+  @Builder.Default
+  private int priority = DEFAULT_PRIORITY;
+
+  // Stored as UTC so due scans compare instants regardless of the job's or the node's zone
+  private Instant nextRunTime;
+
+  // IANA zone the cron expression is evaluated in; null means the server default
+  private String timeZone;
+
+  // Null means FIRE_ONCE
+  @Enumerated(EnumType.STRING)
+  private MisfirePolicy misfirePolicy;
+
+  // Upper bound of the per-job offset added to every cron fire time; null or 0 disables it
+  private Integer spreadSeconds;
+
   private String lastError;
 
+  // Set while a node holds the job through a SKIP LOCKED claim
+  private String claimedBy;
+  private Instant leaseExpiresAt;
+
+  // Fencing token of the last Redis lock holder that persisted an outcome
+  private Long fencingToken;
+
+  // Status as last loaded or written, so a save can be counted as a transition from it
+  @Transient private Status persistedStatus;
+
   @OneToMany(mappedBy = "job", orphanRemoval = true)
   private List<JobHistory> histories;
 
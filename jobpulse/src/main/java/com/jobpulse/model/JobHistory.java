@@ -1,13 +1,16 @@
 package com.jobpulse.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +19,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(
+    indexes =
+        @Index(
+            name = "idx_job_history_job_run_time_id",
+            columnList = "job_id, run_time DESC, id DESC"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -30,6 +38,8 @@ public class JobHistory {
   @JoinColumn(name = "job_id")
   private Job job;
 
+  // Partition key of job_history (V10): each run is stored in its month's partition
+  @Column(nullable = false)
   private LocalDateTime runTime;
 
   @Enumerated(EnumType.STRING)
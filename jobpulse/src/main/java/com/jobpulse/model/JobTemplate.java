@@ -7,17 +7,21 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 
 @Entity
+@Table(indexes = @Index(name = "idx_job_template_owner", columnList = "owner_id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -42,6 +46,10 @@ public class JobTemplate {
   private String cronExpression;
   private int maxRetries;
 
+  @ColumnDefault("5")
+  @Builder.Default
+  private int priority = Job.DEFAULT_PRIORITY;
+
   @CreatedDate private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 
@@ -0,0 +1,18 @@
+package com.jobpulse.model;
+
+/**
+ * What the scheduler does with a recurring job whose fire time passed more than {@code
+ * jobpulse.scheduler.misfire.threshold-seconds} ago, e.g. because every node was down. One-time
+ * jobs always run once.
+ */
+public enum MisfirePolicy {
+  /** Run once now, then continue from the next fire time after now (the default). */
+  FIRE_ONCE,
+  /** Do not run the missed fire; continue from the next fire time after now. */
+  SKIP,
+  /**
+   * Run every missed fire time in turn, back to at most {@code
+   * jobpulse.scheduler.misfire.max-catch-up-seconds} ago.
+   */
+  FIRE_ALL
+}
@@ -6,5 +6,7 @@ public enum Status {
   SUCCESS,
   RETRYING,
   FAILED,
-  PAUSED
+  PAUSED,
+  CLAIMED,
+  CANCELLED
 }
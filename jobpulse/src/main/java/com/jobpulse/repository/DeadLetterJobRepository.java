@@ -1,13 +1,31 @@
 package com.jobpulse.repository;
 
+import com.jobpulse.dto.response.DeadLetterJobResponse;
 import com.jobpulse.model.DeadLetterJob;
 import com.jobpulse.model.User;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface DeadLetterJobRepository extends JpaRepository<DeadLetterJob, Long> {
 
   List<DeadLetterJob> findByJob_Owner(User owner);
+
+  long countByJob_Owner(User owner);
+
+  /**
+   * Keyset page of an owner's dead letters, newest first, with ids below {@code beforeId}. The job
+   * columns come from the same join, so a page is a single statement.
+   */
+  @Query(
+      "SELECT new com.jobpulse.dto.response.DeadLetterJobResponse(d.id, j.name, j.jobType,"
+          + " d.lastError, d.failedAt, j.retryCount, j.maxRetries)"
+          + " FROM DeadLetterJob d JOIN d.job j WHERE j.owner = :owner AND d.id < :beforeId"
+          + " ORDER BY d.id DESC")
+  List<DeadLetterJobResponse> findPageByOwner(
+      @Param("owner") User owner, @Param("beforeId") long beforeId, Limit limit);
 }
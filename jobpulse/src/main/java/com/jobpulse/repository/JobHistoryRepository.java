@@ -1,18 +1,40 @@
 package com.jobpulse.repository;
 
+import com.jobpulse.dto.response.JobHistoryResponse;
 import com.jobpulse.model.Job;
 import com.jobpulse.model.JobHistory;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JobHistoryRepository extends JpaRepository<JobHistory, Long> {
   boolean existsByJob(Job job);
 
-  List<JobHistory> findByJobOrderByRunTimeDesc(Job job);
+  /** Selects the {@link JobHistoryResponse} columns of {@code jh} without loading its job. */
+  String HISTORY_RESPONSE =
+      "SELECT new com.jobpulse.dto.response.JobHistoryResponse(jh.id, jh.runTime, jh.status,"
+          + " jh.errorMessage, jh.retryAttempt) FROM JobHistory jh";
+
+  /** First page of a job's history, newest first. */
+  @Query(HISTORY_RESPONSE + " WHERE jh.job.id = :jobId ORDER BY jh.runTime DESC, jh.id DESC")
+  List<JobHistoryResponse> findPageByJob(@Param("jobId") long jobId, Limit limit);
+
+  /** Page of a job's history following the run at ({@code runTime}, {@code id}), newest first. */
+  @Query(
+      HISTORY_RESPONSE
+          + " WHERE jh.job.id = :jobId AND (jh.runTime < :runTime"
+          + " OR (jh.runTime = :runTime AND jh.id < :id)) ORDER BY jh.runTime DESC, jh.id DESC")
+  List<JobHistoryResponse> findPageByJobAfter(
+      @Param("jobId") long jobId,
+      @Param("runTime") LocalDateTime runTime,
+      @Param("id") long id,
+      Limit limit);
 
   @Query("SELECT jh FROM JobHistory jh WHERE jh.job = :job ORDER BY jh.runTime DESC LIMIT 1")
   Optional<JobHistory> findLatestByJob(Job job);
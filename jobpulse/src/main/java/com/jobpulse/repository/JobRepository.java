@@ -1,39 +1,313 @@
 package com.jobpulse.repository;
 
+import com.jobpulse.dto.others.ScheduledJobRef;
+import com.jobpulse.dto.others.StatusCount;
+import com.jobpulse.dto.response.JobResponse;
 import com.jobpulse.model.Job;
 import com.jobpulse.model.Status;
 import com.jobpulse.model.User;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+  /**
+   * Selects the {@link JobResponse} columns of {@code j} straight into the DTO, so read endpoints
+   * neither load the entity nor its eager owner.
+   */
+  String JOB_RESPONSE =
+      "SELECT new com.jobpulse.dto.response.JobResponse(j.id, j.name, j.jobType, j.payload,"
+          + " j.cronExpression, j.recurring, j.status, j.retryCount, j.maxRetries, j.priority,"
+          + " j.nextRunTime, j.timeZone, j.misfirePolicy, j.spreadSeconds, j.retryBaseDelayMs,"
+          + " j.retryMultiplier, j.retryMaxDelayMs, j.retryJitter, j.timeoutSeconds, j.lastError)"
+          + " FROM Job j";
+
   List<Job> findByOwner(User owner);
 
   Optional<Job> findByIdAndOwner(long id, User owner);
 
+  boolean existsByIdAndOwner(long id, User owner);
+
+  /**
+   * Jobs of {@code owner} per status, read from idx_job_owner_status; empty statuses are absent.
+   */
+  @Query(
+      "SELECT new com.jobpulse.dto.others.StatusCount(j.status, COUNT(j)) FROM Job j"
+          + " WHERE j.owner = :owner GROUP BY j.status")
+  List<StatusCount> countByStatus(@Param("owner") User owner);
+
+  @Query(JOB_RESPONSE + " WHERE j.id = :id AND j.owner = :owner")
+  Optional<JobResponse> findResponseByIdAndOwner(@Param("id") long id, @Param("owner") User owner);
+
   // Search and filtering methods
   List<Job> findByOwnerAndNameContainingIgnoreCase(User owner, String name);
 
-  List<Job> findByOwnerAndStatus(User owner, Status status);
+  // Keyset pages, newest first: pass the id of the last job of the previous page as beforeId
+  // (Long.MAX_VALUE for the first page). FAILED jobs are listed as dead letters instead, except
+  // when filtering by status.
+
+  @Query(
+      JOB_RESPONSE
+          + " WHERE j.owner = :owner AND j.status <> 'FAILED' AND j.id < :beforeId"
+          + " ORDER BY j.id DESC")
+  List<JobResponse> findPageByOwner(
+      @Param("owner") User owner, @Param("beforeId") long beforeId, Limit limit);
+
+  @Query(
+      JOB_RESPONSE
+          + " WHERE j.owner = :owner AND j.status = :status AND j.id < :beforeId"
+          + " ORDER BY j.id DESC")
+  List<JobResponse> findPageByOwnerAndStatus(
+      @Param("owner") User owner,
+      @Param("status") Status status,
+      @Param("beforeId") long beforeId,
+      Limit limit);
+
+  @Query(
+      "SELECT j FROM Job j WHERE j.nextRunTime <= :now AND j.status IN ('PENDING', 'RETRYING')"
+          + " ORDER BY j.nextRunTime")
+  List<Job> findDueJobs(@Param("now") Instant now);
+
+  @Query(
+      "SELECT j FROM Job j WHERE j.nextRunTime <= :now AND j.status IN ('PENDING', 'RETRYING')"
+          + " AND MOD(j.id, :partitionCount) IN :partitions ORDER BY j.nextRunTime")
+  List<Job> findDueJobsInPartitions(
+      @Param("now") Instant now,
+      @Param("partitionCount") int partitionCount,
+      @Param("partitions") Collection<Integer> partitions);
 
-  @Query("SELECT j FROM Job j WHERE j.nextRunTime <= :now AND j.status IN ('PENDING', 'RETRYING')")
-  List<Job> findDueJobs(@Param("now") LocalDateTime now);
+  /** Those of {@code ids} that are still due at {@code now}, read again once they are locked. */
+  @Query(
+      "SELECT j.id FROM Job j WHERE j.id IN :ids AND j.nextRunTime <= :now"
+          + " AND j.status IN ('PENDING', 'RETRYING')")
+  List<Long> findDueIdsAmong(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+  @Query(
+      "SELECT COUNT(j) FROM Job j WHERE j.status IN ('PENDING', 'RETRYING')"
+          + " AND j.nextRunTime < :before")
+  long countDueBefore(@Param("before") Instant before);
 
   @Query(
-      "SELECT j FROM Job j WHERE j.owner = :owner AND LOWER(j.name) LIKE LOWER(CONCAT('%', :query, '%'))")
-  List<Job> searchByOwnerAndQuery(@Param("owner") User owner, @Param("query") String query);
+      "SELECT MIN(j.nextRunTime) FROM Job j WHERE j.status IN ('PENDING', 'RETRYING')"
+          + " AND j.nextRunTime > :after")
+  Instant findEarliestNextRunTimeAfter(@Param("after") Instant after);
+
+  @Query(
+      "SELECT MIN(j.nextRunTime) FROM Job j WHERE j.status IN ('PENDING', 'RETRYING')"
+          + " AND j.nextRunTime > :after AND MOD(j.id, :partitionCount) IN :partitions")
+  Instant findEarliestNextRunTimeAfterInPartitions(
+      @Param("after") Instant after,
+      @Param("partitionCount") int partitionCount,
+      @Param("partitions") Collection<Integer> partitions);
+
+  @Query(
+      "SELECT new com.jobpulse.dto.others.ScheduledJobRef(j.id, j.nextRunTime) FROM Job j"
+          + " WHERE j.nextRunTime IS NOT NULL AND j.status IN ('PENDING', 'RETRYING')")
+  List<ScheduledJobRef> findScheduledJobRefs();
+
+  @Query(
+      "SELECT new com.jobpulse.dto.others.ScheduledJobRef(j.id, j.nextRunTime) FROM Job j"
+          + " WHERE j.nextRunTime <= :until AND j.status IN ('PENDING', 'RETRYING')")
+  List<ScheduledJobRef> findScheduledJobRefsUntil(@Param("until") Instant until);
+
+  @Query(
+      "SELECT new com.jobpulse.dto.others.ScheduledJobRef(j.id, j.nextRunTime) FROM Job j"
+          + " WHERE j.nextRunTime > :from AND j.nextRunTime <= :until"
+          + " AND j.status IN ('PENDING', 'RETRYING')")
+  List<ScheduledJobRef> findScheduledJobRefsBetween(
+      @Param("from") Instant from, @Param("until") Instant until);
+
+  /**
+   * Number of schedulable jobs per {@code bucketSeconds}-wide slot of next run times in {@code
+   * [from, until)}, as (slot index, count) rows ordered by slot.
+   */
+  @Query(
+      value =
+          "SELECT CAST(FLOOR(EXTRACT(EPOCH FROM (next_run_time - :from)) / :bucketSeconds)"
+              + " AS INTEGER) AS slot, COUNT(*) FROM job"
+              + " WHERE status IN ('PENDING', 'RETRYING')"
+              + " AND next_run_time >= :from AND next_run_time < :until"
+              + " GROUP BY slot ORDER BY slot",
+      nativeQuery = true)
+  List<Object[]> countScheduledPerSlot(
+      @Param("from") Instant from,
+      @Param("until") Instant until,
+      @Param("bucketSeconds") int bucketSeconds);
+
+  /**
+   * Atomically moves up to {@code limit} due jobs to CLAIMED for the given node. Rows locked by
+   * another node's claim are skipped rather than waited on, so concurrent nodes split the due set
+   * between them. Jobs whose claim lease has expired are handed back by {@link #reapExpiredLeases}.
+   *
+   * <p>The aged priority ({@code priority} minus one level per {@code agingSeconds} waited, floored
+   * at 0) is computed per row and cannot come from an index, so ranking the whole due set would
+   * read and sort all of it on every tick, however large a backlog an outage left. The {@code
+   * candidates} longest-due jobs are read in next-run-time order from idx_job_due_priority first
+   * and only those are ranked by aged priority; an urgent job further back waits until the backlog
+   * ahead of it drains below that window.
+   *
+   * @return (id, status before the claim) of the claimed jobs
+   */
+  @Query(
+      value =
+          "WITH candidates AS (SELECT id FROM job"
+              + " WHERE status IN ('PENDING', 'RETRYING') AND next_run_time <= :now"
+              + " ORDER BY next_run_time LIMIT :candidates),"
+              + " due AS (SELECT id, status FROM job"
+              + " WHERE id IN (SELECT id FROM candidates)"
+              + " AND status IN ('PENDING', 'RETRYING') AND next_run_time <= :now"
+              + " ORDER BY GREATEST(0, priority"
+              + " - FLOOR(EXTRACT(EPOCH FROM (:now - next_run_time)) / :agingSeconds)),"
+              + " next_run_time LIMIT :limit FOR UPDATE SKIP LOCKED)"
+              + " UPDATE job SET status = 'CLAIMED', claimed_by = :node,"
+              + " lease_expires_at = :leaseExpiresAt"
+              + " FROM due WHERE job.id = due.id"
+              + " RETURNING job.id, due.status",
+      nativeQuery = true)
+  List<Object[]> claimDueJobIds(
+      @Param("now") Instant now,
+      @Param("node") String node,
+      @Param("leaseExpiresAt") Instant leaseExpiresAt,
+      @Param("limit") int limit,
+      @Param("candidates") int candidates,
+      @Param("agingSeconds") long agingSeconds);
+
+  /**
+   * Starts a job popped from the Redis due queue under a lease of {@code node}, if it is still
+   * waiting to run and nobody holds it.
+   *
+   * @return 1 if the job was started, 0 otherwise
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE Job j SET j.status = com.jobpulse.model.Status.RUNNING, j.claimedBy = :node,"
+          + " j.leaseExpiresAt = :leaseExpiresAt WHERE j.id = :id"
+          + " AND j.status IN ('PENDING', 'RETRYING') AND j.claimedBy IS NULL")
+  int startIfWaiting(
+      @Param("id") long id,
+      @Param("node") String node,
+      @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+  /** Extends the lease of the given jobs while {@code node} still holds them. */
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE Job j SET j.leaseExpiresAt = :leaseExpiresAt"
+          + " WHERE j.id IN :ids AND j.claimedBy = :node")
+  int renewLeases(
+      @Param("ids") Collection<Long> ids,
+      @Param("node") String node,
+      @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+  /**
+   * Returns running or claimed jobs whose lease expired, i.e. whose node died or stopped renewing
+   * it, to PENDING or RETRYING so they are picked up again. Rows another node is writing are
+   * skipped and looked at again on the next pass.
+   *
+   * @return (id, status before the reap) of the recovered jobs
+   */
+  @Transactional
+  @Query(
+      value =
+          "WITH expired AS (SELECT id, status FROM job"
+              + " WHERE status IN ('RUNNING', 'CLAIMED') AND lease_expires_at < :now"
+              + " FOR UPDATE SKIP LOCKED)"
+              + " UPDATE job SET"
+              + " status = CASE WHEN retry_count > 0 THEN 'RETRYING' ELSE 'PENDING' END,"
+              + " claimed_by = NULL, lease_expires_at = NULL"
+              + " FROM expired WHERE job.id = expired.id"
+              + " RETURNING job.id, expired.status",
+      nativeQuery = true)
+  List<Object[]> reapExpiredLeases(@Param("now") Instant now);
+
+  /**
+   * Persists the outcome of a run made under a Redis lock, unless a holder with a newer fencing
+   * token has already written the job.
+   *
+   * @return {@code false} if the fencing token is stale and the write was rejected
+   */
+  default boolean saveOutcomeIfCurrent(Job job, long fencingToken) {
+    job.setFencingToken(fencingToken);
+    return updateOutcomeIfCurrent(
+            job.getId(),
+            job.getStatus(),
+            job.getNextRunTime(),
+            job.getRetryCount(),
+            job.getLastError(),
+            fencingToken)
+        > 0;
+  }
+
+  @Modifying
+  @Transactional
+  @Query(
+      "UPDATE Job j SET j.status = :status, j.nextRunTime = :nextRunTime,"
+          + " j.retryCount = :retryCount, j.lastError = :lastError, j.fencingToken = :fencingToken"
+          + " WHERE j.id = :id AND (j.fencingToken IS NULL OR j.fencingToken <= :fencingToken)")
+  int updateOutcomeIfCurrent(
+      @Param("id") long id,
+      @Param("status") Status status,
+      @Param("nextRunTime") Instant nextRunTime,
+      @Param("retryCount") int retryCount,
+      @Param("lastError") String lastError,
+      @Param("fencingToken") long fencingToken);
+
+  /**
+   * Persists the outcome of a run made under a claim or due-queue lease of {@code node} and drops
+   * the claim, unless the node lost it in the meantime: its lease expired and the job was reaped or
+   * claimed by another node.
+   *
+   * @return status of the job before the write; empty if the claim was lost and the write rejected
+   */
+  @Transactional
+  @Query(
+      value =
+          "WITH held AS (SELECT id, status FROM job WHERE id = :id AND claimed_by = :node"
+              + " FOR UPDATE)"
+              + " UPDATE job SET status = :status, next_run_time = :nextRunTime,"
+              + " retry_count = :retryCount, last_error = :lastError,"
+              + " claimed_by = NULL, lease_expires_at = NULL"
+              + " FROM held WHERE job.id = held.id"
+              + " RETURNING held.status",
+      nativeQuery = true)
+  List<String> updateOutcomeIfClaimed(
+      @Param("id") long id,
+      @Param("status") String status,
+      @Param("nextRunTime") Instant nextRunTime,
+      @Param("retryCount") int retryCount,
+      @Param("lastError") String lastError,
+      @Param("node") String node);
+
+  @Query(
+      JOB_RESPONSE
+          + " WHERE j.owner = :owner AND LOWER(j.name) LIKE LOWER(CONCAT('%', :query, '%'))"
+          + " AND j.status <> 'FAILED' AND j.id < :beforeId ORDER BY j.id DESC")
+  List<JobResponse> searchPageByOwnerAndQuery(
+      @Param("owner") User owner,
+      @Param("query") String query,
+      @Param("beforeId") long beforeId,
+      Limit limit);
 
   @Query(
-      "SELECT j FROM Job j WHERE j.owner = :owner AND j.createdAt >= :startDate AND j.createdAt <= :endDate")
-  List<Job> findByOwnerAndDateRange(
+      JOB_RESPONSE
+          + " WHERE j.owner = :owner AND j.createdAt >= :startDate AND j.createdAt <= :endDate"
+          + " AND j.status <> 'FAILED' AND j.id < :beforeId ORDER BY j.id DESC")
+  List<JobResponse> findPageByOwnerAndDateRange(
       @Param("owner") User owner,
       @Param("startDate") LocalDateTime startDate,
-      @Param("endDate") LocalDateTime endDate);
+      @Param("endDate") LocalDateTime endDate,
+      @Param("beforeId") long beforeId,
+      Limit limit);
 }
@@ -0,0 +1,196 @@
+package com.jobpulse.service;
+
+import com.jobpulse.config.NodeIdentity;
+import com.jobpulse.dto.response.ClusterStatusResponse;
+import com.jobpulse.util.ConsistentHashRing;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Splits scheduling work across the JobPulse nodes of a cluster, enabled with {@code
+ * jobpulse.cluster.partitioning.enabled=true}.
+ *
+ * <p>Every node heartbeats into the {@code jobpulse:nodes} sorted set (score = last heartbeat) and
+ * drops members that missed {@code jobpulse.cluster.node-ttl-ms}. Both use the Redis server clock,
+ * read with {@code TIME} in the heartbeat script, so a node whose clock is skewed neither evicts
+ * live peers nor stays listed after it died. Job ids are grouped into {@code
+ * jobpulse.cluster.partitions} buckets ({@code id % partitions}) and the buckets are assigned to
+ * the live nodes with a {@link ConsistentHashRing}, so each node only queries and locks the due
+ * jobs of its own buckets. When a node joins or leaves, the next heartbeat on every node rebuilds
+ * the ring and only the buckets of that node move. During the hand-over two nodes may briefly both
+ * own a bucket; the per-job Redis lock keeps that from running a job twice.
+ */
+@Service
+@Slf4j
+public class ClusterMembership {
+
+  static final String NODES_KEY = "jobpulse:nodes";
+
+  // Scores and evicts with the server time; TIME before writes needs effect replication, the
+  // default since Redis 5
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> HEARTBEAT_SCRIPT =
+      new DefaultRedisScript<>(
+          "local time = redis.call('TIME')\n"
+              + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)\n"
+              + "redis.call('ZADD', KEYS[1], now, ARGV[1])\n"
+              + "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - tonumber(ARGV[2]))\n"
+              + "return redis.call('ZRANGE', KEYS[1], 0, -1)",
+          List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final NodeIdentity nodeIdentity;
+
+  @Value("${jobpulse.cluster.partitioning.enabled:false}")
+  private boolean enabled;
+
+  @Value("${jobpulse.cluster.partitions:256}")
+  private int partitions;
+
+  @Value("${jobpulse.cluster.virtual-nodes:64}")
+  private int virtualNodes;
+
+  @Value("${jobpulse.cluster.node-ttl-ms:15000}")
+  private long nodeTtlMillis;
+
+  private volatile Assignment assignment;
+
+  public ClusterMembership(RedisTemplate<String, String> redisTemplate, NodeIdentity nodeIdentity) {
+    this.redisTemplate = redisTemplate;
+    this.nodeIdentity = nodeIdentity;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public int partitionCount() {
+    return partitions;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${jobpulse.cluster.heartbeat-interval-ms:5000}")
+  public void heartbeat() {
+    if (!enabled) return;
+
+    List<String> members;
+    try {
+      members =
+          redisTemplate.execute(
+              HEARTBEAT_SCRIPT,
+              List.of(NODES_KEY),
+              nodeIdentity.getNodeId(),
+              String.valueOf(nodeTtlMillis));
+    } catch (DataAccessException e) {
+      log.warn("Cluster heartbeat failed, keeping the current assignment: {}", e.getMessage());
+      return;
+    }
+    if (members == null || members.isEmpty()) {
+      return;
+    }
+
+    Set<String> nodes = new TreeSet<>(members);
+    Assignment current = assignment;
+    if (current == null || !current.nodes().equals(nodes)) {
+      assignment = assign(nodes);
+      log.info(
+          "Cluster membership changed to {} nodes, this node owns {} of {} partitions",
+          nodes.size(),
+          assignment.owned().size(),
+          partitions);
+    }
+  }
+
+  /**
+   * Partitions this node schedules, or {@code null} while partitioning is off or membership is not
+   * known yet, in which case the node falls back to scanning every job.
+   */
+  public List<Integer> ownedPartitions() {
+    Assignment current = assignment;
+    return enabled && current != null ? current.owned() : null;
+  }
+
+  public boolean owns(long jobId) {
+    Assignment current = assignment;
+    return !enabled
+        || current == null
+        || current.ownedBits().get((int) Math.floorMod(jobId, (long) partitions));
+  }
+
+  /** Which node owns which partition ranges, as seen by this node. */
+  public ClusterStatusResponse status() {
+    Assignment current = assignment;
+    Map<String, List<String>> ranges = new LinkedHashMap<>();
+    if (current != null) {
+      current.owners().forEach((node, owned) -> ranges.put(node, toRanges(owned)));
+    }
+    return ClusterStatusResponse.builder()
+        .enabled(enabled)
+        .nodeId(nodeIdentity.getNodeId())
+        .partitionCount(partitions)
+        .partitionRanges(ranges)
+        .build();
+  }
+
+  @PreDestroy
+  public void leave() {
+    if (!enabled) return;
+    try {
+      // Lets the other nodes take over our partitions on their next heartbeat instead of after
+      // the TTL
+      redisTemplate.opsForZSet().remove(NODES_KEY, nodeIdentity.getNodeId());
+    } catch (DataAccessException e) {
+      log.warn("Could not leave the cluster cleanly: {}", e.getMessage());
+    }
+  }
+
+  private Assignment assign(Set<String> nodes) {
+    ConsistentHashRing ring = new ConsistentHashRing(nodes, virtualNodes);
+    Map<String, List<Integer>> owners = new LinkedHashMap<>();
+    nodes.forEach(node -> owners.put(node, new ArrayList<>()));
+    for (int partition = 0; partition < partitions; partition++) {
+      owners.get(ring.ownerOf(partition)).add(partition);
+    }
+    List<Integer> owned = List.copyOf(owners.getOrDefault(nodeIdentity.getNodeId(), List.of()));
+    BitSet ownedBits = new BitSet(partitions);
+    owned.forEach(ownedBits::set);
+    return new Assignment(nodes, owners, owned, ownedBits);
+  }
+
+  static List<String> toRanges(List<Integer> partitions) {
+    List<String> ranges = new ArrayList<>();
+    int i = 0;
+    while (i < partitions.size()) {
+      int start = partitions.get(i);
+      int end = start;
+      while (i + 1 < partitions.size() && partitions.get(i + 1) == end + 1) {
+        end = partitions.get(++i);
+      }
+      ranges.add(start == end ? String.valueOf(start) : start + "-" + end);
+      i++;
+    }
+    return ranges;
+  }
+
+  private record Assignment(
+      Set<String> nodes,
+      Map<String, List<Integer>> owners,
+      List<Integer> owned,
+      BitSet ownedBits) {}
+}
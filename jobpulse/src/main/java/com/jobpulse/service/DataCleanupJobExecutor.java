@@ -24,6 +24,11 @@ public class DataCleanupJobExecutor implements JobExecutor {
 
   @Override
   public void execute(Job job) {
+    execute(job, JobExecution.unbounded(job.getId()));
+  }
+
+  @Override
+  public void execute(Job job, JobExecution execution) {
     try {
       JsonNode payload = mapper.readTree(job.getPayload());
       validatePayload(payload);
@@ -31,9 +36,9 @@ public class DataCleanupJobExecutor implements JobExecutor {
       String action = payload.get("action").asText();
 
       switch (action.toLowerCase()) {
-        case "delete_old_records" -> deleteOldRecords(payload);
-        case "truncate_table" -> truncateTable(payload);
-        case "archive_data" -> archiveData(payload);
+        case "delete_old_records" -> deleteOldRecords(payload, execution);
+        case "truncate_table" -> truncateTable(payload, execution);
+        case "archive_data" -> archiveData(payload, execution);
         default ->
             throw new NonRetryableJobException(
                 JobFailureReason.INVALID_CONFIG, "Unknown cleanup action: " + action);
@@ -57,7 +62,7 @@ public class DataCleanupJobExecutor implements JobExecutor {
     }
   }
 
-  private void deleteOldRecords(JsonNode payload) {
+  private void deleteOldRecords(JsonNode payload, JobExecution execution) {
     try {
       if (payload.get("tableName") == null || payload.get("tableName").asText().isBlank()) {
         throw new NonRetryableJobException(
@@ -74,7 +79,7 @@ public class DataCleanupJobExecutor implements JobExecutor {
               "DELETE FROM %s WHERE %s < NOW() - INTERVAL '%d days'",
               sanitizeTableName(tableName), sanitizeColumnName(dateColumn), daysOld);
 
-      int deletedRows = entityManager.createNativeQuery(query).executeUpdate();
+      int deletedRows = execution.bound(entityManager.createNativeQuery(query)).executeUpdate();
       log.info("Deleted {} old records from table {}", deletedRows, tableName);
 
     } catch (Exception e) {
@@ -84,7 +89,7 @@ public class DataCleanupJobExecutor implements JobExecutor {
     }
   }
 
-  private void truncateTable(JsonNode payload) {
+  private void truncateTable(JsonNode payload, JobExecution execution) {
     try {
       if (payload.get("tableName") == null || payload.get("tableName").asText().isBlank()) {
         throw new NonRetryableJobException(
@@ -94,7 +99,7 @@ public class DataCleanupJobExecutor implements JobExecutor {
       String tableName = payload.get("tableName").asText();
       String query = String.format("TRUNCATE TABLE %s", sanitizeTableName(tableName));
 
-      entityManager.createNativeQuery(query).executeUpdate();
+      execution.bound(entityManager.createNativeQuery(query)).executeUpdate();
       log.info("Truncated table: {}", tableName);
 
     } catch (Exception e) {
@@ -104,7 +109,7 @@ public class DataCleanupJobExecutor implements JobExecutor {
     }
   }
 
-  private void archiveData(JsonNode payload) {
+  private void archiveData(JsonNode payload, JobExecution execution) {
     try {
       if (payload.get("sourceTable") == null || payload.get("sourceTable").asText().isBlank()) {
         throw new NonRetryableJobException(
@@ -130,7 +135,7 @@ public class DataCleanupJobExecutor implements JobExecutor {
               sanitizeColumnName(dateColumn),
               daysOld);
 
-      entityManager.createNativeQuery(insertQuery).executeUpdate();
+      execution.bound(entityManager.createNativeQuery(insertQuery)).executeUpdate();
 
       // Delete archived records from source
       String deleteQuery =
@@ -138,7 +143,8 @@ public class DataCleanupJobExecutor implements JobExecutor {
               "DELETE FROM %s WHERE %s < NOW() - INTERVAL '%d days'",
               sanitizeTableName(sourceTable), sanitizeColumnName(dateColumn), daysOld);
 
-      int archivedRows = entityManager.createNativeQuery(deleteQuery).executeUpdate();
+      int archivedRows =
+          execution.bound(entityManager.createNativeQuery(deleteQuery)).executeUpdate();
       log.info("Archived {} records to {}", archivedRows, archiveTable);
 
     } catch (Exception e) {
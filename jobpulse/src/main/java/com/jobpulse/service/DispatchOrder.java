@@ -0,0 +1,61 @@
+package com.jobpulse.service;
+
+import com.jobpulse.model.Job;
+import com.jobpulse.util.FairShare;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Order in which due jobs are handed to the dispatcher: by effective priority, then round-robin
+ * across owners within each priority level, then by next run time.
+ *
+ * <p>The effective priority starts at {@link Job#getPriority()} (0 is the most urgent) and improves
+ * by one level for every {@code agingSeconds} the job has been waiting past its next run time, so
+ * low-priority jobs still make progress while more urgent work keeps arriving. The skip-locked
+ * claim query applies the same formula in SQL.
+ */
+final class DispatchOrder {
+
+  private DispatchOrder() {}
+
+  static List<Job> order(List<Job> jobs, Instant now, long agingSeconds) {
+    Map<Integer, List<Job>> levels = new TreeMap<>();
+    jobs.stream()
+        .sorted(
+            Comparator.comparing(
+                Job::getNextRunTime, Comparator.nullsLast(Comparator.naturalOrder())))
+        .forEach(
+            job ->
+                levels
+                    .computeIfAbsent(
+                        effectivePriority(job, now, agingSeconds), level -> new ArrayList<>())
+                    .add(job));
+
+    List<Job> ordered = new ArrayList<>(jobs.size());
+    levels
+        .values()
+        .forEach(level -> ordered.addAll(FairShare.roundRobin(level, DispatchOrder::ownerId)));
+    return ordered;
+  }
+
+  /**
+   * @param agingSeconds waiting time that buys one priority level, 0 or less disables aging
+   */
+  static int effectivePriority(Job job, Instant now, long agingSeconds) {
+    if (agingSeconds <= 0 || job.getNextRunTime() == null || !job.getNextRunTime().isBefore(now)) {
+      return job.getPriority();
+    }
+    long waited = Duration.between(job.getNextRunTime(), now).toSeconds();
+    return (int) Math.max(0, job.getPriority() - waited / agingSeconds);
+  }
+
+  static UUID ownerId(Job job) {
+    return job.getOwner() != null ? job.getOwner().getId() : null;
+  }
+}
@@ -10,6 +10,7 @@ import com.jobpulse.exception.RetryableJobException;
 import com.jobpulse.model.Job;
 import com.jobpulse.model.User;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,11 +29,18 @@ public class EmailJobExecutor implements JobExecutor {
 
   @Autowired private WebClient webClient;
 
+  private static final Duration SEND_TIMEOUT = Duration.ofSeconds(60);
+
   private static final String GMAIL_SEND_URL =
       "https://gmail.googleapis.com/gmail/v1/users/me/messages/send";
 
   @Override
   public void execute(Job job) {
+    execute(job, JobExecution.unbounded(job.getId()));
+  }
+
+  @Override
+  public void execute(Job job, JobExecution execution) {
     try {
       JsonNode payload = mapper.readTree(job.getPayload());
       validateEmailPayload(payload);
@@ -45,7 +53,7 @@ public class EmailJobExecutor implements JobExecutor {
             "No Gmail account connected. Sign in with Google to connect your Gmail for sending emails.");
       }
 
-      sendViaGmailApi(job, payload, owner);
+      sendViaGmailApi(job, payload, owner, execution);
       log.info("Email job executed successfully: {}", job.getName());
 
     } catch (NonRetryableJobException | RetryableJobException e) {
@@ -63,9 +71,10 @@ public class EmailJobExecutor implements JobExecutor {
     return gmailOAuthService.getConnectionStatus(user).connected();
   }
 
-  private void sendViaGmailApi(Job job, JsonNode payload, User owner) {
+  private void sendViaGmailApi(Job job, JsonNode payload, User owner, JobExecution execution) {
     try {
       String accessToken = gmailOAuthService.getValidAccessToken(owner);
+      execution.checkpoint();
       String rawEmail = buildRfc2822Message(payload, owner);
       String base64Url =
           Base64.getUrlEncoder()
@@ -83,7 +92,7 @@ public class EmailJobExecutor implements JobExecutor {
               .bodyValue(requestBody)
               .retrieve()
               .bodyToMono(String.class)
-              .block();
+              .block(execution.remainingOr(SEND_TIMEOUT));
 
       log.debug("Gmail API response: {}", response);
       log.info(
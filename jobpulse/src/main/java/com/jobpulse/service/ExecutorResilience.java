@@ -0,0 +1,273 @@
+package com.jobpulse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.exception.JobDeferredException;
+import com.jobpulse.exception.NonRetryableJobException;
+import com.jobpulse.model.Job;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Guards executors with a circuit breaker, a rate limiter and a bulkhead per {@link JobType} and,
+ * for HTTP jobs, per configured downstream host, so one failing or slow dependency cannot drain
+ * every retry or worker. Off unless {@code jobpulse.resilience.enabled} is set.
+ *
+ * <p>Every guard is keyed {@code type:<job-type>} or {@code host:<host>} and configured from {@code
+ * jobpulse.resilience.<job-type>.*} or {@code jobpulse.resilience.host.<host>.*}, falling back to
+ * the matching {@code jobpulse.resilience.default-*} property. Hosts get guards of their own only
+ * when at least one {@code jobpulse.resilience.host.<host>.*} property is set; the URLs come from
+ * job payloads, so any other host is only covered by the {@code type:http-call} guard, which keeps
+ * the number of breakers and meters bounded by the configuration:
+ *
+ * <ul>
+ *   <li>{@code failure-rate-threshold}, {@code sliding-window-size}, {@code minimum-calls}, {@code
+ *       wait-in-open-seconds}: circuit breaker over retryable failures.
+ *   <li>{@code limit-per-second}: rate limiter, 0 disables it.
+ *   <li>{@code max-concurrent}: bulkhead, 0 disables it.
+ * </ul>
+ *
+ * A job turned away by any guard fails with {@link JobDeferredException} and is rescheduled without
+ * using up a retry. Breaker and limiter state is exported through the resilience4j Micrometer
+ * binders; rejections are counted in {@code jobpulse.executor.rejected}.
+ */
+@Component
+@Slf4j
+public class ExecutorResilience {
+
+  private static final String PREFIX = "jobpulse.resilience.";
+  private static final Duration BULKHEAD_RETRY = Duration.ofSeconds(1);
+  private static final List<String> KEYS =
+      List.of(
+          "failure-rate-threshold",
+          "sliding-window-size",
+          "minimum-calls",
+          "wait-in-open-seconds",
+          "limit-per-second",
+          "max-concurrent");
+
+  private final Environment environment;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+  private final RateLimiterRegistry rateLimiters = RateLimiterRegistry.ofDefaults();
+  private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+  public ExecutorResilience(
+      Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.environment = environment;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.enabled = environment.getProperty(PREFIX + "enabled", Boolean.class, false);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+    TaggedRateLimiterMetrics.ofRateLimiterRegistry(rateLimiters).bindTo(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Wraps the executor of a job type, or returns it unchanged when resilience is disabled. */
+  public JobExecutor decorate(JobType type, JobExecutor executor) {
+    if (!enabled || executor == null) {
+      return executor;
+    }
+    return new JobExecutor() {
+      @Override
+      public void execute(Job job) throws Exception {
+        guard(type, executor, job, null);
+      }
+
+      @Override
+      public void execute(Job job, JobExecution execution) throws Exception {
+        guard(type, executor, job, execution);
+      }
+    };
+  }
+
+  CircuitBreaker circuitBreaker(String name) {
+    return circuitBreakers.circuitBreaker(name, () -> circuitBreakerConfig(name));
+  }
+
+  private void guard(JobType type, JobExecutor executor, Job job, JobExecution execution)
+      throws Exception {
+    List<String> names = new ArrayList<>(2);
+    names.add("type:" + propertyKey(type));
+    String host = type == JobType.HTTP_CALL ? hostOf(job) : null;
+    if (host != null && isConfigured(host)) {
+      names.add("host:" + host);
+    }
+
+    List<CircuitBreaker> breakers = new ArrayList<>(names.size());
+    List<Semaphore> acquired = new ArrayList<>(names.size());
+    try {
+      for (String name : names) {
+        CircuitBreaker breaker = circuitBreaker(name);
+        if (!breaker.tryAcquirePermission()) {
+          throw reject(job, name, "circuit_open", waitInOpen(name));
+        }
+        breakers.add(breaker);
+      }
+      // Bulkhead slots can be handed back, rate limiter permits cannot: take the limiters last
+      for (String name : names) {
+        Semaphore bulkhead = bulkhead(name);
+        if (bulkhead != null) {
+          if (!bulkhead.tryAcquire()) {
+            throw reject(job, name, "bulkhead_full", BULKHEAD_RETRY);
+          }
+          acquired.add(bulkhead);
+        }
+      }
+      for (String name : names) {
+        RateLimiter limiter = rateLimiter(name);
+        if (limiter != null && !limiter.acquirePermission()) {
+          throw reject(
+              job, name, "rate_limited", limiter.getRateLimiterConfig().getLimitRefreshPeriod());
+        }
+      }
+    } catch (JobDeferredException e) {
+      breakers.forEach(CircuitBreaker::releasePermission);
+      acquired.forEach(Semaphore::release);
+      throw e;
+    }
+
+    long start = System.nanoTime();
+    try {
+      if (execution != null) {
+        executor.execute(job, execution);
+      } else {
+        executor.execute(job);
+      }
+      long elapsed = System.nanoTime() - start;
+      breakers.forEach(breaker -> breaker.onSuccess(elapsed, TimeUnit.NANOSECONDS));
+    } catch (NonRetryableJobException e) {
+      // The dependency answered; a bad request or payload says nothing about its health
+      long elapsed = System.nanoTime() - start;
+      breakers.forEach(breaker -> breaker.onSuccess(elapsed, TimeUnit.NANOSECONDS));
+      throw e;
+    } catch (Exception e) {
+      long elapsed = System.nanoTime() - start;
+      if (execution != null
+          && execution.isCancelled()
+          && execution.getCancelReason() != JobExecution.CancelReason.TIMEOUT) {
+        // Stopped by a user or by shutdown, not by the dependency
+        breakers.forEach(CircuitBreaker::releasePermission);
+      } else {
+        breakers.forEach(breaker -> breaker.onError(elapsed, TimeUnit.NANOSECONDS, e));
+      }
+      throw e;
+    } finally {
+      acquired.forEach(Semaphore::release);
+    }
+  }
+
+  private JobDeferredException reject(Job job, String name, String kind, Duration delay) {
+    Counter.builder("jobpulse.executor.rejected")
+        .description("Job runs turned away by a circuit breaker, rate limiter or bulkhead")
+        .tag("name", name)
+        .tag("kind", kind)
+        .register(meterRegistry)
+        .increment();
+    log.info(
+        "Deferring job {} (ID: {}) by {}: {} on {}", job.getName(), job.getId(), delay, kind, name);
+    return new JobDeferredException(kind + " on " + name, delay);
+  }
+
+  private CircuitBreakerConfig circuitBreakerConfig(String name) {
+    return CircuitBreakerConfig.custom()
+        .failureRateThreshold(property(name, "failure-rate-threshold", Float.class, 50f))
+        .slidingWindowSize(property(name, "sliding-window-size", Integer.class, 20))
+        .minimumNumberOfCalls(property(name, "minimum-calls", Integer.class, 10))
+        .waitDurationInOpenState(waitInOpen(name))
+        .automaticTransitionFromOpenToHalfOpenEnabled(false)
+        .build();
+  }
+
+  private Duration waitInOpen(String name) {
+    return Duration.ofSeconds(property(name, "wait-in-open-seconds", Long.class, 30L));
+  }
+
+  private RateLimiter rateLimiter(String name) {
+    int limit = property(name, "limit-per-second", Integer.class, 0);
+    if (limit <= 0) {
+      return null;
+    }
+    return rateLimiters.rateLimiter(
+        name,
+        () ->
+            RateLimiterConfig.custom()
+                .limitForPeriod(limit)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+  }
+
+  private Semaphore bulkhead(String name) {
+    int maxConcurrent = property(name, "max-concurrent", Integer.class, 0);
+    if (maxConcurrent <= 0) {
+      return null;
+    }
+    return bulkheads.computeIfAbsent(
+        name,
+        key -> {
+          Semaphore semaphore = new Semaphore(maxConcurrent);
+          Gauge.builder(
+                  "jobpulse.executor.bulkhead.available", semaphore, Semaphore::availablePermits)
+              .description("Free slots in the bulkhead")
+              .tag("name", key)
+              .register(meterRegistry);
+          return semaphore;
+        });
+  }
+
+  private <T> T property(String name, String key, Class<T> type, T fallback) {
+    T defaultValue = environment.getProperty(PREFIX + "default-" + key, type, fallback);
+    String scoped = name.startsWith("host:") ? "host." + name.substring(5) : name.substring(5);
+    return environment.getProperty(PREFIX + scoped + "." + key, type, defaultValue);
+  }
+
+  private boolean isConfigured(String host) {
+    return KEYS.stream()
+        .anyMatch(key -> environment.containsProperty(PREFIX + "host." + host + "." + key));
+  }
+
+  private String hostOf(Job job) {
+    if (job.getPayload() == null) {
+      return null;
+    }
+    try {
+      String url = objectMapper.readTree(job.getPayload()).path("url").asText(null);
+      String host = url != null ? URI.create(url).getHost() : null;
+      return host != null ? host.toLowerCase(Locale.ROOT) : null;
+    } catch (Exception e) {
+      // Invalid payloads are rejected by the executor itself
+      return null;
+    }
+  }
+
+  private static String propertyKey(JobType type) {
+    return type.name().toLowerCase().replace('_', '-');
+  }
+}
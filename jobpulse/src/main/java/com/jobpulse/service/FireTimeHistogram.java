@@ -0,0 +1,85 @@
+package com.jobpulse.service;
+
+import com.jobpulse.dto.response.FireTimeHistogramResponse;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.repository.JobRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Shows how evenly scheduled fire times are spread, to check that spreading (see {@code
+ * ScheduleDTO.spreadSeconds}) flattens the spikes of jobs sharing an expression.
+ *
+ * <p>Every (re)scheduled fire time is recorded by its second within the minute in the {@code
+ * jobpulse.scheduler.fire.second-of-minute} histogram; {@link #snapshot} counts the upcoming fire
+ * times per bucket straight from the job table.
+ */
+@Service
+public class FireTimeHistogram {
+
+  static final int MAX_BUCKETS = 3600;
+
+  private final JobRepository jobRepository;
+  private final DistributionSummary secondOfMinute;
+
+  public FireTimeHistogram(JobRepository jobRepository, MeterRegistry meterRegistry) {
+    this.jobRepository = jobRepository;
+    this.secondOfMinute =
+        DistributionSummary.builder("jobpulse.scheduler.fire.second-of-minute")
+            .description("Second within the minute at which jobs are scheduled to fire")
+            .serviceLevelObjectives(5, 10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60)
+            .register(meterRegistry);
+  }
+
+  @EventListener
+  public void onScheduleChanged(JobScheduleChangedEvent event) {
+    if (event.isSchedulable()) {
+      secondOfMinute.record(Math.floorMod(event.nextRunTime().getEpochSecond(), 60));
+    }
+  }
+
+  /**
+   * Counts the jobs due in each {@code bucketSeconds} slot over the next {@code horizonSeconds}.
+   *
+   * @throws IllegalArgumentException if the bucket is not positive or there would be more than
+   *     {@value #MAX_BUCKETS} buckets
+   */
+  public FireTimeHistogramResponse snapshot(long horizonSeconds, int bucketSeconds) {
+    if (bucketSeconds <= 0 || horizonSeconds <= 0) {
+      throw new IllegalArgumentException("Horizon and bucket size must be positive");
+    }
+    int buckets =
+        (int) Math.min(Integer.MAX_VALUE, (horizonSeconds + bucketSeconds - 1) / bucketSeconds);
+    if (buckets > MAX_BUCKETS) {
+      throw new IllegalArgumentException("At most " + MAX_BUCKETS + " buckets are supported");
+    }
+
+    Instant from = Instant.now();
+    List<Long> counts = new ArrayList<>(Collections.nCopies(buckets, 0L));
+    for (Object[] row :
+        jobRepository.countScheduledPerSlot(
+            from, from.plusSeconds((long) buckets * bucketSeconds), bucketSeconds)) {
+      int slot = ((Number) row[0]).intValue();
+      if (slot >= 0 && slot < buckets) {
+        counts.set(slot, ((Number) row[1]).longValue());
+      }
+    }
+
+    long total = counts.stream().mapToLong(Long::longValue).sum();
+    long peak = counts.stream().mapToLong(Long::longValue).max().orElse(0);
+    return FireTimeHistogramResponse.builder()
+        .from(from)
+        .bucketSeconds(bucketSeconds)
+        .counts(counts)
+        .total(total)
+        .peak(peak)
+        .peakToMean(total == 0 ? 0 : (double) peak * buckets / total)
+        .build();
+  }
+}
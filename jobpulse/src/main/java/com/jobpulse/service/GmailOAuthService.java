@@ -7,6 +7,7 @@ import com.jobpulse.exception.BadRequestException;
 import com.jobpulse.model.GmailToken;
 import com.jobpulse.model.User;
 import com.jobpulse.repository.GmailTokenRepository;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +37,9 @@ public class GmailOAuthService {
   @Value("${gmail.oauth.redirect-uri}")
   private String redirectUri;
 
+  // Token refreshes run inside email jobs; an unbounded wait would hold the worker forever
+  private static final Duration GOOGLE_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
   private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
   private static final String GOOGLE_USERINFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
   private static final String GOOGLE_AUTH_URL = "https://accounts.google.com/o/oauth2/v2/auth";
@@ -160,7 +164,7 @@ public class GmailOAuthService {
                     .uri("https://oauth2.googleapis.com/revoke?token=" + accessToken)
                     .retrieve()
                     .toBodilessEntity()
-                    .block();
+                    .block(GOOGLE_REQUEST_TIMEOUT);
               } catch (Exception e) {
                 log.warn("Failed to revoke token at Google: {}", e.getMessage());
               }
@@ -189,7 +193,7 @@ public class GmailOAuthService {
               .bodyValue(body)
               .retrieve()
               .bodyToMono(String.class)
-              .block();
+              .block(GOOGLE_REQUEST_TIMEOUT);
 
       JsonNode json = objectMapper.readTree(response);
 
@@ -227,7 +231,7 @@ public class GmailOAuthService {
               .bodyValue(body)
               .retrieve()
               .bodyToMono(String.class)
-              .block();
+              .block(GOOGLE_REQUEST_TIMEOUT);
 
       JsonNode json = objectMapper.readTree(response);
 
@@ -268,7 +272,7 @@ public class GmailOAuthService {
               .header("Authorization", "Bearer " + accessToken)
               .retrieve()
               .bodyToMono(String.class)
-              .block();
+              .block(GOOGLE_REQUEST_TIMEOUT);
 
       JsonNode json = objectMapper.readTree(response);
       return json.get("email").asText();
@@ -9,8 +9,13 @@ import com.jobpulse.exception.NonRetryableJobException;
 import com.jobpulse.exception.RetryableJobException;
 import com.jobpulse.model.Job;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
@@ -30,6 +35,11 @@ public class HttpJobExecutor implements JobExecutor {
 
   @Override
   public void execute(Job job) throws Exception {
+    execute(job, JobExecution.unbounded(job.getId()));
+  }
+
+  @Override
+  public void execute(Job job, JobExecution execution) throws Exception {
     log.info("Executing HTTP job: {} (ID: {})", job.getName(), job.getId());
 
     HttpJobPayload payload = parsePayload(job.getPayload());
@@ -56,7 +66,7 @@ public class HttpJobExecutor implements JobExecutor {
           .onStatus(HttpStatusCode::is5xxServerError, ClientResponse::createException)
           .onStatus(HttpStatusCode::is4xxClientError, ClientResponse::createException)
           .toBodilessEntity()
-          .block(Duration.ofSeconds(timeoutSeconds));
+          .block(execution.remainingOr(Duration.ofSeconds(timeoutSeconds)));
 
       log.info("HTTP job executed successfully: {}", job.getName());
 
@@ -108,11 +118,12 @@ public class HttpJobExecutor implements JobExecutor {
       throw new RetryableJobException(
           JobFailureReason.REMOTE_5XX,
           "Remote server error (HTTP " + status + "): " + e.getStatusText(),
-          e);
+          e,
+          status == 503 ? retryAfter(e) : null);
     } else if (status == 429) {
       log.warn("Rate limited (HTTP 429) in job");
       throw new RetryableJobException(
-          JobFailureReason.RATE_LIMITED, "Rate limited by remote server", e);
+          JobFailureReason.RATE_LIMITED, "Rate limited by remote server", e, retryAfter(e));
     } else if (status == 401 || status == 403) {
       log.error("Authentication/Authorization error (HTTP {})", status);
       throw new NonRetryableJobException(
@@ -127,4 +138,32 @@ public class HttpJobExecutor implements JobExecutor {
           e);
     }
   }
+
+  private static Duration retryAfter(WebClientResponseException e) {
+    return parseRetryAfter(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER), Instant.now());
+  }
+
+  /**
+   * Parses a {@code Retry-After} value, either delay-seconds or an HTTP date.
+   *
+   * @return the wait from {@code now}, or {@code null} if the header is missing or malformed
+   */
+  static Duration parseRetryAfter(String value, Instant now) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    String trimmed = value.trim();
+    try {
+      long seconds = Long.parseLong(trimmed);
+      return seconds >= 0 ? Duration.ofSeconds(seconds) : null;
+    } catch (NumberFormatException notSeconds) {
+      try {
+        Instant at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        return at.isAfter(now) ? Duration.between(now, at) : Duration.ZERO;
+      } catch (DateTimeParseException notDate) {
+        log.warn("Ignoring malformed Retry-After header: {}", value);
+        return null;
+      }
+    }
+  }
 }
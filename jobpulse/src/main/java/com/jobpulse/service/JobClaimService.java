@@ -0,0 +1,231 @@
+package com.jobpulse.service;
+
+import com.jobpulse.config.NodeIdentity;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.model.Job;
+import com.jobpulse.model.Status;
+import com.jobpulse.repository.JobRepository;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Database-native alternative to the per-job Redis lock. Enabled with {@code
+ * jobpulse.scheduler.claim-strategy=skip-locked}; each node then claims a batch of due rows with
+ * {@code FOR UPDATE SKIP LOCKED} and never reads or locks the rows another node is working on.
+ * Claims are taken in order of aged priority, then next run time (see {@link DispatchOrder}), among
+ * the {@code jobpulse.scheduler.claim.candidate-factor} times {@code batch-size} longest-due jobs.
+ *
+ * <p>Claimed jobs, and jobs the Redis due queue marks {@code RUNNING}, carry a lease of {@code
+ * jobpulse.scheduler.claim.lease-seconds} that is renewed every {@code
+ * jobpulse.scheduler.claim.renew-interval-ms} from the claim until the outcome is written,
+ * including while the job waits in a dispatcher queue. Every {@code
+ * jobpulse.scheduler.reaper.interval-ms} each node hands jobs whose lease expired, because their
+ * node died mid-run, back to the queue. Should a lease expire anyway (a long GC pause, a lost
+ * database connection), the job may be taken over by another node; the original node then checks
+ * its claim before running the job ({@link #confirm}) and only writes the outcome while it still
+ * holds it ({@link #saveOutcome}).
+ */
+@Service
+@Slf4j
+public class JobClaimService {
+
+  public static final String SKIP_LOCKED = "skip-locked";
+
+  private final JobRepository jobRepository;
+  private final NodeIdentity nodeIdentity;
+  private final RunningJobs runningJobs;
+  private final ApplicationEventPublisher eventPublisher;
+  private final JobStatsCache statsCache;
+
+  // Jobs this node claimed or leased whose outcome is not written yet, queued or running
+  private final Set<Long> held = ConcurrentHashMap.newKeySet();
+
+  @Value("${jobpulse.scheduler.claim-strategy:redis-lock}")
+  private String claimStrategy;
+
+  @Value("${jobpulse.scheduler.claim.batch-size:100}")
+  private int batchSize;
+
+  // How many of the longest-due jobs a claim ranks by aged priority, as a multiple of batch-size
+  @Value("${jobpulse.scheduler.claim.candidate-factor:4}")
+  private int candidateFactor;
+
+  @Value("${jobpulse.scheduler.claim.lease-seconds:600}")
+  private long leaseSeconds;
+
+  @Value("${jobpulse.scheduler.priority.aging-seconds:60}")
+  private long priorityAgingSeconds;
+
+  public JobClaimService(
+      JobRepository jobRepository,
+      NodeIdentity nodeIdentity,
+      RunningJobs runningJobs,
+      ApplicationEventPublisher eventPublisher,
+      JobStatsCache statsCache) {
+    this.jobRepository = jobRepository;
+    this.nodeIdentity = nodeIdentity;
+    this.runningJobs = runningJobs;
+    this.eventPublisher = eventPublisher;
+    this.statsCache = statsCache;
+  }
+
+  public boolean isEnabled() {
+    return SKIP_LOCKED.equalsIgnoreCase(claimStrategy);
+  }
+
+  @Transactional
+  public List<Job> claimDueJobs(Instant now) {
+    Map<Long, Status> claimed =
+        previousStatuses(
+            jobRepository.claimDueJobIds(
+                now,
+                nodeIdentity.getNodeId(),
+                now.plusSeconds(leaseSeconds),
+                batchSize,
+                batchSize * Math.max(1, candidateFactor),
+                // A divisor no wait can reach turns aging off
+                priorityAgingSeconds > 0 ? priorityAgingSeconds : Long.MAX_VALUE));
+    if (claimed.isEmpty()) {
+      return List.of();
+    }
+    log.debug("Node {} claimed {} jobs", nodeIdentity.getNodeId(), claimed.size());
+    held.addAll(claimed.keySet());
+    List<Job> jobs = jobRepository.findAllById(claimed.keySet());
+    jobs.forEach(job -> countTransition(job, claimed.get(job.getId())));
+    return jobs;
+  }
+
+  /**
+   * Marks a job popped from the Redis due queue {@code RUNNING} under a lease of this node, unless
+   * it is no longer waiting to run: a reconcile can re-add a member that was popped but not yet
+   * started, and the node popping it again must not start it a second time.
+   *
+   * @return {@code false} if the job was started elsewhere or changed since it was read
+   */
+  public boolean startQueued(Job job, Instant now) {
+    Instant leaseExpiresAt = now.plusSeconds(leaseSeconds);
+    if (jobRepository.startIfWaiting(job.getId(), nodeIdentity.getNodeId(), leaseExpiresAt)
+        == 0) {
+      return false;
+    }
+    Status previous = job.getStatus();
+    job.setStatus(Status.RUNNING);
+    job.setClaimedBy(nodeIdentity.getNodeId());
+    job.setLeaseExpiresAt(leaseExpiresAt);
+    held.add(job.getId());
+    countTransition(job, previous);
+    return true;
+  }
+
+  /**
+   * Keeps the leases of the jobs this node claimed or leased from expiring under them, whether they
+   * are running or still waiting for a worker.
+   */
+  @Scheduled(fixedDelayString = "${jobpulse.scheduler.claim.renew-interval-ms:60000}")
+  public void renewLeases() {
+    Set<Long> ids = new HashSet<>(held);
+    ids.addAll(runningJobs.runningJobIds());
+    if (ids.isEmpty()) return;
+    jobRepository.renewLeases(
+        ids, nodeIdentity.getNodeId(), Instant.now().plusSeconds(leaseSeconds));
+  }
+
+  /**
+   * Extends the lease of a claimed or leased job about to run.
+   *
+   * @return {@code false} if this node lost the job while it waited for a worker; it must not run
+   */
+  public boolean confirm(Job job, Instant now) {
+    Instant leaseExpiresAt = now.plusSeconds(leaseSeconds);
+    if (jobRepository.renewLeases(List.of(job.getId()), nodeIdentity.getNodeId(), leaseExpiresAt)
+        == 0) {
+      held.remove(job.getId());
+      return false;
+    }
+    job.setLeaseExpiresAt(leaseExpiresAt);
+    return true;
+  }
+
+  /**
+   * Persists the outcome of a run of a job this node claimed or leased and gives up the claim.
+   *
+   * @return {@code false} if another node took the job over meanwhile; the outcome was discarded
+   */
+  public boolean saveOutcome(Job job) {
+    List<String> previous =
+        jobRepository.updateOutcomeIfClaimed(
+            job.getId(),
+            job.getStatus().name(),
+            job.getNextRunTime(),
+            job.getRetryCount(),
+            job.getLastError(),
+            nodeIdentity.getNodeId());
+    clearClaim(job);
+    if (previous.isEmpty()) {
+      return false;
+    }
+    countTransition(job, Status.valueOf(previous.get(0)));
+    return true;
+  }
+
+  /**
+   * Hands jobs whose lease expired back to the queue.
+   *
+   * @return number of jobs recovered
+   */
+  @Scheduled(fixedDelayString = "${jobpulse.scheduler.reaper.interval-ms:60000}")
+  public int reapExpiredLeases() {
+    Map<Long, Status> reaped = previousStatuses(jobRepository.reapExpiredLeases(Instant.now()));
+    if (reaped.isEmpty()) {
+      return 0;
+    }
+    log.warn("Recovered {} jobs whose lease expired: {}", reaped.size(), reaped.keySet());
+    // The update is committed by now, so the due queue and timing wheels can pick the jobs up
+    // straight away instead of on the next reconcile
+    for (Job job : jobRepository.findAllById(reaped.keySet())) {
+      countTransition(job, reaped.get(job.getId()));
+      eventPublisher.publishEvent(JobScheduleChangedEvent.of(job));
+    }
+    return reaped.size();
+  }
+
+  /** Drops the claim on a job so the job is picked up on a later tick. */
+  public void release(Job job) {
+    job.setStatus(job.getRetryCount() > 0 ? Status.RETRYING : Status.PENDING);
+    clearClaim(job);
+    jobRepository.save(job);
+  }
+
+  /** Clears the ownership fields once the executor has settled the job's status. */
+  public void clearClaim(Job job) {
+    job.setClaimedBy(null);
+    job.setLeaseExpiresAt(null);
+    held.remove(job.getId());
+  }
+
+  /** Ids of the updated jobs mapped to their status before a bulk update, in update order. */
+  private static Map<Long, Status> previousStatuses(List<Object[]> rows) {
+    Map<Long, Status> statuses = new LinkedHashMap<>();
+    for (Object[] row : rows) {
+      statuses.put(((Number) row[0]).longValue(), Status.valueOf((String) row[1]));
+    }
+    return statuses;
+  }
+
+  // The bulk updates bypass the entity listener that counts other status changes
+  private void countTransition(Job job, Status previous) {
+    job.setPersistedStatus(previous);
+    statsCache.statusPersisted(job);
+  }
+}
@@ -0,0 +1,395 @@
+package com.jobpulse.service;
+
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands due jobs to a bounded lane per {@link JobType}, so a slow executor (e.g. a 300s SCRIPT)
+ * only ever occupies its own capacity and never delays the other job types.
+ *
+ * <p>Two modes are available through {@code jobpulse.dispatcher.mode}:
+ *
+ * <ul>
+ *   <li>{@code platform} (default): a fixed worker pool per type, sized from {@code
+ *       jobpulse.dispatcher.<job-type>.pool-size} and {@code
+ *       jobpulse.dispatcher.<job-type>.queue-capacity}.
+ *   <li>{@code virtual}: every job runs on its own virtual thread, and a semaphore of {@code
+ *       jobpulse.dispatcher.<job-type>.max-concurrency} permits caps how many are in flight. Suited
+ *       to executors that park on {@code block()} or {@code Process.waitFor}.
+ * </ul>
+ *
+ * Per-type keys fall back to the matching {@code jobpulse.dispatcher.default-*} property.
+ *
+ * <p>Independently of the lanes, {@code jobpulse.dispatcher.owner.max-in-flight} caps how many jobs
+ * of a single owner may be queued or running at once (0, the default, means no cap), so one tenant
+ * bursting thousands of due jobs cannot take every worker. Only owners with jobs in flight are
+ * tracked. Metrics stay aggregate so they don't grow with the number of tenants: {@code
+ * jobpulse.dispatcher.owner.active} (owners with jobs in flight), {@code
+ * jobpulse.dispatcher.owner.in-flight.max} (jobs of the busiest owner) and the {@code
+ * jobpulse.dispatcher.owner.throttled} counter of dispatches refused by the cap.
+ */
+@Component
+@Slf4j
+public class JobDispatcher {
+
+  private static final String PREFIX = "jobpulse.dispatcher.";
+
+  public enum Mode {
+    PLATFORM,
+    VIRTUAL
+  }
+
+  private final Mode mode;
+  private final Map<JobType, Lane> lanes = new EnumMap<>(JobType.class);
+  private final ExecutorService virtualExecutor;
+  private final int ownerMaxInFlight;
+  // Owners with jobs queued or running; an owner's entry is removed when its count drops to 0
+  private final Map<UUID, Integer> ownerInFlight = new ConcurrentHashMap<>();
+  private final Counter ownerThrottled;
+
+  public JobDispatcher(Environment environment, MeterRegistry meterRegistry) {
+    ownerThrottled =
+        Counter.builder("jobpulse.dispatcher.owner.throttled")
+            .description("Dispatches refused because the owner had max-in-flight jobs in flight")
+            .register(meterRegistry);
+    Gauge.builder("jobpulse.dispatcher.owner.active", ownerInFlight, Map::size)
+        .description("Owners with jobs queued or executing")
+        .register(meterRegistry);
+    Gauge.builder(
+            "jobpulse.dispatcher.owner.in-flight.max", this, JobDispatcher::busiestOwnerInFlight)
+        .description("Jobs queued or executing of the owner with the most")
+        .register(meterRegistry);
+    ownerMaxInFlight = environment.getProperty(PREFIX + "owner.max-in-flight", Integer.class, 0);
+    mode = Mode.valueOf(environment.getProperty(PREFIX + "mode", "platform").trim().toUpperCase());
+    virtualExecutor =
+        mode == Mode.VIRTUAL
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-vt-", 0).factory())
+            : null;
+
+    int defaultPoolSize = environment.getProperty(PREFIX + "default-pool-size", Integer.class, 4);
+    int defaultQueueCapacity =
+        environment.getProperty(PREFIX + "default-queue-capacity", Integer.class, 100);
+    int defaultMaxConcurrency =
+        environment.getProperty(PREFIX + "default-max-concurrency", Integer.class, 1000);
+
+    for (JobType type : JobType.values()) {
+      String key = PREFIX + propertyKey(type);
+      Lane lane;
+      if (mode == Mode.VIRTUAL) {
+        int maxConcurrency =
+            environment.getProperty(key + ".max-concurrency", Integer.class, defaultMaxConcurrency);
+        lane = new VirtualLane(virtualExecutor, maxConcurrency);
+        log.info("Dispatcher lane for {}: virtual threads, max {} in flight", type, maxConcurrency);
+      } else {
+        int poolSize = environment.getProperty(key + ".pool-size", Integer.class, defaultPoolSize);
+        int queueCapacity =
+            environment.getProperty(key + ".queue-capacity", Integer.class, defaultQueueCapacity);
+        lane = new PoolLane(type, poolSize, queueCapacity);
+        log.info(
+            "Dispatcher lane for {}: {} workers, queue capacity {}", type, poolSize, queueCapacity);
+      }
+      lanes.put(type, lane);
+      registerMetrics(meterRegistry, type, lane);
+    }
+  }
+
+  /**
+   * Queues the task on the lane of the given job type.
+   *
+   * @return {@code false} if the lane is saturated; the caller keeps ownership of the job and
+   *     should retry it on a later tick
+   */
+  public boolean dispatch(JobType type, Runnable task) {
+    return dispatch(type, null, task);
+  }
+
+  /**
+   * Queues the task on the lane of the given job type, counting it against the owner's share.
+   *
+   * @param ownerId owner of the job, {@code null} for jobs without one
+   * @return {@code false} if the lane is saturated or the owner already has {@code
+   *     owner.max-in-flight} jobs in flight; the caller keeps ownership of the job and should retry
+   *     it on a later tick
+   */
+  public boolean dispatch(JobType type, UUID ownerId, Runnable task) {
+    Lane lane = type != null ? lanes.get(type) : null;
+    if (lane == null) {
+      // Untyped jobs fail fast with INVALID_CONFIG, no point in queueing them
+      task.run();
+      return true;
+    }
+    if (ownerId != null && !tryAcquire(ownerId)) {
+      ownerThrottled.increment();
+      log.debug("Owner {} already has {} jobs in flight", ownerId, ownerInFlight(ownerId));
+      return false;
+    }
+    Runnable counted =
+        ownerId == null
+            ? task
+            : () -> {
+              try {
+                task.run();
+              } finally {
+                releaseOwner(ownerId);
+              }
+            };
+    if (lane.submit(counted)) {
+      return true;
+    }
+    if (ownerId != null) {
+      releaseOwner(ownerId);
+    }
+    log.warn(
+        "Dispatcher lane for {} is saturated ({} active, {} queued)",
+        type,
+        lane.active(),
+        lane.queued());
+    return false;
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public int queueDepth(JobType type) {
+    return lanes.get(type).queued();
+  }
+
+  public int activeWorkers(JobType type) {
+    return lanes.get(type).active();
+  }
+
+  public int ownerInFlight(UUID ownerId) {
+    return ownerInFlight.getOrDefault(ownerId, 0);
+  }
+
+  /** Number of owners with jobs queued or executing. */
+  public int activeOwners() {
+    return ownerInFlight.size();
+  }
+
+  /** Stops accepting jobs; those already queued or running still complete. */
+  @PreDestroy
+  public void shutdown() {
+    lanes.values().forEach(Lane::shutdown);
+    if (virtualExecutor != null) {
+      virtualExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Waits for the jobs queued or running when {@link #shutdown()} was called.
+   *
+   * @return {@code true} if every lane finished within {@code timeout}
+   */
+  public boolean awaitTermination(Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    for (Lane lane : lanes.values()) {
+      if (!lane.awaitTermination(deadline - System.nanoTime())) {
+        return false;
+      }
+    }
+    return virtualExecutor == null
+        || virtualExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  private void registerMetrics(MeterRegistry registry, JobType type, Lane lane) {
+    Gauge.builder("jobpulse.dispatcher.queue.depth", lane, Lane::queued)
+        .description("Jobs waiting for a free worker")
+        .tag("jobType", type.name())
+        .register(registry);
+    Gauge.builder("jobpulse.dispatcher.workers.active", lane, Lane::active)
+        .description("Jobs currently executing")
+        .tag("jobType", type.name())
+        .register(registry);
+    Gauge.builder("jobpulse.dispatcher.workers.max", lane, Lane::capacity)
+        .description("Configured concurrency for the job type")
+        .tag("jobType", type.name())
+        .register(registry);
+  }
+
+  private boolean tryAcquire(UUID ownerId) {
+    boolean[] acquired = new boolean[1];
+    ownerInFlight.compute(
+        ownerId,
+        (id, current) -> {
+          int count = current == null ? 0 : current;
+          if (ownerMaxInFlight > 0 && count >= ownerMaxInFlight) {
+            return current;
+          }
+          acquired[0] = true;
+          return count + 1;
+        });
+    return acquired[0];
+  }
+
+  private void releaseOwner(UUID ownerId) {
+    ownerInFlight.computeIfPresent(ownerId, (id, count) -> count > 1 ? count - 1 : null);
+  }
+
+  private double busiestOwnerInFlight() {
+    return ownerInFlight.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+  }
+
+  private static String propertyKey(JobType type) {
+    return type.name().toLowerCase().replace('_', '-');
+  }
+
+  private interface Lane {
+    boolean submit(Runnable task);
+
+    int queued();
+
+    int active();
+
+    int capacity();
+
+    void shutdown();
+
+    boolean awaitTermination(long nanos) throws InterruptedException;
+  }
+
+  private static final class PoolLane implements Lane {
+
+    private final ThreadPoolExecutor pool;
+
+    PoolLane(JobType type, int poolSize, int queueCapacity) {
+      pool =
+          new ThreadPoolExecutor(
+              poolSize,
+              poolSize,
+              60L,
+              TimeUnit.SECONDS,
+              new ArrayBlockingQueue<>(queueCapacity),
+              threadFactory(type),
+              new ThreadPoolExecutor.AbortPolicy());
+      pool.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public boolean submit(Runnable task) {
+      try {
+        pool.execute(task);
+        return true;
+      } catch (RejectedExecutionException e) {
+        return false;
+      }
+    }
+
+    @Override
+    public int queued() {
+      return pool.getQueue().size();
+    }
+
+    @Override
+    public int active() {
+      return pool.getActiveCount();
+    }
+
+    @Override
+    public int capacity() {
+      return pool.getMaximumPoolSize();
+    }
+
+    @Override
+    public void shutdown() {
+      pool.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long nanos) throws InterruptedException {
+      return pool.awaitTermination(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static ThreadFactory threadFactory(JobType type) {
+      String prefix = "job-" + propertyKey(type) + "-";
+      AtomicInteger counter = new AtomicInteger();
+      return runnable -> {
+        Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+    }
+  }
+
+  private static final class VirtualLane implements Lane {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    VirtualLane(ExecutorService executor, int maxConcurrency) {
+      this.executor = executor;
+      this.maxConcurrency = maxConcurrency;
+      this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public boolean submit(Runnable task) {
+      if (!permits.tryAcquire()) {
+        return false;
+      }
+      try {
+        executor.execute(
+            () -> {
+              try {
+                task.run();
+              } finally {
+                permits.release();
+              }
+            });
+        return true;
+      } catch (RejectedExecutionException e) {
+        permits.release();
+        return false;
+      }
+    }
+
+    @Override
+    public int queued() {
+      // A virtual thread is started for every accepted job, nothing waits in a queue
+      return 0;
+    }
+
+    @Override
+    public int active() {
+      return maxConcurrency - permits.availablePermits();
+    }
+
+    @Override
+    public int capacity() {
+      return maxConcurrency;
+    }
+
+    @Override
+    public void shutdown() {
+      // The shared virtual-thread executor is shut down by the dispatcher
+    }
+
+    @Override
+    public boolean awaitTermination(long nanos) {
+      // Awaited through the shared executor
+      return true;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.jobpulse.service;
+
+import com.jobpulse.dto.others.JobFailureReason;
+import com.jobpulse.exception.JobCancelledException;
+import com.jobpulse.exception.JobDeferredException;
+import com.jobpulse.exception.RetryableJobException;
+import jakarta.persistence.Query;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One run of a job: its wall-clock deadline and whether it was cancelled, because the deadline
+ * passed, on request or because the node is shutting down.
+ *
+ * <p>Cancelling interrupts the thread running the job and runs the hooks registered through {@link
+ * #onCancel}, so executors blocked outside interruptible calls (a child process, a JDBC statement)
+ * can be stopped too. Executors should also call {@link #checkpoint()} between steps and bound
+ * their own waits by {@link #remaining()}.
+ */
+@Slf4j
+public final class JobExecution {
+
+  public enum CancelReason {
+    TIMEOUT,
+    REQUESTED,
+    SHUTDOWN
+  }
+
+  private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+  private final long jobId;
+  private final Instant deadline;
+  private final Thread thread;
+  private final List<Runnable> hooks = new ArrayList<>();
+  private CancelReason cancelReason;
+  private boolean finished;
+
+  JobExecution(long jobId, Instant deadline, Thread thread) {
+    this.jobId = jobId;
+    this.deadline = deadline;
+    this.thread = thread;
+  }
+
+  /** Execution without a deadline, for callers outside the scheduler. */
+  public static JobExecution unbounded(long jobId) {
+    return new JobExecution(jobId, Instant.MAX, Thread.currentThread());
+  }
+
+  public long getJobId() {
+    return jobId;
+  }
+
+  public Instant getDeadline() {
+    return deadline;
+  }
+
+  /** Time left before the deadline, never negative. */
+  public Duration remaining() {
+    if (deadline.equals(Instant.MAX)) {
+      return Duration.ofSeconds(Long.MAX_VALUE);
+    }
+    Duration remaining = Duration.between(Instant.now(), deadline);
+    return remaining.isNegative() ? Duration.ZERO : remaining;
+  }
+
+  /** {@link #remaining()} capped at {@code max}, for timeouts that also have their own limit. */
+  public Duration remainingOr(Duration max) {
+    Duration remaining = remaining();
+    return remaining.compareTo(max) < 0 ? remaining : max;
+  }
+
+  /**
+   * Checks for cancellation and limits {@code query} to the time left: JDBC statements ignore
+   * thread interrupts, so this is what stops a statement that blocks in the database.
+   */
+  public Query bound(Query query) {
+    checkpoint();
+    if (!deadline.equals(Instant.MAX)) {
+      long millis = Math.max(1, Math.min(Integer.MAX_VALUE, remaining().toMillis()));
+      query.setHint(QUERY_TIMEOUT_HINT, (int) millis);
+    }
+    return query;
+  }
+
+  public synchronized boolean isCancelled() {
+    return cancelReason != null;
+  }
+
+  public synchronized CancelReason getCancelReason() {
+    return cancelReason;
+  }
+
+  /** Throws the failure matching the cancellation if the run was cancelled. */
+  public void checkpoint() {
+    if (isCancelled()) {
+      throw cancellationFailure(null);
+    }
+  }
+
+  /**
+   * Runs {@code hook} when the execution is cancelled, or straight away if it already was. Hooks
+   * run on the cancelling thread and must not block.
+   */
+  public void onCancel(Runnable hook) {
+    synchronized (this) {
+      if (cancelReason == null) {
+        hooks.add(hook);
+        return;
+      }
+    }
+    hook.run();
+  }
+
+  /**
+   * The failure a cancelled run ends with: a retryable {@link JobFailureReason#TIMEOUT} once the
+   * deadline passed, a {@link JobCancelledException} when cancelled on request, and a {@link
+   * JobDeferredException} handing the job back to the queue when the node shuts down. A thread
+   * interrupted without a cancellation fails with a retryable {@link JobFailureReason#UNKNOWN}.
+   */
+  public RuntimeException cancellationFailure(Throwable cause) {
+    CancelReason reason = getCancelReason();
+    if (reason == null) {
+      return new RetryableJobException(
+          JobFailureReason.UNKNOWN, "Execution was interrupted", cause);
+    }
+    return switch (reason) {
+      case TIMEOUT ->
+          new RetryableJobException(
+              JobFailureReason.TIMEOUT, "Execution exceeded its deadline of " + deadline, cause);
+      case SHUTDOWN -> new JobDeferredException("Node is shutting down", Duration.ZERO);
+      case REQUESTED -> new JobCancelledException("Execution cancelled on request", cause);
+    };
+  }
+
+  /**
+   * @return {@code false} if the run already finished or was cancelled
+   */
+  boolean cancel(CancelReason reason) {
+    List<Runnable> toRun;
+    synchronized (this) {
+      if (finished || cancelReason != null) {
+        return false;
+      }
+      cancelReason = reason;
+      toRun = List.copyOf(hooks);
+      thread.interrupt();
+    }
+    for (Runnable hook : toRun) {
+      try {
+        hook.run();
+      } catch (RuntimeException e) {
+        log.warn("Cancellation hook of job {} failed: {}", jobId, e.getMessage());
+      }
+    }
+    return true;
+  }
+
+  /** Marks the run finished and clears an interrupt that arrived too late to matter. */
+  void finish() {
+    synchronized (this) {
+      finished = true;
+    }
+    if (Thread.currentThread() == thread) {
+      Thread.interrupted();
+    }
+  }
+}
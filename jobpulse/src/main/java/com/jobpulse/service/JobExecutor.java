@@ -4,4 +4,14 @@ import com.jobpulse.model.Job;
 
 public interface JobExecutor {
   void execute(Job job) throws Exception;
+
+  /**
+   * Runs the job within {@code execution}: implementations should bound their waits by {@link
+   * JobExecution#remaining()}, call {@link JobExecution#checkpoint()} between steps and register a
+   * {@link JobExecution#onCancel} hook for work that ignores interrupts. The default relies on the
+   * thread interrupt alone.
+   */
+  default void execute(Job job, JobExecution execution) throws Exception {
+    execute(job);
+  }
 }
@@ -11,8 +11,10 @@ import org.springframework.stereotype.Component;
 public class JobExecutorFactory {
 
   private final Map<JobType, JobExecutor> executors;
+  private final ExecutorResilience resilience;
 
-  public JobExecutorFactory(List<JobExecutor> executorList) {
+  public JobExecutorFactory(List<JobExecutor> executorList, ExecutorResilience resilience) {
+    this.resilience = resilience;
     executors =
         executorList.stream()
             .collect(
@@ -20,7 +22,8 @@ public class JobExecutorFactory {
                     e -> e.getClass().getAnnotation(ExecutorType.class).value(), e -> e));
   }
 
+  /** Executor for the job type, wrapped in its circuit breakers, rate limiters and bulkheads. */
   public JobExecutor get(JobType type) {
-    return executors.get(type);
+    return resilience.decorate(type, executors.get(type));
   }
 }
@@ -0,0 +1,210 @@
+package com.jobpulse.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the monthly range partitions of {@code job_history} (see migration V10). At startup and
+ * on {@code jobpulse.history.maintenance.cron} it creates the partitions of the current month and
+ * the next {@code jobpulse.history.partitions.premake-months}.
+ *
+ * <p>Runs of a month without a partition land in {@code job_history_default}, so a stalled
+ * maintenance never fails a job. When it creates the partition of a month the default partition
+ * holds runs of, those runs are moved into the new partition. Runs left in the default partition
+ * afterwards are logged as an error and exported as the {@code
+ * jobpulse.history.default-partition.rows} gauge.
+ *
+ * <p>Partitions whose whole month lies more than {@code jobpulse.history.retention-months} before
+ * the current month are dropped, or only detached from {@code job_history} when {@code
+ * jobpulse.history.retention.mode=detach} so they can be archived and dropped by hand. A retention
+ * of 0 keeps all history. Nodes take a transaction-scoped advisory lock first, so only one of them
+ * runs the DDL at a time.
+ */
+@Service
+@Slf4j
+public class JobHistoryPartitions {
+
+  public static final String DETACH = "detach";
+
+  static final String PARENT = "job_history";
+  static final String DEFAULT_PARTITION = PARENT + "_default";
+
+  // Shared by every node; any constant no other advisory lock uses
+  static final long LOCK_KEY = 0x4a6f6248697374L;
+
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+  private static final Pattern PARTITION = Pattern.compile(PARENT + "_(\\d{4})_(\\d{2})");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // Runs in the default partition as of the last maintenance
+  private final AtomicLong defaultRows = new AtomicLong();
+
+  @Value("${jobpulse.history.partitions.enabled:true}")
+  private boolean enabled;
+
+  @Value("${jobpulse.history.partitions.premake-months:3}")
+  private int premakeMonths;
+
+  @Value("${jobpulse.history.retention-months:12}")
+  private int retentionMonths;
+
+  @Value("${jobpulse.history.retention.mode:drop}")
+  private String retentionMode;
+
+  public JobHistoryPartitions(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    Gauge.builder("jobpulse.history.default-partition.rows", defaultRows, AtomicLong::get)
+        .description("Job runs stored in the default history partition, outside any month")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "${jobpulse.history.maintenance.cron:0 15 3 * * *}")
+  @Transactional
+  public void maintain() {
+    if (!enabled) return;
+    maintain(YearMonth.now());
+  }
+
+  /** Creates the missing partitions and retires the expired ones, as of {@code current}. */
+  void maintain(YearMonth current) {
+    if (!Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY))) {
+      log.debug("Another node is maintaining the job history partitions");
+      return;
+    }
+    Integer partitioned =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)",
+            Integer.class,
+            PARENT);
+    if (partitioned == null || partitioned == 0) {
+      log.warn("{} is not partitioned, skipping its maintenance", PARENT);
+      return;
+    }
+
+    List<String> names = children();
+    boolean hasDefault = names.contains(DEFAULT_PARTITION);
+    TreeMap<YearMonth, String> partitions = byMonth(names);
+    for (int ahead = 0; ahead <= premakeMonths; ahead++) {
+      YearMonth month = current.plusMonths(ahead);
+      if (!partitions.containsKey(month)) {
+        create(month, hasDefault);
+      }
+    }
+
+    if (retentionMonths > 0) {
+      YearMonth oldestKept = current.minusMonths(retentionMonths);
+      for (String name : partitions.headMap(oldestKept).values()) {
+        retire(name);
+      }
+    }
+
+    if (hasDefault) {
+      long rows = count("SELECT COUNT(*) FROM " + DEFAULT_PARTITION);
+      defaultRows.set(rows);
+      if (rows > 0) {
+        log.error(
+            "{} holds {} runs outside any monthly partition; create their months' partitions",
+            DEFAULT_PARTITION,
+            rows);
+      }
+    }
+  }
+
+  /**
+   * Creates the partition of {@code month}. Postgres refuses to while the default partition holds
+   * runs of that month, so it is detached for the move and attached again.
+   */
+  private void create(YearMonth month, boolean hasDefault) {
+    String name = name(month);
+    String range = "run_time >= '%s' AND run_time < '%s'".formatted(from(month), to(month));
+    long stray =
+        hasDefault
+            ? count("SELECT COUNT(*) FROM %s WHERE %s".formatted(DEFAULT_PARTITION, range))
+            : 0;
+    if (stray > 0) {
+      jdbcTemplate.execute(
+          "ALTER TABLE %s DETACH PARTITION %s".formatted(PARENT, DEFAULT_PARTITION));
+    }
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+            .formatted(name, PARENT, from(month), to(month)));
+    if (stray > 0) {
+      jdbcTemplate.execute(
+          "INSERT INTO %s SELECT * FROM %s WHERE %s".formatted(name, DEFAULT_PARTITION, range));
+      jdbcTemplate.execute("DELETE FROM %s WHERE %s".formatted(DEFAULT_PARTITION, range));
+      jdbcTemplate.execute(
+          "ALTER TABLE %s ATTACH PARTITION %s DEFAULT".formatted(PARENT, DEFAULT_PARTITION));
+      log.warn("Moved {} runs from {} into {}", stray, DEFAULT_PARTITION, name);
+    }
+    log.info("Created job history partition {}", name);
+  }
+
+  private void retire(String name) {
+    if (DETACH.equalsIgnoreCase(retentionMode)) {
+      jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(PARENT, name));
+      log.info("Detached job history partition {} past retention", name);
+    } else {
+      jdbcTemplate.execute("DROP TABLE %s".formatted(name));
+      log.info("Dropped job history partition {} past retention", name);
+    }
+  }
+
+  private List<String> children() {
+    return jdbcTemplate.queryForList(
+        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+            + " WHERE i.inhparent = to_regclass(?)",
+        String.class,
+        PARENT);
+  }
+
+  /** Monthly partitions by month; the default partition and other tables are left out. */
+  private static TreeMap<YearMonth, String> byMonth(List<String> names) {
+    TreeMap<YearMonth, String> partitions = new TreeMap<>();
+    for (String name : names) {
+      Matcher matcher = PARTITION.matcher(name);
+      if (matcher.matches()) {
+        partitions.put(
+            YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))),
+            name);
+      }
+    }
+    return partitions;
+  }
+
+  private long count(String sql) {
+    Long count = jdbcTemplate.queryForObject(sql, Long.class);
+    return count == null ? 0 : count;
+  }
+
+  private static String from(YearMonth month) {
+    return month.atDay(1).toString();
+  }
+
+  private static String to(YearMonth month) {
+    return month.plusMonths(1).atDay(1).toString();
+  }
+
+  /** Name of the partition holding the runs of {@code month}, e.g. {@code job_history_2026_10}. */
+  public static String name(YearMonth month) {
+    return PARENT + "_" + month.format(SUFFIX);
+  }
+}
@@ -0,0 +1,279 @@
+package com.jobpulse.service;
+
+import com.jobpulse.config.NodeIdentity;
+import com.jobpulse.model.Job;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-job Redis lock used by the default {@code redis-lock} claim strategy.
+ *
+ * <p>Each lock value is a token unique to the holder, so only the holder can renew or release it
+ * (compare-and-delete). While a job runs, a heartbeat extends the lock every {@code
+ * jobpulse.scheduler.lock.renew-interval-ms}, so executors may outlive {@code
+ * jobpulse.scheduler.lock.ttl-seconds} without another node taking the job over. Every successful
+ * acquisition also draws a monotonically increasing fencing token from {@code job-fence:<id>};
+ * writes carrying an older token than the one last persisted are rejected by {@code
+ * JobRepository#saveOutcomeIfCurrent}. The counter is raised past the token stored on the job
+ * whenever it is behind it, so a fence key lost to a Redis restart, failover or eviction starts
+ * over from the database instead of from 1.
+ *
+ * <p>Acquire, release and renew all work on batches: each slice of up to {@code
+ * jobpulse.scheduler.lock.batch-size} jobs costs a single Lua script round-trip, whose latency is
+ * exported as {@code jobpulse.scheduler.lock.batch.latency} tagged by operation.
+ */
+@Service
+@Slf4j
+public class JobLockService {
+
+  static final String LOCK_PREFIX = "job-lock:";
+  static final String FENCE_PREFIX = "job-fence:";
+
+  // KEYS: lock1, fence1, lock2, fence2, ... ARGV: ttl, token1, stored1, token2, stored2, ...
+  @SuppressWarnings("rawtypes")
+  static final RedisScript<List> ACQUIRE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local result = {}\n"
+              + "for i = 1, #KEYS, 2 do\n"
+              + "  if redis.call('SET', KEYS[i], ARGV[i + 1], 'NX', 'PX', ARGV[1]) then\n"
+              + "    local fence = redis.call('INCR', KEYS[i + 1])\n"
+              + "    local stored = tonumber(ARGV[i + 2])\n"
+              + "    if fence <= stored then\n"
+              + "      fence = stored + 1\n"
+              + "      redis.call('SET', KEYS[i + 1], fence)\n"
+              + "    end\n"
+              + "    result[#result + 1] = fence\n"
+              + "  else\n"
+              + "    result[#result + 1] = 0\n"
+              + "  end\n"
+              + "end\n"
+              + "return result",
+          List.class);
+
+  // KEYS: lock1, lock2, ... ARGV: token1, token2, ...
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local result = {}\n"
+              + "for i = 1, #KEYS do\n"
+              + "  if redis.call('GET', KEYS[i]) == ARGV[i] then\n"
+              + "    result[i] = redis.call('DEL', KEYS[i])\n"
+              + "  else\n"
+              + "    result[i] = 0\n"
+              + "  end\n"
+              + "end\n"
+              + "return result",
+          List.class);
+
+  // KEYS: lock1, lock2, ... ARGV: ttl, token1, token2, ...
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> RENEW_SCRIPT =
+      new DefaultRedisScript<>(
+          "local result = {}\n"
+              + "for i = 1, #KEYS do\n"
+              + "  if redis.call('GET', KEYS[i]) == ARGV[i + 1] then\n"
+              + "    result[i] = redis.call('PEXPIRE', KEYS[i], ARGV[1])\n"
+              + "  else\n"
+              + "    result[i] = 0\n"
+              + "  end\n"
+              + "end\n"
+              + "return result",
+          List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final NodeIdentity nodeIdentity;
+  private final MeterRegistry meterRegistry;
+  private final Map<Long, JobLock> heldLocks = new ConcurrentHashMap<>();
+
+  @Value("${jobpulse.scheduler.lock.ttl-seconds:60}")
+  private long ttlSeconds;
+
+  @Value("${jobpulse.scheduler.lock.batch-size:500}")
+  private int batchSize;
+
+  public JobLockService(
+      RedisTemplate<String, String> redisTemplate,
+      NodeIdentity nodeIdentity,
+      MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.nodeIdentity = nodeIdentity;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /** Tries to take the lock for a job; an empty result means another node holds it. */
+  public Optional<JobLock> acquire(Job job) {
+    return Optional.ofNullable(acquireAll(List.of(job)).get(job.getId()));
+  }
+
+  /**
+   * Tries to take the locks for all given jobs, one script call per slice.
+   *
+   * @return the locks that were acquired keyed by job id, in the order of {@code jobs}; jobs held
+   *     by another node are absent
+   */
+  public Map<Long, JobLock> acquireAll(List<Job> jobs) {
+    Map<Long, JobLock> acquired = new LinkedHashMap<>();
+    String tokenPrefix = nodeIdentity.getNodeId() + ":" + UUID.randomUUID() + ":";
+    for (List<Job> slice : slices(jobs)) {
+      List<String> keys = new ArrayList<>(slice.size() * 2);
+      List<String> args = new ArrayList<>(slice.size() * 2 + 1);
+      args.add(ttlMillis());
+      for (Job job : slice) {
+        keys.add(lockKey(job.getId()));
+        keys.add(FENCE_PREFIX + job.getId());
+        args.add(tokenPrefix + job.getId());
+        args.add(String.valueOf(job.getFencingToken() != null ? job.getFencingToken() : 0));
+      }
+      List<Long> fencingTokens = executeBatch("acquire", ACQUIRE_SCRIPT, keys, args);
+      for (int i = 0; i < slice.size(); i++) {
+        long fencingToken = resultAt(fencingTokens, i);
+        if (fencingToken > 0) {
+          long jobId = slice.get(i).getId();
+          JobLock lock = new JobLock(jobId, tokenPrefix + jobId, fencingToken);
+          heldLocks.put(jobId, lock);
+          acquired.put(jobId, lock);
+        }
+      }
+    }
+    return acquired;
+  }
+
+  /**
+   * Releases the lock if this holder still owns it.
+   *
+   * @return {@code false} if the lock had already expired or been taken over
+   */
+  public boolean release(JobLock lock) {
+    return releaseAll(List.of(lock)) == 1;
+  }
+
+  /**
+   * Releases every given lock this holder still owns, one script call per slice.
+   *
+   * @return number of locks that were actually deleted
+   */
+  public int releaseAll(List<JobLock> locks) {
+    int released = 0;
+    for (List<JobLock> slice : slices(locks)) {
+      List<String> keys = new ArrayList<>(slice.size());
+      List<String> args = new ArrayList<>(slice.size());
+      for (JobLock lock : slice) {
+        heldLocks.remove(lock.jobId(), lock);
+        keys.add(lockKey(lock.jobId()));
+        args.add(lock.token());
+      }
+      List<Long> deleted = executeBatch("release", RELEASE_SCRIPT, keys, args);
+      for (int i = 0; i < slice.size(); i++) {
+        if (resultAt(deleted, i) > 0) {
+          released++;
+        } else {
+          log.warn(
+              "Lock for job {} was no longer held by this node at release", slice.get(i).jobId());
+        }
+      }
+    }
+    return released;
+  }
+
+  /** Heartbeat extending every lock held by this node while its job is running. */
+  @Scheduled(fixedDelayString = "${jobpulse.scheduler.lock.renew-interval-ms:20000}")
+  public void renewHeldLocks() {
+    for (List<JobLock> slice : slices(List.copyOf(heldLocks.values()))) {
+      List<String> keys = new ArrayList<>(slice.size());
+      List<String> args = new ArrayList<>(slice.size() + 1);
+      args.add(ttlMillis());
+      for (JobLock lock : slice) {
+        keys.add(lockKey(lock.jobId()));
+        args.add(lock.token());
+      }
+      List<Long> renewed = executeBatch("renew", RENEW_SCRIPT, keys, args);
+      for (int i = 0; i < slice.size(); i++) {
+        if (resultAt(renewed, i) == 0) {
+          JobLock lock = slice.get(i);
+          heldLocks.remove(lock.jobId(), lock);
+          log.error(
+              "Lost lock for job {} while it was running; its outcome will be rejected if another"
+                  + " node has taken it over",
+              lock.jobId());
+        }
+      }
+    }
+  }
+
+  /** Drops the fencing counter of a deleted job. */
+  public void forget(long jobId) {
+    try {
+      redisTemplate.delete(FENCE_PREFIX + jobId);
+    } catch (DataAccessException e) {
+      log.warn("Could not delete the fencing counter of job {}: {}", jobId, e.getMessage());
+    }
+  }
+
+  public int heldLockCount() {
+    return heldLocks.size();
+  }
+
+  /** Whether any node holds the lock of the job, i.e. has it queued or running. */
+  public boolean isLocked(long jobId) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey(jobId)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Long> executeBatch(
+      String operation, RedisScript<List> script, List<String> keys, List<String> args) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      return redisTemplate.execute(script, keys, args.toArray());
+    } finally {
+      sample.stop(
+          Timer.builder("jobpulse.scheduler.lock.batch.latency")
+              .description("Round-trip time of one batched lock script call")
+              .tag("operation", operation)
+              .publishPercentiles(0.5, 0.99)
+              .register(meterRegistry));
+    }
+  }
+
+  private <T> List<List<T>> slices(List<T> items) {
+    List<List<T>> slices = new ArrayList<>();
+    for (int from = 0; from < items.size(); from += batchSize) {
+      slices.add(items.subList(from, Math.min(from + batchSize, items.size())));
+    }
+    return slices;
+  }
+
+  private static long resultAt(List<Long> results, int index) {
+    return results == null || index >= results.size() ? 0 : results.get(index);
+  }
+
+  private String ttlMillis() {
+    return String.valueOf(ttlSeconds * 1000);
+  }
+
+  private static String lockKey(long jobId) {
+    return LOCK_PREFIX + jobId;
+  }
+
+  /**
+   * A held lock.
+   *
+   * @param token value identifying this holder in Redis
+   * @param fencingToken strictly increasing per job across all acquisitions
+   */
+  public record JobLock(long jobId, String token, long fencingToken) {}
+}
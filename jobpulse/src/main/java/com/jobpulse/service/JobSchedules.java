@@ -0,0 +1,20 @@
+package com.jobpulse.service;
+
+import com.jobpulse.model.Job;
+import com.jobpulse.util.CronExpressionUtil;
+import java.time.Instant;
+
+/** Next fire time of a recurring job, honouring its time zone and spread window. */
+final class JobSchedules {
+
+  private JobSchedules() {}
+
+  static Instant nextFireTime(Job job, Instant from) {
+    return CronExpressionUtil.getNextRunTime(
+        job.getCronExpression(),
+        from,
+        CronExpressionUtil.resolveTimeZone(job.getTimeZone()),
+        job.getId(),
+        job.getSpreadSeconds() != null ? job.getSpreadSeconds() : 0);
+  }
+}
@@ -1,6 +1,7 @@
 package com.jobpulse.service;
 
 import com.jobpulse.dto.others.JobFailureReason;
+import com.jobpulse.dto.others.StatusCount;
 import com.jobpulse.dto.request.JobRequestDTO;
 import com.jobpulse.dto.request.ScheduleDTO;
 import com.jobpulse.dto.request.ScheduleDTO.ScheduleType;
@@ -8,9 +9,15 @@ import com.jobpulse.dto.response.DeadLetterJobResponse;
 import com.jobpulse.dto.response.JobHistoryResponse;
 import com.jobpulse.dto.response.JobResponse;
 import com.jobpulse.dto.response.JobStatsResponse;
+import com.jobpulse.dto.response.PageResponse;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.exception.BadRequestException;
+import com.jobpulse.exception.JobCancelledException;
+import com.jobpulse.exception.JobDeferredException;
 import com.jobpulse.exception.JobExecutionException;
 import com.jobpulse.exception.NonRetryableJobException;
 import com.jobpulse.exception.ResourceNotFoundException;
+import com.jobpulse.exception.RetryableJobException;
 import com.jobpulse.model.DeadLetterJob;
 import com.jobpulse.model.Job;
 import com.jobpulse.model.JobHistory;
@@ -20,14 +27,28 @@ import com.jobpulse.repository.DeadLetterJobRepository;
 import com.jobpulse.repository.JobHistoryRepository;
 import com.jobpulse.repository.JobRepository;
 import com.jobpulse.repository.UserRepository;
+import com.jobpulse.service.JobLockService.JobLock;
 import com.jobpulse.util.CronExpressionUtil;
+import com.jobpulse.util.PageCursor;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -38,11 +59,38 @@ public class JobService {
 
   private final JobRepository jobRepository;
   private final UserRepository userRepository;
-  private final RedisTemplate<String, String> redisTemplate;
+  private final JobLockService jobLockService;
   private final JobExecutorFactory executorFactory;
   private final DeadLetterJobRepository deadLetterJobRepository;
   private final JobHistoryRepository jobHistoryRepository;
   private final RetryPolicy retryPolicy;
+  private final JobDispatcher jobDispatcher;
+  private final JobClaimService jobClaimService;
+  private final RedisDueQueue redisDueQueue;
+  private final ClusterMembership clusterMembership;
+  private final MisfireHandler misfireHandler;
+  private final RunningJobs runningJobs;
+  private final JobStatsCache jobStatsCache;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // The regular poll, the wake-up scheduler and the timing wheel run due jobs one scan at a time
+  private final ReentrantLock dueJobsScan = new ReentrantLock();
+
+  @Value("${jobpulse.scheduler.priority.aging-seconds:60}")
+  private long priorityAgingSeconds;
+
+  @Value("${jobpulse.api.page.default-size:50}")
+  private int defaultPageSize;
+
+  @Value("${jobpulse.api.page.max-size:500}")
+  private int maxPageSize;
+
+  /** How the node running a dispatched job came to own it. */
+  private enum Ownership {
+    REDIS_LOCK,
+    CLAIM,
+    DUE_QUEUE
+  }
 
   private User resolveUser(UUID userId) {
     return userRepository
@@ -61,6 +109,12 @@ public class JobService {
             .jobType(dto.getJobType())
             .owner(resolveUser(dto.getOwnerId()))
             .maxRetries(dto.getMaxRetries())
+            .timeoutSeconds(dto.getTimeoutSeconds())
+            .retryBaseDelayMs(dto.getRetryBaseDelayMs())
+            .retryMultiplier(dto.getRetryMultiplier())
+            .retryMaxDelayMs(dto.getRetryMaxDelayMs())
+            .retryJitter(dto.getRetryJitter())
+            .priority(dto.getPriority())
             .retryCount(0)
             .status(Status.PENDING)
             .lastError(null)
@@ -68,10 +122,19 @@ public class JobService {
             .build();
 
     ScheduleDTO scheduleDTO = dto.getSchedule();
+    String zoneId = scheduleDTO.getTimeZone();
+    TimeZone timeZone = CronExpressionUtil.resolveTimeZone(zoneId);
+    // Left unset when not given, so the job follows the server zone
+    job.setTimeZone(zoneId == null || zoneId.isBlank() ? null : timeZone.getID());
+    job.setMisfirePolicy(scheduleDTO.getMisfirePolicy());
+    job.setSpreadSeconds(scheduleDTO.getSpreadSeconds());
 
     if (scheduleDTO.getType() == ScheduleType.ONE_TIME) {
-      LocalDateTime runAt = scheduleDTO.getRunAt();
-      if (runAt == null || runAt.isBefore(LocalDateTime.now())) {
+      Instant runAt =
+          scheduleDTO.getRunAt() != null
+              ? scheduleDTO.getRunAt().atZone(timeZone.toZoneId()).toInstant()
+              : null;
+      if (runAt == null || runAt.isBefore(Instant.now())) {
         throw new IllegalArgumentException(
             "Invalid runAt time for ONE_TIME job. Must be in the future.");
       }
@@ -92,7 +155,8 @@ public class JobService {
           CronExpressionUtil.generateCronExpression(
               scheduleDTO.getFrequency().name(), scheduleDTO.getInterval());
       job.setCronExpression(cronExpression);
-      job.setNextRunTime(CronExpressionUtil.getNextRunTime(cronExpression, LocalDateTime.now()));
+      job.setNextRunTime(
+          CronExpressionUtil.getNextRunTime(cronExpression, Instant.now(), timeZone));
       log.debug("Created RECUjoRRING job with cron: {}", cronExpression);
 
     } else if (scheduleDTO.getType() == ScheduleType.CRON) {
@@ -103,7 +167,8 @@ public class JobService {
       job.setRecurring(true);
       job.setCronExpression(scheduleDTO.getCronExpression());
       job.setNextRunTime(
-          CronExpressionUtil.getNextRunTime(scheduleDTO.getCronExpression(), LocalDateTime.now()));
+          CronExpressionUtil.getNextRunTime(
+              scheduleDTO.getCronExpression(), Instant.now(), timeZone));
       log.debug("Created CRON job with expression: {}", scheduleDTO.getCronExpression());
 
     } else {
@@ -111,34 +176,303 @@ public class JobService {
     }
 
     jobRepository.save(job);
+    if (job.isRecurring() && job.getSpreadSeconds() != null && job.getSpreadSeconds() > 0) {
+      // The spread offset is derived from the id, which is only known once the row exists
+      job.setNextRunTime(JobSchedules.nextFireTime(job, Instant.now()));
+      jobRepository.save(job);
+    }
+    scheduleChanged(job);
     log.info("Job created successfully with ID: {}", job.getId());
   }
 
-  @Scheduled(fixedRate = 10000)
+  @Scheduled(fixedRateString = "${jobpulse.scheduler.poll-interval-ms:10000}")
   public void runDueJobs() throws Exception {
+    if (runningJobs.isDraining()) {
+      log.debug("Node is draining, not picking up due jobs");
+      return;
+    }
+    dueJobsScan.lock();
+    try {
+      scanDueJobs();
+    } finally {
+      dueJobsScan.unlock();
+    }
+  }
+
+  private void scanDueJobs() throws Exception {
     log.debug("Checking for due jobs...");
-    LocalDateTime now = LocalDateTime.now();
-    List<Job> dueJobs = jobRepository.findDueJobs(now);
+    Instant now = Instant.now();
+
+    if (redisDueQueue.isEnabled()) {
+      runQueuedJobs(now);
+      return;
+    }
+    if (jobClaimService.isEnabled()) {
+      runClaimedJobs(now);
+      return;
+    }
+
+    List<Integer> partitions =
+        clusterMembership.isEnabled() ? clusterMembership.ownedPartitions() : null;
+    List<Job> dueJobs;
+    if (partitions == null) {
+      dueJobs = jobRepository.findDueJobs(now);
+    } else if (partitions.isEmpty()) {
+      dueJobs = List.of();
+    } else {
+      dueJobs =
+          jobRepository.findDueJobsInPartitions(
+              now, clusterMembership.partitionCount(), partitions);
+    }
     log.info("Found {} due jobs to execute", dueJobs.size());
+    misfireHandler.beginTick(dueJobs, now);
+    runLockedJobs(dueJobs, now);
+  }
 
-    for (Job job : dueJobs) {
-      if (acquireLock(job)) {
-        try {
-          log.info("Executing job: {} (ID: {})", job.getName(), job.getId());
-          executeJob(job);
-        } catch (Exception e) {
-          log.error(
-              "Error executing job {} (ID: {}): {}", job.getName(), job.getId(), e.getMessage(), e);
-        } finally {
-          releaseLock(job);
-          jobRepository.save(job);
-        }
-      } else {
+  /**
+   * Runs the jobs a {@link JobTimingWheel} fired, skipping any that were rescheduled, paused or
+   * picked up by the regular poll in the meantime. Takes turns with the poll, whose scan may have
+   * read the same jobs, and counts as one of its ticks for the catch-up budget.
+   */
+  public void runFiredJobs(List<Long> jobIds) {
+    if (runningJobs.isDraining()) {
+      return;
+    }
+    dueJobsScan.lock();
+    try {
+      Instant now = Instant.now();
+      List<Job> dueJobs =
+          jobRepository.findAllById(jobIds).stream()
+              .filter(
+                  job -> job.getStatus() == Status.PENDING || job.getStatus() == Status.RETRYING)
+              .filter(job -> job.getNextRunTime() != null && !job.getNextRunTime().isAfter(now))
+              .filter(job -> !clusterMembership.isEnabled() || clusterMembership.owns(job.getId()))
+              .toList();
+      misfireHandler.beginTick(dueJobs, now, () -> countMisfiredJobs(now));
+      runLockedJobs(dueJobs, now);
+    } finally {
+      dueJobsScan.unlock();
+    }
+  }
+
+  private void runLockedJobs(List<Job> dueJobs, Instant now) {
+    Map<Long, JobLock> locks = jobLockService.acquireAll(dueJobs);
+    // Read before they were locked: a run elsewhere may have finished or moved them since
+    Set<Long> stillDue =
+        locks.isEmpty()
+            ? Set.of()
+            : new HashSet<>(jobRepository.findDueIdsAmong(locks.keySet(), now));
+    List<JobLock> deferred = new ArrayList<>();
+    for (Job job : fairOrder(dueJobs)) {
+      JobLock lock = locks.get(job.getId());
+      if (lock == null) {
         log.debug("Could not acquire lock for job: {} (ID: {})", job.getName(), job.getId());
+        continue;
+      }
+      if (!stillDue.contains(job.getId())) {
+        log.debug(
+            "Skipping job {} (ID: {}), it ran or changed before it was locked",
+            job.getName(),
+            job.getId());
+        deferred.add(lock);
+        continue;
+      }
+      if (misfireHandler.skipIfMisfired(job, now)) {
+        if (saveOutcomeIfCurrent(job, lock.fencingToken())) {
+          scheduleChanged(job);
+        }
+        deferred.add(lock);
+        continue;
+      }
+      if (misfireHandler.deferCatchUp(job, now)) {
+        log.debug("Deferring catch-up run of job {} (ID: {})", job.getName(), job.getId());
+        deferred.add(lock);
+        continue;
+      }
+      if (!jobDispatcher.dispatch(
+          job.getJobType(),
+          DispatchOrder.ownerId(job),
+          () -> runDispatchedJob(job, Ownership.REDIS_LOCK, lock))) {
+        log.debug(
+            "Deferring job {} (ID: {}) to the next tick, no dispatch capacity left",
+            job.getName(),
+            job.getId());
+        deferred.add(lock);
+      }
+    }
+    if (!deferred.isEmpty()) {
+      jobLockService.releaseAll(deferred);
+    }
+  }
+
+  private void runClaimedJobs(Instant now) {
+    List<Job> claimedJobs = jobClaimService.claimDueJobs(now);
+    log.info("Claimed {} due jobs to execute", claimedJobs.size());
+    misfireHandler.beginTick(claimedJobs, now, () -> countMisfiredJobs(now));
+
+    for (Job job : fairOrder(claimedJobs)) {
+      if (misfireHandler.skipIfMisfired(job, now)) {
+        jobClaimService.release(job);
+        scheduleChanged(job);
+        continue;
+      }
+      Instant catchUpSlot = misfireHandler.catchUpSlot(job, now);
+      if (catchUpSlot != null) {
+        // Left at its missed fire time, the oldest-first claim would hand it straight back
+        log.debug(
+            "Releasing claim on catch-up job {} (ID: {}) until {}",
+            job.getName(),
+            job.getId(),
+            catchUpSlot);
+        job.setNextRunTime(catchUpSlot);
+        jobClaimService.release(job);
+        scheduleChanged(job);
+        continue;
+      }
+      if (!jobDispatcher.dispatch(
+          job.getJobType(),
+          DispatchOrder.ownerId(job),
+          () -> runDispatchedJob(job, Ownership.CLAIM, null))) {
+        log.debug(
+            "Releasing claim on job {} (ID: {}), no dispatch capacity left",
+            job.getName(),
+            job.getId());
+        jobClaimService.release(job);
+      }
+    }
+  }
+
+  private void runQueuedJobs(Instant now) {
+    List<Long> dueIds = redisDueQueue.popDue(now);
+    if (dueIds.isEmpty()) {
+      log.debug("No due jobs in the due queue");
+      return;
+    }
+    // The table stays the source of truth: skip members that went stale since they were queued
+    List<Job> dueJobs = new ArrayList<>();
+    for (Job job : jobRepository.findAllById(dueIds)) {
+      if (job.getStatus() != Status.PENDING && job.getStatus() != Status.RETRYING) {
+        continue;
+      }
+      if (job.getNextRunTime() != null && job.getNextRunTime().isAfter(now)) {
+        // Popped at an outdated score, e.g. one a reconcile wrote back; queue it at its real time
+        redisDueQueue.enqueue(job.getId(), job.getNextRunTime());
+        continue;
+      }
+      dueJobs.add(job);
+    }
+    log.info("Popped {} due jobs from the due queue", dueJobs.size());
+    misfireHandler.beginTick(dueJobs, now, () -> countMisfiredJobs(now));
+
+    for (Job job : fairOrder(dueJobs)) {
+      if (misfireHandler.skipIfMisfired(job, now)) {
+        jobRepository.save(job);
+        scheduleChanged(job);
+        continue;
+      }
+      Instant catchUpSlot = misfireHandler.catchUpSlot(job, now);
+      if (catchUpSlot != null) {
+        // Requeued at its missed fire time, it would be the first member popped again
+        log.debug(
+            "Requeueing catch-up job {} (ID: {}) at {}", job.getName(), job.getId(), catchUpSlot);
+        job.setNextRunTime(catchUpSlot);
+        jobRepository.save(job);
+        scheduleChanged(job);
+        continue;
+      }
+      // The lease lets the reaper hand the job back should this node die while running it
+      if (!jobClaimService.startQueued(job, now)) {
+        log.debug(
+            "Skipping job {} (ID: {}), another node started it first", job.getName(), job.getId());
+        continue;
+      }
+      if (!jobDispatcher.dispatch(
+          job.getJobType(),
+          DispatchOrder.ownerId(job),
+          () -> runDispatchedJob(job, Ownership.DUE_QUEUE, null))) {
+        log.debug(
+            "Requeueing job {} (ID: {}), no dispatch capacity left", job.getName(), job.getId());
+        job.setStatus(job.getRetryCount() > 0 ? Status.RETRYING : Status.PENDING);
+        jobClaimService.clearClaim(job);
+        jobRepository.save(job);
+        redisDueQueue.enqueue(job.getId(), job.getNextRunTime());
       }
     }
   }
 
+  /** Size of the whole catch-up backlog, of which claims and pops only see one batch. */
+  private long countMisfiredJobs(Instant now) {
+    return jobRepository.countDueBefore(misfireHandler.misfireCutoff(now));
+  }
+
+  /**
+   * Orders due jobs by aged priority and interleaves them round-robin by owner within a priority
+   * level, so neither a flood of low-priority work nor a single large tenant can push urgent or
+   * small-tenant jobs to the back of the dispatch order.
+   */
+  private List<Job> fairOrder(List<Job> jobs) {
+    return DispatchOrder.order(jobs, Instant.now(), priorityAgingSeconds);
+  }
+
+  /**
+   * @param lock the Redis lock held for the job, {@code null} unless {@code ownership} is {@code
+   *     REDIS_LOCK}
+   */
+  private void runDispatchedJob(Job job, Ownership ownership, JobLock lock) {
+    // A lease can lapse while the job waits for a worker; another node may own it by now
+    if (ownership != Ownership.REDIS_LOCK && !jobClaimService.confirm(job, Instant.now())) {
+      log.warn(
+          "Skipping job {} (ID: {}): its lease expired before it ran and another node took it over",
+          job.getName(),
+          job.getId());
+      return;
+    }
+    try {
+      log.info("Executing job: {} (ID: {})", job.getName(), job.getId());
+      executeJob(job);
+    } catch (Exception e) {
+      log.error(
+          "Error executing job {} (ID: {}): {}", job.getName(), job.getId(), e.getMessage(), e);
+    } finally {
+      if (ownership == Ownership.REDIS_LOCK) {
+        // Persist the outcome before giving up the lock, otherwise a concurrent poll could still
+        // see the job as due and run it a second time
+        boolean persisted = saveOutcomeIfCurrent(job, lock.fencingToken());
+        jobLockService.release(lock);
+        if (!persisted) {
+          log.warn(
+              "Discarding outcome of job {} (ID: {}): fencing token {} is stale, the job was taken"
+                  + " over by another node",
+              job.getName(),
+              job.getId(),
+              lock.fencingToken());
+          return;
+        }
+      } else if (!jobClaimService.saveOutcome(job)) {
+        log.warn(
+            "Discarding outcome of job {} (ID: {}): its lease expired and another node took it over",
+            job.getName(),
+            job.getId());
+        return;
+      }
+      if (job.getStatus() == Status.FAILED) {
+        // Only once the outcome is known to be ours, a node that lost the job must not file it
+        moveToDeadLetter(job);
+      }
+      scheduleChanged(job);
+    }
+  }
+
+  /** {@link JobRepository#saveOutcomeIfCurrent}, counting the status transition it persists. */
+  private boolean saveOutcomeIfCurrent(Job job, long fencingToken) {
+    if (!jobRepository.saveOutcomeIfCurrent(job, fencingToken)) {
+      return false;
+    }
+    // A JPQL update, which the entity listener counting other transitions does not see
+    jobStatsCache.statusPersisted(job);
+    return true;
+  }
+
   private void executeJob(Job job) throws Exception {
     try {
       job.setStatus(Status.RUNNING);
@@ -150,7 +484,14 @@ public class JobService {
             JobFailureReason.INVALID_CONFIG, "No executor found for job type: " + job.getJobType());
       }
 
-      executor.execute(job);
+      JobExecution execution = runningJobs.start(job);
+      try {
+        runCancellable(executor, job, execution);
+      } finally {
+        // Clears the interrupt of a cancel before the outcome is persisted: an interrupted thread
+        // fails to check out a pooled connection as soon as it has to wait for one
+        runningJobs.finish(execution);
+      }
 
       job.setStatus(Status.SUCCESS);
       job.setRetryCount(0);
@@ -167,6 +508,33 @@ public class JobService {
       job.setNextRunTime(calculateNextRun(job));
       log.info("Job executed successfully: {} (ID: {})", job.getName(), job.getId());
 
+    } catch (JobDeferredException e) {
+      // Turned away before running: try again later without using up a retry
+      job.setStatus(job.getRetryCount() > 0 ? Status.RETRYING : Status.PENDING);
+      job.setNextRunTime(Instant.now().plus(e.getDelay()));
+      log.info(
+          "Job deferred: {} (ID: {}) - {}, next attempt at {}",
+          job.getName(),
+          job.getId(),
+          e.getMessage(),
+          job.getNextRunTime());
+
+    } catch (JobCancelledException e) {
+      // Only this run stops: a recurring job keeps its schedule, a one-time job ends here
+      Instant nextRun = calculateNextRun(job);
+      job.setStatus(nextRun != null ? Status.PENDING : Status.CANCELLED);
+      job.setNextRunTime(nextRun);
+      job.setLastError(e.getMessage());
+      log.info("Job cancelled: {} (ID: {})", job.getName(), job.getId());
+      jobHistoryRepository.save(
+          JobHistory.builder()
+              .job(job)
+              .status(Status.CANCELLED)
+              .retryAttempt(job.getRetryCount())
+              .errorMessage(e.getMessage())
+              .runTime(LocalDateTime.now())
+              .build());
+
     } catch (JobExecutionException e) {
       log.error(
           "Job execution failed: {} - Reason: {}, Message: {}",
@@ -180,14 +548,18 @@ public class JobService {
       job.setRetryCount(nextRetry);
 
       if (retryable && nextRetry < job.getMaxRetries()) {
-        long delayMinutes = (long) Math.pow(2, nextRetry);
+        Duration retryAfter =
+            e instanceof RetryableJobException retryableException
+                ? retryableException.getRetryAfter()
+                : null;
+        Duration delay = retryPolicy.backoffDelay(job, reason, nextRetry, retryAfter);
         job.setStatus(Status.RETRYING);
-        job.setNextRunTime(LocalDateTime.now().plusMinutes(delayMinutes));
+        job.setNextRunTime(Instant.now().plus(delay));
         log.info(
-            "Job scheduled for retry {} of {} with {} minute delay: {}",
+            "Job scheduled for retry {} of {} with {} ms delay: {}",
             nextRetry,
             job.getMaxRetries(),
-            delayMinutes,
+            delay.toMillis(),
             job.getName());
       } else {
         job.setStatus(Status.FAILED);
@@ -198,7 +570,6 @@ public class JobService {
             retryable,
             nextRetry,
             job.getMaxRetries());
-        moveToDeadLetter(job);
       }
 
       job.setLastError(e.getMessage());
@@ -213,18 +584,30 @@ public class JobService {
     }
   }
 
-  private boolean acquireLock(Job job) {
-    String key = "job-lock:" + job.getId();
-    Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, "LOCKED", 5, TimeUnit.MINUTES);
-    return locked != null && locked;
+  /**
+   * Runs the executor within its execution, turning whatever a cancelled run ends with into the
+   * failure matching the cancellation.
+   */
+  private static void runCancellable(JobExecutor executor, Job job, JobExecution execution)
+      throws Exception {
+    try {
+      execution.checkpoint();
+      executor.execute(job, execution);
+    } catch (JobCancelledException | JobDeferredException e) {
+      throw e;
+    } catch (Exception e) {
+      if (execution.isCancelled()) {
+        throw execution.cancellationFailure(e);
+      }
+      throw e;
+    }
   }
 
-  private void releaseLock(Job job) {
-    redisTemplate.delete("job-lock:" + job.getId());
+  private void scheduleChanged(Job job) {
+    eventPublisher.publishEvent(JobScheduleChangedEvent.of(job));
   }
 
   private void moveToDeadLetter(Job job) {
-    jobRepository.save(job);
     deadLetterJobRepository.save(
         DeadLetterJob.builder()
             .job(job)
@@ -234,30 +617,36 @@ public class JobService {
     log.info("Job moved to dead letter queue: {} (ID: {})", job.getName(), job.getId());
   }
 
-  private LocalDateTime calculateNextRun(Job job) {
+  private Instant calculateNextRun(Job job) {
     if (!job.isRecurring() || job.getCronExpression() == null) return null;
     try {
-      return CronExpressionUtil.getNextRunTime(job.getCronExpression(), LocalDateTime.now());
+      return nextCronRun(job);
     } catch (Exception e) {
       log.error("Error calculating next run time for job {}: {}", job.getId(), e.getMessage());
-      return LocalDateTime.now().plusMinutes(5);
+      return Instant.now().plus(Duration.ofMinutes(5));
     }
   }
 
-  public List<JobResponse> getJobs(UUID userId) {
+  private Instant nextCronRun(Job job) {
+    return JobSchedules.nextFireTime(job, misfireHandler.nextFireBase(job, Instant.now()));
+  }
+
+  /**
+   * @param cursor {@code nextCursor} of the previous page, {@code null} for the first page
+   * @param size page size, {@code null} for {@code jobpulse.api.page.default-size}
+   */
+  public PageResponse<JobResponse> getJobs(UUID userId, String cursor, Integer size) {
     User user = resolveUser(userId);
-    return jobRepository.findByOwner(user).stream()
-        .filter(job -> job.getStatus() != Status.FAILED)
-        .map(JobService::mapToJobResponse)
-        .toList();
+    int pageSize = pageSize(size);
+    return jobPage(
+        jobRepository.findPageByOwner(user, beforeId(cursor), Limit.of(pageSize + 1)), pageSize);
   }
 
   public JobResponse getJob(long id, UUID userId) {
     User user = resolveUser(userId);
-    return mapToJobResponse(
-        jobRepository
-            .findByIdAndOwner(id, user)
-            .orElseThrow(() -> new ResourceNotFoundException("Job not found")));
+    return jobRepository
+        .findResponseByIdAndOwner(id, user)
+        .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
   }
 
   public void deleteJob(long id, UUID userId) {
@@ -270,6 +659,8 @@ public class JobService {
         .filter(dl -> dl.getJob().getId() == id)
         .forEach(deadLetterJobRepository::delete);
     jobRepository.delete(job);
+    jobLockService.forget(id);
+    eventPublisher.publishEvent(JobScheduleChangedEvent.removed(id));
   }
 
   public JobResponse replayDeadJob(Long deadJobId, UUID userId) {
@@ -294,18 +685,17 @@ public class JobService {
 
     if (originalJob.isRecurring() && originalJob.getCronExpression() != null) {
       try {
-        originalJob.setNextRunTime(
-            CronExpressionUtil.getNextRunTime(
-                originalJob.getCronExpression(), LocalDateTime.now()));
+        originalJob.setNextRunTime(nextCronRun(originalJob));
       } catch (Exception e) {
         log.warn("Failed to parse cron expression, scheduling for immediate execution");
-        originalJob.setNextRunTime(LocalDateTime.now().plusSeconds(1));
+        originalJob.setNextRunTime(Instant.now().plusSeconds(1));
       }
     } else {
-      originalJob.setNextRunTime(LocalDateTime.now().plusSeconds(1));
+      originalJob.setNextRunTime(Instant.now().plusSeconds(1));
     }
 
     Job savedJob = jobRepository.save(originalJob);
+    scheduleChanged(savedJob);
     deadLetterJobRepository.delete(dlJob);
     log.info(
         "Dead letter job replayed successfully: {} (ID: {})",
@@ -314,63 +704,53 @@ public class JobService {
     return mapToJobResponse(savedJob);
   }
 
-  public List<DeadLetterJobResponse> getDeadLetterJobs(UUID userId) {
+  public PageResponse<DeadLetterJobResponse> getDeadLetterJobs(
+      UUID userId, String cursor, Integer size) {
     User user = resolveUser(userId);
-    return deadLetterJobRepository.findByJob_Owner(user).stream()
-        .map(
-            dlj ->
-                DeadLetterJobResponse.builder()
-                    .id(dlj.getId())
-                    .jobName(dlj.getJob().getName())
-                    .jobType(
-                        dlj.getJob().getJobType() != null ? dlj.getJob().getJobType().name() : null)
-                    .lastError(dlj.getLastError())
-                    .failedAt(dlj.getFailedAt())
-                    .retryCount(dlj.getJob().getRetryCount())
-                    .maxRetries(dlj.getJob().getMaxRetries())
-                    .build())
-        .toList();
-  }
-
-  public List<JobHistoryResponse> getJobHistory(long jobId, UUID userId) {
+    int pageSize = pageSize(size);
+    return PageResponse.of(
+        deadLetterJobRepository.findPageByOwner(user, beforeId(cursor), Limit.of(pageSize + 1)),
+        pageSize,
+        dlj -> PageCursor.encode(dlj.getId()));
+  }
+
+  public PageResponse<JobHistoryResponse> getJobHistory(
+      long jobId, UUID userId, String cursor, Integer size) {
     User user = resolveUser(userId);
-    Job job =
-        jobRepository
-            .findByIdAndOwner(jobId, user)
-            .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
-    return jobHistoryRepository.findByJobOrderByRunTimeDesc(job).stream()
-        .map(
-            jh ->
-                JobHistoryResponse.builder()
-                    .id(jh.getId())
-                    .runTime(jh.getRunTime())
-                    .status(jh.getStatus())
-                    .errorMessage(jh.getErrorMessage())
-                    .retryAttempt(jh.getRetryAttempt())
-                    .build())
-        .toList();
+    if (!jobRepository.existsByIdAndOwner(jobId, user)) {
+      throw new ResourceNotFoundException("Job not found");
+    }
+    int pageSize = pageSize(size);
+    Limit limit = Limit.of(pageSize + 1);
+    List<JobHistoryResponse> rows;
+    if (cursor == null) {
+      rows = jobHistoryRepository.findPageByJob(jobId, limit);
+    } else {
+      String[] keys = PageCursor.decode(cursor, 2);
+      try {
+        rows =
+            jobHistoryRepository.findPageByJobAfter(
+                jobId, LocalDateTime.parse(keys[0]), Long.parseLong(keys[1]), limit);
+      } catch (DateTimeParseException | NumberFormatException e) {
+        throw new BadRequestException("Invalid page cursor", e);
+      }
+    }
+    return PageResponse.of(rows, pageSize, jh -> PageCursor.encode(jh.getRunTime(), jh.getId()));
   }
 
   public JobStatsResponse getJobStats(UUID userId) {
     User user = resolveUser(userId);
-    List<Job> allJobs = jobRepository.findByOwner(user);
-    List<DeadLetterJob> deadLetterJobs = deadLetterJobRepository.findByJob_Owner(user);
-
-    long pending = allJobs.stream().filter(j -> j.getStatus() == Status.PENDING).count();
-    long running = allJobs.stream().filter(j -> j.getStatus() == Status.RUNNING).count();
-    long success = allJobs.stream().filter(j -> j.getStatus() == Status.SUCCESS).count();
-    long retrying = allJobs.stream().filter(j -> j.getStatus() == Status.RETRYING).count();
-    long failed = allJobs.stream().filter(j -> j.getStatus() == Status.FAILED).count();
-
-    return JobStatsResponse.builder()
-        .totalJobs(allJobs.size())
-        .pendingJobs(pending)
-        .runningJobs(running)
-        .successfulJobs(success)
-        .retryingJobs(retrying)
-        .failedJobs(failed)
-        .deadLetterJobs(deadLetterJobs.size())
-        .build();
+    Optional<JobStatsResponse> cached = jobStatsCache.get(user.getId());
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    for (StatusCount count : jobRepository.countByStatus(user)) {
+      byStatus.put(count.status(), count.count());
+    }
+    long deadLetters = deadLetterJobRepository.countByJob_Owner(user);
+    jobStatsCache.put(user.getId(), byStatus, deadLetters);
+    return JobStatsResponse.of(byStatus, deadLetters);
   }
 
   public JobResponse pauseJob(long id, UUID userId) {
@@ -380,7 +760,41 @@ public class JobService {
             .findByIdAndOwner(id, user)
             .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
     job.setStatus(Status.PAUSED);
-    return mapToJobResponse(jobRepository.save(job));
+    Job saved = jobRepository.save(job);
+    scheduleChanged(job);
+    return mapToJobResponse(saved);
+  }
+
+  /**
+   * Cancels the running execution of a job, on whichever node holds it.
+   *
+   * @return {@code true} if the job ran on this node and was cancelled here; otherwise the request
+   *     was published to the other nodes
+   */
+  public boolean cancelJob(long id, UUID userId) {
+    User user = resolveUser(userId);
+    Job job =
+        jobRepository
+            .findByIdAndOwner(id, user)
+            .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+    if (!mayBeRunning(job)) {
+      throw new BadRequestException("Job is not running");
+    }
+    log.info("Cancelling running job: {} (ID: {})", job.getName(), job.getId());
+    return runningJobs.requestCancel(id);
+  }
+
+  /**
+   * Whether a run of {@code job} may be in progress on some node. Only the due-queue path persists
+   * RUNNING: a skip-locked claim leaves the row CLAIMED with its node in {@code claimed_by}, and a
+   * run under a Redis lock leaves the row as it was, the lock being its only trace.
+   */
+  private boolean mayBeRunning(Job job) {
+    return job.getStatus() == Status.RUNNING
+        || job.getStatus() == Status.CLAIMED
+        || job.getClaimedBy() != null
+        || runningJobs.isRunning(job.getId())
+        || jobLockService.isLocked(job.getId());
   }
 
   public JobResponse resumeJob(long id, UUID userId) {
@@ -394,10 +808,12 @@ public class JobService {
           "Cannot resume a failed job. Use replay from the dead letter queue.");
     }
     job.setStatus(Status.PENDING);
-    if (job.getNextRunTime() == null || job.getNextRunTime().isBefore(LocalDateTime.now())) {
-      job.setNextRunTime(LocalDateTime.now().plusSeconds(10));
+    if (job.getNextRunTime() == null || job.getNextRunTime().isBefore(Instant.now())) {
+      job.setNextRunTime(Instant.now().plusSeconds(10));
     }
-    return mapToJobResponse(jobRepository.save(job));
+    Job saved = jobRepository.save(job);
+    scheduleChanged(job);
+    return mapToJobResponse(saved);
   }
 
   public void bulkOperation(List<Long> jobIds, String operation, UUID userId) {
@@ -428,30 +844,67 @@ public class JobService {
     }
 
     jobRepository.saveAll(jobs);
+    jobs.forEach(this::scheduleChanged);
   }
 
-  public List<JobResponse> searchJobs(String query, UUID userId) {
+  public PageResponse<JobResponse> searchJobs(
+      String query, UUID userId, String cursor, Integer size) {
     User user = resolveUser(userId);
-    return jobRepository.searchByOwnerAndQuery(user, query).stream()
-        .filter(job -> job.getStatus() != Status.FAILED)
-        .map(JobService::mapToJobResponse)
-        .toList();
+    int pageSize = pageSize(size);
+    return jobPage(
+        jobRepository.searchPageByOwnerAndQuery(
+            user, query, beforeId(cursor), Limit.of(pageSize + 1)),
+        pageSize);
   }
 
-  public List<JobResponse> filterByStatus(Status status, UUID userId) {
+  public PageResponse<JobResponse> filterByStatus(
+      Status status, UUID userId, String cursor, Integer size) {
     User user = resolveUser(userId);
-    return jobRepository.findByOwnerAndStatus(user, status).stream()
-        .map(JobService::mapToJobResponse)
-        .toList();
+    int pageSize = pageSize(size);
+    return jobPage(
+        jobRepository.findPageByOwnerAndStatus(
+            user, status, beforeId(cursor), Limit.of(pageSize + 1)),
+        pageSize);
   }
 
-  public List<JobResponse> filterByDateRange(
-      LocalDateTime startDate, LocalDateTime endDate, UUID userId) {
+  public PageResponse<JobResponse> filterByDateRange(
+      LocalDateTime startDate, LocalDateTime endDate, UUID userId, String cursor, Integer size) {
     User user = resolveUser(userId);
-    return jobRepository.findByOwnerAndDateRange(user, startDate, endDate).stream()
-        .filter(job -> job.getStatus() != Status.FAILED)
-        .map(JobService::mapToJobResponse)
-        .toList();
+    int pageSize = pageSize(size);
+    return jobPage(
+        jobRepository.findPageByOwnerAndDateRange(
+            user, startDate, endDate, beforeId(cursor), Limit.of(pageSize + 1)),
+        pageSize);
+  }
+
+  private static PageResponse<JobResponse> jobPage(List<JobResponse> rows, int pageSize) {
+    return PageResponse.of(rows, pageSize, job -> PageCursor.encode(job.getId()));
+  }
+
+  /**
+   * @throws BadRequestException if {@code requested} is outside 1..{@code
+   *     jobpulse.api.page.max-size}
+   */
+  private int pageSize(Integer requested) {
+    if (requested == null) {
+      return defaultPageSize;
+    }
+    if (requested < 1 || requested > maxPageSize) {
+      throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+    }
+    return requested;
+  }
+
+  /** Id the next page of an id-ordered listing starts below. */
+  private static long beforeId(String cursor) {
+    if (cursor == null) {
+      return Long.MAX_VALUE;
+    }
+    try {
+      return Long.parseLong(PageCursor.decode(cursor, 1)[0]);
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Invalid page cursor", e);
+    }
   }
 
   public static JobResponse mapToJobResponse(Job job) {
@@ -460,11 +913,20 @@ public class JobService {
         .name(job.getName())
         .cronExpression(job.getCronExpression())
         .maxRetries(job.getMaxRetries())
+        .priority(job.getPriority())
         .status(job.getStatus())
         .lastError(job.getLastError())
         .recurring(job.isRecurring())
         .retryCount(job.getRetryCount())
         .nextRunTime(job.getNextRunTime())
+        .timeZone(job.getTimeZone())
+        .misfirePolicy(job.getMisfirePolicy())
+        .spreadSeconds(job.getSpreadSeconds())
+        .retryBaseDelayMs(job.getRetryBaseDelayMs())
+        .retryMultiplier(job.getRetryMultiplier())
+        .retryMaxDelayMs(job.getRetryMaxDelayMs())
+        .retryJitter(job.getRetryJitter())
+        .timeoutSeconds(job.getTimeoutSeconds())
         .jobType(job.getJobType() != null ? job.getJobType().name() : null)
         .payload(job.getPayload())
         .build();
@@ -0,0 +1,166 @@
+package com.jobpulse.service;
+
+import com.jobpulse.dto.response.JobStatsResponse;
+import com.jobpulse.model.Job;
+import com.jobpulse.model.Status;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-owner job counters behind {@code /jobs/stats}, kept in a Redis hash of job count per status
+ * plus the dead letter count, so the endpoint reads one key whatever the owner's job count.
+ *
+ * <p>A hash is built from the owner's {@code GROUP BY status} aggregate on the first read and then
+ * maintained incrementally: every status transition of a job moves one count from the old status to
+ * the new one once the write commits. Transitions of an owner without a hash are dropped, the next
+ * read rebuilds it. Hashes expire after {@code jobpulse.stats.cache.ttl-seconds}, which bounds the
+ * drift from a transition racing a rebuild. When Redis is unavailable stats are aggregated from the
+ * table on every read.
+ */
+@Service
+@Slf4j
+public class JobStatsCache {
+
+  static final String KEY_PREFIX = "jobpulse:stats:";
+  static final String DEAD_LETTERS = "DEAD_LETTERS";
+
+  private static final RedisScript<Long> INCREMENT_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end\n"
+              + "for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end\n"
+              + "return 1",
+          Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  @Value("${jobpulse.stats.cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${jobpulse.stats.cache.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  public JobStatsCache(RedisTemplate<String, String> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * @return the cached stats of {@code ownerId}, empty if they have to be aggregated
+   */
+  public Optional<JobStatsResponse> get(UUID ownerId) {
+    if (!enabled) return Optional.empty();
+    Map<Object, Object> entries;
+    try {
+      entries = redisTemplate.opsForHash().entries(key(ownerId));
+    } catch (DataAccessException e) {
+      log.warn("Reading cached stats failed, aggregating instead: {}", e.getMessage());
+      return Optional.empty();
+    }
+    if (entries == null || entries.isEmpty()) {
+      return Optional.empty();
+    }
+    Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    long deadLetters = 0;
+    for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+      long count = Long.parseLong((String) entry.getValue());
+      if (DEAD_LETTERS.equals(entry.getKey())) {
+        deadLetters = count;
+      } else {
+        byStatus.put(Status.valueOf((String) entry.getKey()), count);
+      }
+    }
+    return Optional.of(JobStatsResponse.of(byStatus, deadLetters));
+  }
+
+  /** Caches freshly aggregated counts of {@code ownerId} for one TTL. */
+  public void put(UUID ownerId, Map<Status, Long> byStatus, long deadLetters) {
+    if (!enabled) return;
+    Map<String, String> fields = new HashMap<>();
+    for (Status status : Status.values()) {
+      fields.put(status.name(), String.valueOf(byStatus.getOrDefault(status, 0L)));
+    }
+    fields.put(DEAD_LETTERS, String.valueOf(deadLetters));
+    try {
+      redisTemplate.opsForHash().putAll(key(ownerId), fields);
+      redisTemplate.expire(key(ownerId), Duration.ofSeconds(ttlSeconds));
+    } catch (DataAccessException e) {
+      log.warn("Caching stats of owner {} failed: {}", ownerId, e.getMessage());
+    }
+  }
+
+  /**
+   * Records that {@code job} was written with its current status, moving it out of the status it
+   * was last persisted with.
+   */
+  public void statusPersisted(Job job) {
+    Status previous = job.getPersistedStatus();
+    job.setPersistedStatus(job.getStatus());
+    if (job.getOwner() != null) {
+      transition(job.getOwner().getId(), previous, job.getStatus());
+    }
+  }
+
+  /**
+   * @param from status the job left, {@code null} for a new job
+   * @param to status the job entered, {@code null} for a deleted job
+   */
+  public void transition(UUID ownerId, Status from, Status to) {
+    if (from == to) return;
+    List<String> deltas = new ArrayList<>(4);
+    if (from != null) {
+      deltas.add(from.name());
+      deltas.add("-1");
+    }
+    if (to != null) {
+      deltas.add(to.name());
+      deltas.add("1");
+    }
+    increment(ownerId, deltas);
+  }
+
+  public void deadLettersChanged(UUID ownerId, long delta) {
+    increment(ownerId, List.of(DEAD_LETTERS, String.valueOf(delta)));
+  }
+
+  private void increment(UUID ownerId, List<String> deltas) {
+    if (!enabled || ownerId == null) return;
+    // Counting a write that rolls back would leave the counters off until the hash expires
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              apply(ownerId, deltas);
+            }
+          });
+    } else {
+      apply(ownerId, deltas);
+    }
+  }
+
+  private void apply(UUID ownerId, List<String> deltas) {
+    try {
+      redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(ownerId)), deltas.toArray());
+    } catch (DataAccessException e) {
+      log.warn("Updating cached stats of owner {} failed: {}", ownerId, e.getMessage());
+    }
+  }
+
+  private static String key(UUID ownerId) {
+    return KEY_PREFIX + ownerId;
+  }
+}
@@ -26,6 +26,7 @@ public class JobTemplateService {
             .payload(dto.getPayload())
             .cronExpression(dto.getCronExpression())
             .maxRetries(dto.getMaxRetries())
+            .priority(dto.getPriority())
             .isPublic(dto.isPublic())
             .owner(owner)
             .createdAt(LocalDateTime.now())
@@ -72,6 +73,7 @@ public class JobTemplateService {
     template.setPayload(dto.getPayload());
     template.setCronExpression(dto.getCronExpression());
     template.setMaxRetries(dto.getMaxRetries());
+    template.setPriority(dto.getPriority());
     template.setPublic(dto.isPublic());
     template.setUpdatedAt(LocalDateTime.now());
 
@@ -99,6 +101,7 @@ public class JobTemplateService {
         .payload(template.getPayload())
         .cronExpression(template.getCronExpression())
         .maxRetries(template.getMaxRetries())
+        .priority(template.getPriority())
         .isPublic(template.isPublic())
         .createdAt(template.getCreatedAt())
         .updatedAt(template.getUpdatedAt())
@@ -0,0 +1,216 @@
+package com.jobpulse.service;
+
+import com.jobpulse.dto.others.ScheduledJobRef;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.repository.JobRepository;
+import com.jobpulse.util.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fires jobs at their exact next run time instead of on the next 10-second poll, enabled with
+ * {@code jobpulse.scheduler.timing-wheel.enabled=true}.
+ *
+ * <p>Each node keeps the jobs due within {@code jobpulse.scheduler.timing-wheel.horizon-seconds} in
+ * a {@link HierarchicalTimingWheel} ticking every {@code jobpulse.scheduler.timing-wheel.tick-ms}.
+ * The window is extended incrementally from {@link JobRepository} and kept current through {@link
+ * JobScheduleChangedEvent}s, so creating, pausing, rescheduling or deleting a job is reflected
+ * immediately. Fired jobs still take the Redis lock, which keeps nodes with overlapping wheels, and
+ * the regular poll that stays on as a safety net, from running the same job twice. The delay between
+ * a job's next run time and the wheel firing it is exported as {@code
+ * jobpulse.scheduler.timing-wheel.fire.lag}.
+ */
+@Service
+@Slf4j
+public class JobTimingWheel {
+
+  private final JobRepository jobRepository;
+  private final JobService jobService;
+  private final JobClaimService jobClaimService;
+  private final RedisDueQueue redisDueQueue;
+  private final Timer fireLag;
+  private final Object refillLock = new Object();
+
+  @Value("${jobpulse.scheduler.timing-wheel.enabled:false}")
+  private boolean enabled;
+
+  @Value("${jobpulse.scheduler.timing-wheel.tick-ms:10}")
+  private long tickMillis;
+
+  @Value("${jobpulse.scheduler.timing-wheel.horizon-seconds:300}")
+  private long horizonSeconds;
+
+  private HierarchicalTimingWheel wheel;
+  private Instant loadedUntil;
+  // Schedule changes seen while a refill queries the table, newer than the rows it reads
+  private Map<Long, JobScheduleChangedEvent> changedDuringRefill;
+  private Thread ticker;
+  private ExecutorService firer;
+
+  public JobTimingWheel(
+      JobRepository jobRepository,
+      JobService jobService,
+      JobClaimService jobClaimService,
+      RedisDueQueue redisDueQueue,
+      MeterRegistry meterRegistry) {
+    this.jobRepository = jobRepository;
+    this.jobService = jobService;
+    this.jobClaimService = jobClaimService;
+    this.redisDueQueue = redisDueQueue;
+    this.fireLag =
+        Timer.builder("jobpulse.scheduler.timing-wheel.fire.lag")
+            .description("Delay between a job's scheduled time and the timing wheel firing it")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) return;
+    if (redisDueQueue.isEnabled() || jobClaimService.isEnabled()) {
+      log.warn("Timing wheel only works with the redis-lock claim strategy, not starting it");
+      return;
+    }
+
+    synchronized (this) {
+      // Level 0 covers 2.56s at the default tick, level 1 ~2.7min and level 2 ~2.9h
+      wheel = new HierarchicalTimingWheel(tickMillis, System.currentTimeMillis(), 256, 64, 64);
+    }
+    firer = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "timing-wheel-fire"));
+    refill();
+    ticker = daemon(this::tickLoop, "timing-wheel-tick");
+    ticker.start();
+    log.info("Timing wheel started: {} ms tick, {} s horizon", tickMillis, horizonSeconds);
+  }
+
+  /** Extends the loaded window so it always reaches {@code horizon-seconds} ahead. */
+  @Scheduled(fixedDelayString = "${jobpulse.scheduler.timing-wheel.refill-interval-ms:30000}")
+  public void refill() {
+    if (!isRunning()) return;
+
+    synchronized (refillLock) {
+      Instant until = Instant.now().plusSeconds(horizonSeconds);
+      Instant from;
+      synchronized (this) {
+        from = loadedUntil;
+        changedDuringRefill = new HashMap<>();
+      }
+      // Queried without holding the wheel, so the ticker keeps firing while the query runs
+      List<ScheduledJobRef> refs =
+          from == null
+              ? jobRepository.findScheduledJobRefsUntil(until)
+              : jobRepository.findScheduledJobRefsBetween(from, until);
+      int size;
+      synchronized (this) {
+        for (ScheduledJobRef ref : refs) {
+          if (!changedDuringRefill.containsKey(ref.id())) {
+            wheel.add(ref.id(), toMillis(ref.nextRunTime()));
+          }
+        }
+        loadedUntil = until;
+        // Applied again against the extended window, a change beyond the old one is not lost
+        changedDuringRefill.values().forEach(this::apply);
+        changedDuringRefill = null;
+        size = wheel.size();
+      }
+      log.debug("Timing wheel loaded {} jobs, {} scheduled in total", refs.size(), size);
+    }
+  }
+
+  @EventListener
+  public synchronized void onScheduleChanged(JobScheduleChangedEvent event) {
+    if (wheel == null) return;
+    if (changedDuringRefill != null) {
+      changedDuringRefill.put(event.jobId(), event);
+    }
+    if (loadedUntil != null) {
+      apply(event);
+    }
+  }
+
+  private void apply(JobScheduleChangedEvent event) {
+    if (event.isSchedulable() && !event.nextRunTime().isAfter(loadedUntil)) {
+      wheel.add(event.jobId(), toMillis(event.nextRunTime()));
+    } else {
+      // Jobs beyond the loaded window are picked up by a later refill
+      wheel.remove(event.jobId());
+    }
+  }
+
+  public synchronized int scheduledCount() {
+    return wheel == null ? 0 : wheel.size();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (ticker != null) {
+      ticker.interrupt();
+    }
+    if (firer != null) {
+      firer.shutdownNow();
+    }
+  }
+
+  private boolean isRunning() {
+    return wheel != null;
+  }
+
+  private void tickLoop() {
+    while (!Thread.currentThread().isInterrupted()) {
+      List<Long> fired = new ArrayList<>();
+      long now = System.currentTimeMillis();
+      synchronized (this) {
+        wheel.advanceTo(
+            now,
+            (id, deadline) -> {
+              fired.add(id);
+              fireLag.record(Math.max(0, now - deadline), TimeUnit.MILLISECONDS);
+            });
+      }
+      if (!fired.isEmpty()) {
+        firer.execute(() -> fire(fired));
+      }
+      try {
+        Thread.sleep(Duration.ofMillis(tickMillis));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void fire(List<Long> jobIds) {
+    try {
+      jobService.runFiredJobs(jobIds);
+    } catch (Exception e) {
+      log.error(
+          "Failed to run {} jobs fired by the timing wheel: {}", jobIds.size(), e.getMessage(), e);
+    }
+  }
+
+  private static long toMillis(Instant time) {
+    // Round up so a job never fires before its next run time
+    return time.toEpochMilli() + (time.getNano() % 1_000_000 > 0 ? 1 : 0);
+  }
+
+  private static Thread daemon(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,286 @@
+package com.jobpulse.service;
+
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs due jobs when the earliest known next run time is reached instead of waiting for the next
+ * poll, enabled with {@code jobpulse.scheduler.wakeup.enabled=true}.
+ *
+ * <p>The scheduler thread sleeps until the earliest {@code nextRunTime} of the pending jobs this
+ * node schedules, but never longer than {@code jobpulse.scheduler.wakeup.max-sleep-ms}. Jobs that
+ * were already due when the last run started and are still pending (locked by another node,
+ * deferred by a saturated lane) do not count: the regular poll retries them, otherwise the loop
+ * would keep waking for work it cannot take. Runs are serialized with the regular poll by {@link
+ * JobService#runDueJobs()}.
+ *
+ * <p>A {@link JobScheduleChangedEvent} for a job due before the planned wake-up wakes it early.
+ * When it moves the wake-up earlier it is also broadcast to the other nodes with {@code NOTIFY
+ * jobpulse_schedule}, each node keeping one pooled connection on {@code LISTEN} to receive them;
+ * with partitioning on, only jobs of partitions owned by another node are broadcast, and nodes
+ * ignore notifications for jobs they do not own. Once enabled, {@code
+ * jobpulse.scheduler.poll-interval-ms} can be raised, the regular poll then only acts as a safety
+ * net.
+ */
+@Service
+@Slf4j
+public class JobWakeupScheduler {
+
+  static final String CHANNEL = "jobpulse_schedule";
+
+  private final JobRepository jobRepository;
+  private final JobService jobService;
+  private final ClusterMembership clusterMembership;
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSource dataSource;
+  private final Object monitor = new Object();
+
+  @Value("${jobpulse.scheduler.wakeup.enabled:false}")
+  private boolean enabled;
+
+  @Value("${jobpulse.scheduler.wakeup.listen:true}")
+  private boolean listen;
+
+  @Value("${jobpulse.scheduler.wakeup.max-sleep-ms:60000}")
+  private long maxSleepMillis;
+
+  // Lower bound between two runs, so jobs that stay due (saturated lanes, locked elsewhere) do not
+  // turn the loop into a busy poll
+  @Value("${jobpulse.scheduler.wakeup.min-interval-ms:500}")
+  private long minIntervalMillis;
+
+  private long nextWakeMillis = Long.MAX_VALUE;
+  private Thread sleeper;
+  private Thread listener;
+
+  public JobWakeupScheduler(
+      JobRepository jobRepository,
+      JobService jobService,
+      ClusterMembership clusterMembership,
+      JdbcTemplate jdbcTemplate,
+      DataSource dataSource) {
+    this.jobRepository = jobRepository;
+    this.jobService = jobService;
+    this.clusterMembership = clusterMembership;
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSource = dataSource;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) return;
+
+    synchronized (monitor) {
+      nextWakeMillis = System.currentTimeMillis();
+    }
+    sleeper = daemon(this::sleepLoop, "wakeup-scheduler");
+    sleeper.start();
+    if (listen) {
+      listener = daemon(this::listenLoop, "wakeup-listener");
+      listener.start();
+    }
+    log.info("Wake-up scheduler started, sleeping at most {} ms between runs", maxSleepMillis);
+  }
+
+  @EventListener
+  public void onScheduleChanged(JobScheduleChangedEvent event) {
+    if (!isRunning() || !event.isSchedulable()) return;
+
+    long runAt = toMillis(event.nextRunTime());
+    if (runAt >= System.currentTimeMillis() + maxSleepMillis) {
+      // Outside the current window, every node will pick it up on a regular wake-up
+      return;
+    }
+    if (!clusterMembership.isEnabled()) {
+      // Every node scans every job, the others only need to hear about an earlier wake-up
+      if (wakeAt(runAt)) {
+        notifyOtherNodes(event.jobId(), runAt);
+      }
+    } else if (clusterMembership.owns(event.jobId())) {
+      wakeAt(runAt);
+    } else {
+      notifyOtherNodes(event.jobId(), runAt);
+    }
+  }
+
+  /**
+   * Makes the scheduler run no later than {@code runAtMillis}.
+   *
+   * @return whether this moved the planned wake-up earlier
+   */
+  public boolean wakeAt(long runAtMillis) {
+    synchronized (monitor) {
+      if (runAtMillis < nextWakeMillis) {
+        nextWakeMillis = runAtMillis;
+        monitor.notifyAll();
+        return true;
+      }
+      return false;
+    }
+  }
+
+  public long nextWakeMillis() {
+    synchronized (monitor) {
+      return nextWakeMillis;
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (sleeper != null) {
+      sleeper.interrupt();
+    }
+    if (listener != null) {
+      listener.interrupt();
+    }
+  }
+
+  private boolean isRunning() {
+    return sleeper != null;
+  }
+
+  private void sleepLoop() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        synchronized (monitor) {
+          long delay = nextWakeMillis - System.currentTimeMillis();
+          if (delay > 0) {
+            monitor.wait(delay);
+            // Woken early or on time, re-check against a possibly earlier target
+            continue;
+          }
+          // Wake-ups requested while the jobs run must survive the reschedule below
+          nextWakeMillis = Long.MAX_VALUE;
+        }
+        Instant runStartedAt = Instant.now();
+        runDueJobs();
+        scheduleNextWake(runStartedAt);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void runDueJobs() {
+    try {
+      jobService.runDueJobs();
+    } catch (Exception e) {
+      log.error("Wake-up run of due jobs failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private void scheduleNextWake(Instant runStartedAt) {
+    long now = System.currentTimeMillis();
+    long next = now + maxSleepMillis;
+    try {
+      Instant earliest = findEarliestNextRunTimeAfter(runStartedAt);
+      if (earliest != null) {
+        next = Math.min(next, Math.max(toMillis(earliest), now + minIntervalMillis));
+      }
+    } catch (DataAccessException e) {
+      log.warn("Could not look up the earliest next run time: {}", e.getMessage());
+    }
+    wakeAt(next);
+  }
+
+  /** Earliest run time after {@code after} among the jobs this node schedules. */
+  private Instant findEarliestNextRunTimeAfter(Instant after) {
+    List<Integer> partitions =
+        clusterMembership.isEnabled() ? clusterMembership.ownedPartitions() : null;
+    if (partitions == null) {
+      return jobRepository.findEarliestNextRunTimeAfter(after);
+    }
+    if (partitions.isEmpty()) {
+      return null;
+    }
+    return jobRepository.findEarliestNextRunTimeAfterInPartitions(
+        after, clusterMembership.partitionCount(), partitions);
+  }
+
+  private void notifyOtherNodes(long jobId, long runAtMillis) {
+    try {
+      // Delivered on commit when called inside a transaction
+      jdbcTemplate.query(
+          "SELECT pg_notify(?, ?)",
+          (ResultSetExtractor<Void>) rs -> null,
+          CHANNEL,
+          jobId + ":" + runAtMillis);
+    } catch (DataAccessException e) {
+      log.debug("Could not NOTIFY {}: {}", CHANNEL, e.getMessage());
+    }
+  }
+
+  private void listenLoop() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try (Connection connection = dataSource.getConnection()) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Listening for schedule notifications on {}", CHANNEL);
+        while (!Thread.currentThread().isInterrupted()) {
+          PGNotification[] notifications =
+              pgConnection.getNotifications((int) Math.min(maxSleepMillis, Integer.MAX_VALUE));
+          if (notifications == null) continue;
+          for (PGNotification notification : notifications) {
+            onNotification(notification.getParameter());
+          }
+        }
+      } catch (SQLException e) {
+        log.warn("Schedule notification listener failed, reconnecting: {}", e.getMessage());
+        try {
+          Thread.sleep(Duration.ofSeconds(5));
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  /** Handles a {@code <jobId>:<runAtMillis>} payload from another node. */
+  void onNotification(String payload) {
+    int separator = payload.indexOf(':');
+    try {
+      long runAt = Long.parseLong(payload.substring(separator + 1));
+      if (separator > 0) {
+        long jobId = Long.parseLong(payload.substring(0, separator));
+        if (!clusterMembership.owns(jobId)) {
+          return;
+        }
+      }
+      wakeAt(runAt);
+    } catch (NumberFormatException e) {
+      // Unknown payload, just run now
+      wakeAt(System.currentTimeMillis());
+    }
+  }
+
+  private static long toMillis(Instant time) {
+    // Round up so the job is already due when the scheduler wakes for it
+    return time.toEpochMilli() + (time.getNano() % 1_000_000 > 0 ? 1 : 0);
+  }
+
+  private static Thread daemon(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
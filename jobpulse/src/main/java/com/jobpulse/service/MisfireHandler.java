@@ -0,0 +1,218 @@
+package com.jobpulse.service;
+
+import com.jobpulse.model.Job;
+import com.jobpulse.model.MisfirePolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies each job's {@link MisfirePolicy} and, optionally, throttles catch-up after downtime.
+ *
+ * <p>A job is misfired when its next run time is more than {@code
+ * jobpulse.scheduler.misfire.threshold-seconds} in the past. Without throttling, a node coming back
+ * after two hours would dispatch every misfired job on its first tick. Setting {@code
+ * jobpulse.scheduler.recovery.window-seconds} and/or {@code jobpulse.scheduler.recovery.max-rate}
+ * (catch-up runs per second) turns on recovery mode: when a tick first sees misfired jobs, the
+ * backlog is spread evenly over the window, never faster than the max rate, and misfired jobs over
+ * the budget are left due for a later tick. Jobs that are on time are never throttled. The budget
+ * is per node. Where a tick only sees one batch of the due jobs, the backlog the window is sized
+ * from is counted in the table when the episode starts.
+ *
+ * <p>Where due jobs are claimed or popped oldest first in batches (skip-locked claims, the Redis due
+ * queue), a deferred job left at its missed fire time would be handed out again on the next tick,
+ * ahead of every on-time job, for as long as the backlog exceeds a batch. There deferred jobs are
+ * moved to a catch-up slot instead ({@link #catchUpSlot}): the instant the budget has grown back
+ * enough to pay for the run. For {@link MisfirePolicy#FIRE_ALL} the catch-up then continues from
+ * that slot, so fire times missed before it are dropped rather than run at the throttled rate.
+ */
+@Component
+@Slf4j
+public class MisfireHandler {
+
+  // Longest idle period that can be saved up as catch-up budget
+  private static final double MAX_BURST_SECONDS = 60;
+
+  private final Counter skipped;
+  private final Counter deferred;
+
+  @Value("${jobpulse.scheduler.misfire.threshold-seconds:60}")
+  private long thresholdSeconds;
+
+  @Value("${jobpulse.scheduler.misfire.max-catch-up-seconds:3600}")
+  private long maxCatchUpSeconds;
+
+  @Value("${jobpulse.scheduler.recovery.window-seconds:0}")
+  private long recoveryWindowSeconds;
+
+  @Value("${jobpulse.scheduler.recovery.max-rate:0}")
+  private double recoveryMaxRate;
+
+  // Recovery state; ticks come from the poller, the wake-up thread and the timing wheel
+  private boolean recovering;
+  private double ratePerSecond;
+  private double tokens;
+  private long lastRefillNanos;
+
+  public MisfireHandler(MeterRegistry meterRegistry) {
+    this.skipped =
+        Counter.builder("jobpulse.scheduler.misfire")
+            .tag("action", "skipped")
+            .register(meterRegistry);
+    this.deferred =
+        Counter.builder("jobpulse.scheduler.misfire")
+            .tag("action", "deferred")
+            .register(meterRegistry);
+  }
+
+  public boolean isMisfired(Job job, Instant now) {
+    return job.getNextRunTime() != null && job.getNextRunTime().isBefore(misfireCutoff(now));
+  }
+
+  /** Jobs due before this instant are misfired. */
+  public Instant misfireCutoff(Instant now) {
+    return now.minusSeconds(thresholdSeconds);
+  }
+
+  /**
+   * Moves a misfired {@link MisfirePolicy#SKIP} job to its next fire time after {@code now}.
+   *
+   * @return {@code true} if the job was rescheduled and must not run on this tick
+   */
+  public boolean skipIfMisfired(Job job, Instant now) {
+    if (policyOf(job) != MisfirePolicy.SKIP
+        || !job.isRecurring()
+        || job.getCronExpression() == null
+        || !isMisfired(job, now)) {
+      return false;
+    }
+    Instant missed = job.getNextRunTime();
+    job.setNextRunTime(JobSchedules.nextFireTime(job, now));
+    skipped.increment();
+    log.info(
+        "Skipping misfired run of job {} (ID: {}) due at {}, next run at {}",
+        job.getName(),
+        job.getId(),
+        missed,
+        job.getNextRunTime());
+    return true;
+  }
+
+  /**
+   * Instant the next fire time of a recurring job is computed from once a run has finished: the
+   * fire time that just ran for {@link MisfirePolicy#FIRE_ALL}, bounded by the catch-up horizon,
+   * and {@code now} otherwise.
+   */
+  public Instant nextFireBase(Job job, Instant now) {
+    if (policyOf(job) != MisfirePolicy.FIRE_ALL || job.getNextRunTime() == null) {
+      return now;
+    }
+    Instant horizon = now.minusSeconds(maxCatchUpSeconds);
+    return job.getNextRunTime().isAfter(horizon) ? job.getNextRunTime() : horizon;
+  }
+
+  /** Starts or ends a recovery episode and refills the catch-up budget for this tick. */
+  public void beginTick(List<Job> dueJobs, Instant now) {
+    beginTick(dueJobs, now, null);
+  }
+
+  /**
+   * {@link #beginTick(List, Instant)} for a tick that only sees one claimed, popped or fired batch
+   * of the due jobs.
+   *
+   * @param backlog counts the misfired jobs still due, asked when an episode starts and before a
+   *     batch without misfired jobs ends one; {@code null} when {@code dueJobs} is the whole
+   *     backlog
+   */
+  public synchronized void beginTick(List<Job> dueJobs, Instant now, LongSupplier backlog) {
+    if (!isRecoveryEnabled()) return;
+
+    long misfired = dueJobs.stream().filter(job -> isMisfired(job, now)).count();
+    long nanos = System.nanoTime();
+    if (misfired == 0 && recovering && backlog != null) {
+      // A batch the wheel fired holds the jobs due right now, not what is left of the backlog
+      misfired = backlog.getAsLong();
+    }
+    if (misfired == 0) {
+      if (recovering) {
+        log.info("Catch-up finished, leaving recovery mode");
+      }
+      recovering = false;
+      return;
+    }
+    if (!recovering) {
+      recovering = true;
+      if (backlog != null) {
+        misfired = Math.max(misfired, backlog.getAsLong());
+      }
+      ratePerSecond =
+          recoveryWindowSeconds > 0
+              ? (double) misfired / recoveryWindowSeconds
+              : Double.POSITIVE_INFINITY;
+      if (recoveryMaxRate > 0) {
+        ratePerSecond = Math.min(ratePerSecond, recoveryMaxRate);
+      }
+      tokens = Math.max(1, ratePerSecond);
+      lastRefillNanos = nanos;
+      log.warn(
+          "{} misfired jobs found, entering recovery mode at {} catch-up runs per second",
+          misfired,
+          String.format("%.2f", ratePerSecond));
+      return;
+    }
+    double elapsedSeconds = (nanos - lastRefillNanos) / 1e9;
+    tokens =
+        Math.min(
+            tokens + elapsedSeconds * ratePerSecond,
+            Math.max(1, ratePerSecond * MAX_BURST_SECONDS));
+    lastRefillNanos = nanos;
+  }
+
+  /**
+   * Whether a due job has to wait for a later tick because it is a catch-up run and the recovery
+   * budget is used up. Consumes budget when it returns {@code false} for a misfired job.
+   */
+  public synchronized boolean deferCatchUp(Job job, Instant now) {
+    if (!recovering || !isMisfired(job, now)) {
+      return false;
+    }
+    if (tokens >= 1) {
+      tokens--;
+      return false;
+    }
+    deferred.increment();
+    return true;
+  }
+
+  /**
+   * {@link #deferCatchUp} for a job that is moved rather than left due: books the deferred run
+   * against the budget that accrues by the returned slot, so jobs moved to successive slots come
+   * back spread at the recovery rate.
+   *
+   * @return the instant to move the job to, {@code null} if it may run now
+   */
+  public synchronized Instant catchUpSlot(Job job, Instant now) {
+    if (!deferCatchUp(job, now)) {
+      return null;
+    }
+    tokens--;
+    return now.plusNanos((long) (-tokens / ratePerSecond * 1e9));
+  }
+
+  synchronized boolean isRecovering() {
+    return recovering;
+  }
+
+  private boolean isRecoveryEnabled() {
+    return recoveryWindowSeconds > 0 || recoveryMaxRate > 0;
+  }
+
+  private static MisfirePolicy policyOf(Job job) {
+    return job.getMisfirePolicy() != null ? job.getMisfirePolicy() : MisfirePolicy.FIRE_ONCE;
+  }
+}
@@ -0,0 +1,143 @@
+package com.jobpulse.service;
+
+import com.jobpulse.dto.others.ScheduledJobRef;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.repository.JobRepository;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis scheduling backend, enabled with {@code jobpulse.scheduler.backend=redis}.
+ *
+ * <p>Every schedulable job is mirrored into a sorted set scored by its next run time in epoch
+ * millis. The scheduler pops due members with a Lua script, so each job is handed to exactly one
+ * node and the {@code job} table is no longer polled; it is only written when a job changes state.
+ * A periodic reconciliation pass repairs drift between the set and the table, e.g. after a node
+ * died between popping a job and persisting its outcome.
+ */
+@Service
+@Slf4j
+public class RedisDueQueue {
+
+  public static final String REDIS_BACKEND = "redis";
+  static final String DUE_JOBS_KEY = "jobpulse:due-jobs";
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> POP_DUE_SCRIPT =
+      new DefaultRedisScript<>(
+          "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])\n"
+              + "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end\n"
+              + "return ids",
+          List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final JobRepository jobRepository;
+
+  @Value("${jobpulse.scheduler.backend:database}")
+  private String backend;
+
+  @Value("${jobpulse.scheduler.redis.batch-size:100}")
+  private int batchSize;
+
+  public RedisDueQueue(RedisTemplate<String, String> redisTemplate, JobRepository jobRepository) {
+    this.redisTemplate = redisTemplate;
+    this.jobRepository = jobRepository;
+  }
+
+  public boolean isEnabled() {
+    return REDIS_BACKEND.equalsIgnoreCase(backend);
+  }
+
+  @EventListener
+  public void onScheduleChanged(JobScheduleChangedEvent event) {
+    if (!isEnabled()) return;
+    if (event.isSchedulable()) {
+      enqueue(event.jobId(), event.nextRunTime());
+    } else {
+      redisTemplate.opsForZSet().remove(DUE_JOBS_KEY, String.valueOf(event.jobId()));
+    }
+  }
+
+  public void enqueue(long jobId, Instant runAt) {
+    redisTemplate.opsForZSet().add(DUE_JOBS_KEY, String.valueOf(jobId), toScore(runAt));
+  }
+
+  /** Atomically removes and returns up to one batch of job ids due at {@code now}. */
+  @SuppressWarnings("unchecked")
+  public List<Long> popDue(Instant now) {
+    List<String> ids =
+        redisTemplate.execute(
+            POP_DUE_SCRIPT,
+            List.of(DUE_JOBS_KEY),
+            String.valueOf((long) toScore(now)),
+            String.valueOf(batchSize));
+    return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+  }
+
+  /**
+   * Makes the sorted set match the schedulable jobs in the table: missing or mis-scored members are
+   * (re)added and members whose job is no longer schedulable are removed.
+   *
+   * <p>The set is read before the table. A job is written to the table before it is enqueued, so
+   * a member added in between is already in the table read and is kept, and a job rescheduled in
+   * between is rescored to its new time rather than back to the old one.
+   *
+   * @return number of members that were added, rescored or removed
+   */
+  @Scheduled(fixedDelayString = "${jobpulse.scheduler.redis.reconcile-interval-ms:300000}")
+  public int reconcile() {
+    if (!isEnabled()) return 0;
+
+    Set<TypedTuple<String>> actual =
+        redisTemplate.opsForZSet().rangeWithScores(DUE_JOBS_KEY, 0, -1);
+
+    Map<String, Double> expected = new HashMap<>();
+    for (ScheduledJobRef ref : jobRepository.findScheduledJobRefs()) {
+      expected.put(String.valueOf(ref.id()), toScore(ref.nextRunTime()));
+    }
+
+    Set<String> present = new HashSet<>();
+    int repaired = 0;
+    if (actual != null) {
+      for (TypedTuple<String> member : actual) {
+        present.add(member.getValue());
+        Double score = expected.get(member.getValue());
+        if (score == null) {
+          redisTemplate.opsForZSet().remove(DUE_JOBS_KEY, member.getValue());
+          repaired++;
+        } else if (!score.equals(member.getScore())) {
+          redisTemplate.opsForZSet().add(DUE_JOBS_KEY, member.getValue(), score);
+          repaired++;
+        }
+      }
+    }
+    for (Map.Entry<String, Double> entry : expected.entrySet()) {
+      if (!present.contains(entry.getKey())) {
+        redisTemplate.opsForZSet().add(DUE_JOBS_KEY, entry.getKey(), entry.getValue());
+        repaired++;
+      }
+    }
+
+    if (repaired > 0) {
+      log.warn("Reconciled due queue with job table, {} members repaired", repaired);
+    }
+    return repaired;
+  }
+
+  private static double toScore(Instant time) {
+    return time.toEpochMilli();
+  }
+}
@@ -27,6 +27,11 @@ public class ReportGenerationJobExecutor implements JobExecutor {
 
   @Override
   public void execute(Job job) {
+    execute(job, JobExecution.unbounded(job.getId()));
+  }
+
+  @Override
+  public void execute(Job job, JobExecution execution) {
     try {
       JsonNode payload = mapper.readTree(job.getPayload());
       validatePayload(payload);
@@ -38,7 +43,7 @@ public class ReportGenerationJobExecutor implements JobExecutor {
       switch (reportType.toLowerCase()) {
         case "user_activity" -> generateUserActivityReport(outputFormat);
         case "job_execution_stats" -> generateJobExecutionStats(outputFormat);
-        case "system_health" -> generateSystemHealthReport(outputFormat);
+        case "system_health" -> generateSystemHealthReport(outputFormat, execution);
         default ->
             throw new NonRetryableJobException(
                 JobFailureReason.INVALID_CONFIG, "Unknown report type: " + reportType);
@@ -88,7 +93,7 @@ public class ReportGenerationJobExecutor implements JobExecutor {
     }
   }
 
-  private void generateSystemHealthReport(String outputFormat) {
+  private void generateSystemHealthReport(String outputFormat, JobExecution execution) {
     try {
       String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME);
 
@@ -98,7 +103,7 @@ public class ReportGenerationJobExecutor implements JobExecutor {
 
       // Get job stats
       String jobStats = "SELECT status, COUNT(*) as count FROM jobs GROUP BY status";
-      Query jobQuery = entityManager.createNativeQuery(jobStats);
+      Query jobQuery = execution.bound(entityManager.createNativeQuery(jobStats));
       var jobResults = jobQuery.getResultList();
 
       report.append("Job Status Distribution:\n");
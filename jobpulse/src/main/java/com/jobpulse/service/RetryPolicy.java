@@ -1,12 +1,29 @@
 package com.jobpulse.service;
 
 import com.jobpulse.dto.others.JobFailureReason;
+import com.jobpulse.model.Job;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import org.springframework.stereotype.Component;
 
+/**
+ * Decides whether a failure is retried and how long to wait before the next attempt.
+ *
+ * <p>The wait is exponential ({@code base * multiplier^(attempt - 1)}, capped) with full jitter by
+ * default, so jobs that failed together do not retry together. Each failure reason has its own
+ * {@link Backoff}; a job can override any part of it. A {@code Retry-After} from the remote side is
+ * honored as a lower bound.
+ */
 @Component
 public class RetryPolicy {
 
+  // Longest Retry-After honored, so a misbehaving server cannot park a job for days
+  static final Duration MAX_RETRY_AFTER = Duration.ofHours(1);
+
+  private static final Backoff DEFAULT_BACKOFF =
+      new Backoff(Duration.ofSeconds(30), 2, Duration.ofMinutes(30), true);
+
   private final Map<JobFailureReason, Boolean> policy =
       Map.of(
           JobFailureReason.NETWORK_ERROR, true,
@@ -18,7 +35,65 @@ public class RetryPolicy {
           JobFailureReason.INVALID_CONFIG, false,
           JobFailureReason.UNKNOWN, false);
 
+  private final Map<JobFailureReason, Backoff> backoffs =
+      Map.of(
+          JobFailureReason.NETWORK_ERROR,
+          new Backoff(Duration.ofSeconds(1), 2, Duration.ofMinutes(5), true),
+          JobFailureReason.TIMEOUT,
+          new Backoff(Duration.ofSeconds(5), 2, Duration.ofMinutes(10), true),
+          JobFailureReason.RATE_LIMITED,
+          new Backoff(Duration.ofSeconds(10), 2, Duration.ofMinutes(15), true),
+          JobFailureReason.REMOTE_5XX,
+          new Backoff(Duration.ofSeconds(2), 2, Duration.ofMinutes(10), true));
+
   public boolean isRetryable(JobFailureReason reason) {
     return policy.getOrDefault(reason, false);
   }
+
+  /** Backoff for a reason, with the job's own settings taking precedence where present. */
+  public Backoff backoffFor(Job job, JobFailureReason reason) {
+    Backoff backoff = backoffs.getOrDefault(reason, DEFAULT_BACKOFF);
+    return new Backoff(
+        job.getRetryBaseDelayMs() != null
+            ? Duration.ofMillis(job.getRetryBaseDelayMs())
+            : backoff.base(),
+        job.getRetryMultiplier() != null ? job.getRetryMultiplier() : backoff.multiplier(),
+        job.getRetryMaxDelayMs() != null
+            ? Duration.ofMillis(job.getRetryMaxDelayMs())
+            : backoff.cap(),
+        job.getRetryJitter() != null ? job.getRetryJitter() : backoff.jitter());
+  }
+
+  /**
+   * Delay before retry {@code attempt} (1 for the first retry).
+   *
+   * @param retryAfter wait requested by the remote side, or {@code null}
+   */
+  public Duration backoffDelay(Job job, JobFailureReason reason, int attempt, Duration retryAfter) {
+    Duration delay =
+        backoffFor(job, reason).delay(attempt, ThreadLocalRandom.current().nextDouble());
+    if (retryAfter != null && !retryAfter.isNegative()) {
+      Duration requested = retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter;
+      if (requested.compareTo(delay) > 0) {
+        delay = requested;
+      }
+    }
+    return delay;
+  }
+
+  /**
+   * Exponential backoff: {@code base * multiplier^(attempt - 1)}, at most {@code cap}. With {@code
+   * jitter} the delay is drawn uniformly from zero to that value ("full jitter").
+   */
+  public record Backoff(Duration base, double multiplier, Duration cap, boolean jitter) {
+
+    /**
+     * @param random uniform sample in {@code [0, 1)}, only used with jitter
+     */
+    Duration delay(int attempt, double random) {
+      double millis = base.toMillis() * Math.pow(Math.max(multiplier, 1), Math.max(attempt - 1, 0));
+      long capped = (long) Math.min(millis, cap.toMillis());
+      return Duration.ofMillis(jitter ? (long) (capped * random) : capped);
+    }
+  }
 }
@@ -0,0 +1,200 @@
+package com.jobpulse.service;
+
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.model.Job;
+import com.jobpulse.service.JobExecution.CancelReason;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks the jobs executing on this node, enforces their wall-clock deadline and cancels them on
+ * request.
+ *
+ * <p>The deadline is the job's {@code timeoutSeconds}, else {@code
+ * jobpulse.executor.<job-type>.timeout-seconds}, else {@code
+ * jobpulse.executor.default-timeout-seconds} (900); 0 disables it. A watchdog thread cancels runs
+ * that pass their deadline with {@link CancelReason#TIMEOUT}.
+ *
+ * <p>A cancel request for a job running on another node is published on the {@value
+ * #CANCEL_CHANNEL} Redis channel; every node listens to it and cancels the job if it holds it.
+ *
+ * <p>Once {@link #beginDrain()} was called (see {@link SchedulerDrain}), runs started afterwards
+ * are cancelled with {@link CancelReason#SHUTDOWN} straight away, so jobs still waiting for a
+ * worker go back to the queue instead of starting on a node that is going down.
+ */
+@Component
+@Slf4j
+public class RunningJobs implements MessageListener {
+
+  public static final String CANCEL_CHANNEL = "jobpulse:jobs:cancel";
+
+  private static final String PREFIX = "jobpulse.executor.";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Environment environment;
+  private final MeterRegistry meterRegistry;
+  private final Map<Long, JobExecution> running = new ConcurrentHashMap<>();
+  private final Map<JobExecution, ScheduledFuture<?>> deadlines = new ConcurrentHashMap<>();
+  private volatile boolean draining;
+  private final ScheduledExecutorService watchdog =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "job-deadline-watchdog");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  public RunningJobs(
+      RedisTemplate<String, String> redisTemplate,
+      Environment environment,
+      MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.environment = environment;
+    this.meterRegistry = meterRegistry;
+    Gauge.builder("jobpulse.executor.running", running, Map::size)
+        .description("Jobs executing on this node")
+        .register(meterRegistry);
+  }
+
+  /** Registers a run of {@code job} on the current thread and arms its deadline. */
+  public JobExecution start(Job job) {
+    long timeoutSeconds = timeoutSeconds(job);
+    Instant deadline = timeoutSeconds > 0 ? Instant.now().plusSeconds(timeoutSeconds) : Instant.MAX;
+    JobExecution execution = new JobExecution(job.getId(), deadline, Thread.currentThread());
+    running.put(job.getId(), execution);
+    if (timeoutSeconds > 0) {
+      deadlines.put(
+          execution,
+          watchdog.schedule(
+              () -> {
+                if (cancel(execution, CancelReason.TIMEOUT)) {
+                  log.warn(
+                      "Job {} exceeded its {} s deadline, cancelling", job.getId(), timeoutSeconds);
+                }
+              },
+              timeoutSeconds,
+              TimeUnit.SECONDS));
+    }
+    if (draining) {
+      cancel(execution, CancelReason.SHUTDOWN);
+    }
+    return execution;
+  }
+
+  public void finish(JobExecution execution) {
+    execution.finish();
+    running.remove(execution.getJobId(), execution);
+    ScheduledFuture<?> deadline = deadlines.remove(execution);
+    if (deadline != null) {
+      deadline.cancel(false);
+    }
+  }
+
+  public boolean isRunning(long jobId) {
+    return running.containsKey(jobId);
+  }
+
+  /** Ids of the jobs executing on this node. */
+  public Set<Long> runningJobIds() {
+    return Set.copyOf(running.keySet());
+  }
+
+  /** Stops new runs from starting: from now on they are handed back as soon as they start. */
+  public void beginDrain() {
+    draining = true;
+  }
+
+  public boolean isDraining() {
+    return draining;
+  }
+
+  /**
+   * Cancels every run on this node with {@link CancelReason#SHUTDOWN}.
+   *
+   * @return number of runs cancelled
+   */
+  public int cancelAll() {
+    int cancelled = 0;
+    for (JobExecution execution : running.values()) {
+      if (cancel(execution, CancelReason.SHUTDOWN)) {
+        cancelled++;
+      }
+    }
+    return cancelled;
+  }
+
+  /**
+   * Cancels the job on this node if it runs here, otherwise asks the other nodes to.
+   *
+   * @return {@code true} if the job was running on this node and is now cancelled
+   */
+  public boolean requestCancel(long jobId) {
+    if (cancelLocal(jobId)) {
+      return true;
+    }
+    redisTemplate.convertAndSend(CANCEL_CHANNEL, String.valueOf(jobId));
+    return false;
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      if (cancelLocal(Long.parseLong(body.trim()))) {
+        log.info("Cancelled job {} on request from another node", body);
+      }
+    } catch (NumberFormatException e) {
+      log.warn("Ignoring malformed cancel request: {}", body);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    watchdog.shutdownNow();
+  }
+
+  private boolean cancelLocal(long jobId) {
+    JobExecution execution = running.get(jobId);
+    return execution != null && cancel(execution, CancelReason.REQUESTED);
+  }
+
+  private boolean cancel(JobExecution execution, CancelReason reason) {
+    if (!execution.cancel(reason)) {
+      return false;
+    }
+    meterRegistry
+        .counter("jobpulse.executor.cancelled", "reason", reason.name().toLowerCase())
+        .increment();
+    return true;
+  }
+
+  private long timeoutSeconds(Job job) {
+    if (job.getTimeoutSeconds() != null) {
+      return job.getTimeoutSeconds();
+    }
+    long defaultTimeout =
+        environment.getProperty(PREFIX + "default-timeout-seconds", Long.class, 900L);
+    JobType type = job.getJobType();
+    if (type == null) {
+      return defaultTimeout;
+    }
+    String key = PREFIX + type.name().toLowerCase().replace('_', '-') + ".timeout-seconds";
+    return environment.getProperty(key, Long.class, defaultTimeout);
+  }
+}
@@ -0,0 +1,87 @@
+package com.jobpulse.service;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains this node on shutdown, so stopping it mid-tick neither strands jobs nor cuts them off.
+ *
+ * <ol>
+ *   <li>The scheduler stops polling, claiming and popping due jobs, and jobs still waiting for a
+ *       worker are handed back as soon as they start (see {@link RunningJobs#beginDrain()}).
+ *   <li>Running jobs get up to {@code jobpulse.scheduler.shutdown.drain-seconds} (30) to finish.
+ *   <li>Whatever still runs is cancelled with {@link JobExecution.CancelReason#SHUTDOWN} and gets
+ *       {@code jobpulse.scheduler.shutdown.handback-seconds} (10) to go back to {@code PENDING} or
+ *       {@code RETRYING}, due immediately and without using up a retry, releasing its Redis lock or
+ *       claim on the way.
+ * </ol>
+ *
+ * Runs that ignore the cancellation are left to their lock TTL or to the lease reaper of {@link
+ * JobClaimService}. Stopping happens as a {@link SmartLifecycle} in the last phase, i.e. before any
+ * bean is destroyed, so the database and Redis are still there while jobs finish.
+ */
+@Component
+@Slf4j
+public class SchedulerDrain implements SmartLifecycle {
+
+  private final JobDispatcher jobDispatcher;
+  private final RunningJobs runningJobs;
+  private volatile boolean running;
+
+  @Value("${jobpulse.scheduler.shutdown.drain-seconds:30}")
+  private long drainSeconds;
+
+  @Value("${jobpulse.scheduler.shutdown.handback-seconds:10}")
+  private long handbackSeconds;
+
+  public SchedulerDrain(JobDispatcher jobDispatcher, RunningJobs runningJobs) {
+    this.jobDispatcher = jobDispatcher;
+    this.runningJobs = runningJobs;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    runningJobs.beginDrain();
+    jobDispatcher.shutdown();
+    log.info(
+        "Draining scheduler: waiting up to {} s for {} running jobs",
+        drainSeconds,
+        runningJobs.runningJobIds().size());
+    try {
+      if (jobDispatcher.awaitTermination(Duration.ofSeconds(drainSeconds))) {
+        log.info("Scheduler drained");
+        return;
+      }
+      int cancelled = runningJobs.cancelAll();
+      log.warn("Drain deadline passed, handing {} running jobs back to the queue", cancelled);
+      if (!jobDispatcher.awaitTermination(Duration.ofSeconds(handbackSeconds))) {
+        log.warn(
+            "Jobs {} did not stop in time and are left to lock expiry or the lease reaper",
+            runningJobs.runningJobIds());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while draining, cancelling {} running jobs", runningJobs.cancelAll());
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // Stop before everything else, the web server included
+    return Integer.MAX_VALUE;
+  }
+}
@@ -11,6 +11,7 @@ import com.jobpulse.model.Job;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +30,11 @@ public class ScriptJobExecutor implements JobExecutor {
 
   @Override
   public void execute(Job job) {
+    execute(job, JobExecution.unbounded(job.getId()));
+  }
+
+  @Override
+  public void execute(Job job, JobExecution execution) {
     try {
       JsonNode node = mapper.readTree(job.getPayload());
 
@@ -46,7 +52,7 @@ public class ScriptJobExecutor implements JobExecutor {
             JobFailureReason.INVALID_CONFIG, "Command cannot be empty");
       }
 
-      executeScript(job, command, timeout);
+      executeScript(job, command, timeout, execution);
 
     } catch (NonRetryableJobException | RetryableJobException e) {
       throw e;
@@ -57,7 +63,7 @@ public class ScriptJobExecutor implements JobExecutor {
     }
   }
 
-  private void executeScript(Job job, String command, int timeout) {
+  private void executeScript(Job job, String command, int timeout, JobExecution execution) {
     log.info("Executing script job {} with command: {}", job.getName(), maskSensitiveData(command));
 
     try {
@@ -65,6 +71,8 @@ public class ScriptJobExecutor implements JobExecutor {
       pb.redirectErrorStream(true);
 
       Process process = pb.start();
+      // Interrupting the waiting thread does not stop the child, so kill it on cancellation
+      execution.onCancel(process::destroyForcibly);
 
       StringBuilder output = new StringBuilder();
       Thread outputThread =
@@ -84,10 +92,13 @@ public class ScriptJobExecutor implements JobExecutor {
               });
       outputThread.start();
 
-      boolean completed = process.waitFor(timeout, TimeUnit.SECONDS);
+      boolean completed =
+          process.waitFor(
+              execution.remainingOr(Duration.ofSeconds(timeout)).toMillis(), TimeUnit.MILLISECONDS);
 
       if (!completed) {
-        process.destroy();
+        process.destroyForcibly();
+        execution.checkpoint();
         log.error("Script job timeout after {} seconds", timeout);
         throw new RetryableJobException(
             JobFailureReason.TIMEOUT, "Script execution timeout after " + timeout + " seconds");
@@ -106,6 +117,9 @@ public class ScriptJobExecutor implements JobExecutor {
 
     } catch (NonRetryableJobException | RetryableJobException e) {
       throw e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw execution.cancellationFailure(e);
     } catch (Exception e) {
       log.error("Unexpected error executing script: {}", e.getMessage(), e);
       throw new NonRetryableJobException(
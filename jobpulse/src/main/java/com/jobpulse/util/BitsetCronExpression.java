@@ -0,0 +1,470 @@
+package com.jobpulse.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cron evaluator producing the same fire times as Quartz's {@code CronExpression} for the subset of
+ * its syntax JobPulse generates and users typically write: {@code *}, {@code ?}, values, ranges,
+ * lists, steps and month/day names in the seconds, minutes, hours, day-of-month, month, day-of-week
+ * and optional year fields.
+ *
+ * <p>Every field is compiled into a {@code long} bitmask (a {@link BitSet} for years) and the next
+ * fire time is found field by field with primitive calendar arithmetic, without boxed sets or
+ * {@code Calendar} instances. Expressions using {@code L}, {@code W}, {@code #} or wrap-around
+ * ranges are not compiled ({@link #compile} returns {@code null}), and fire times that fall into a
+ * DST gap or overlap are reported as {@link #FALLBACK}, so the caller can defer those to Quartz and
+ * keep identical results. Immutable and thread-safe.
+ *
+ * <p>UTC offsets come from the zone's transitions, unpacked once per zone into sorted arrays, so in
+ * a DST zone they cost a binary search instead of the {@code Instant}, {@code LocalDateTime} and
+ * offset list {@link ZoneRules} allocates per lookup.
+ */
+public final class BitsetCronExpression {
+
+  /** No fire time remains, e.g. the year field is exhausted. */
+  public static final long NO_MORE = Long.MIN_VALUE;
+
+  /** The next fire time cannot be resolved exactly here; ask Quartz. */
+  public static final long FALLBACK = Long.MIN_VALUE + 1;
+
+  private static final int MIN_YEAR = 1970;
+  private static final int MAX_SUPPORTED_YEAR = 2299;
+  private static final String[] MONTH_NAMES = {
+    "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+  };
+  private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+  private final long seconds;
+  private final long minutes;
+  private final long hours;
+  // Exactly one of the day fields is active, the other one is '?'
+  private final long daysOfMonth;
+  private final long daysOfWeek;
+  private final BitSet years;
+  private final long months;
+  private final ZoneOffset fixedOffset;
+  private final ZoneTransitions transitions;
+  private final int maxYear;
+
+  private BitsetCronExpression(
+      long seconds,
+      long minutes,
+      long hours,
+      long daysOfMonth,
+      long months,
+      long daysOfWeek,
+      BitSet years,
+      ZoneId zone,
+      int maxYear) {
+    this.seconds = seconds;
+    this.minutes = minutes;
+    this.hours = hours;
+    this.daysOfMonth = daysOfMonth;
+    this.months = months;
+    this.daysOfWeek = daysOfWeek;
+    this.years = years;
+    ZoneRules rules = zone.getRules();
+    this.fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+    this.transitions = fixedOffset == null ? ZoneTransitions.of(zone) : null;
+    this.maxYear = maxYear;
+  }
+
+  /**
+   * Compiles an expression Quartz has already accepted.
+   *
+   * @param maxYear last year searched, matching Quartz's horizon
+   * @return {@code null} if the expression uses syntax this engine does not evaluate
+   */
+  public static BitsetCronExpression compile(String expression, ZoneId zone, int maxYear) {
+    String[] fields = expression.trim().toUpperCase(Locale.US).split("\\s+");
+    if (fields.length < 6 || fields.length > 7) {
+      return null;
+    }
+    try {
+      long seconds = toMask(parseField(fields[0], 0, 59, null));
+      long minutes = toMask(parseField(fields[1], 0, 59, null));
+      long hours = toMask(parseField(fields[2], 0, 23, null));
+      long months = toMask(parseField(fields[4], 1, 12, MONTH_NAMES));
+      long daysOfMonth = 0;
+      long daysOfWeek = 0;
+      boolean anyDayOfMonth = "?".equals(fields[3]);
+      boolean anyDayOfWeek = "?".equals(fields[5]);
+      if (anyDayOfMonth == anyDayOfWeek) {
+        return null;
+      } else if (anyDayOfMonth) {
+        daysOfWeek = toMask(parseField(fields[5], 1, 7, DAY_NAMES));
+      } else {
+        daysOfMonth = toMask(parseField(fields[3], 1, 31, null));
+      }
+      BitSet years =
+          fields.length == 7 && !"*".equals(fields[6])
+              ? parseField(fields[6], MIN_YEAR, MAX_SUPPORTED_YEAR, null)
+              : null;
+      return new BitsetCronExpression(
+          seconds, minutes, hours, daysOfMonth, months, daysOfWeek, years, zone, maxYear);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Finds the first fire time strictly after the given second.
+   *
+   * @return epoch second of the fire time, {@link #NO_MORE} or {@link #FALLBACK}
+   */
+  public long nextAfter(long epochSecond) {
+    long start = epochSecond + 1;
+    int offset = offsetAt(start);
+    long local = start + offset;
+    long epochDay = Math.floorDiv(local, 86_400);
+    int secondOfDay = (int) Math.floorMod(local, 86_400);
+
+    // Civil date from epoch day (proleptic Gregorian), see Hinnant's days_from_civil inverse
+    long z = epochDay + 719_468;
+    long era = Math.floorDiv(z, 146_097);
+    long doe = z - era * 146_097;
+    long yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+    long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+    long mp = (5 * doy + 2) / 153;
+    int d = (int) (doy - (153 * mp + 2) / 5 + 1);
+    int m = (int) (mp < 10 ? mp + 3 : mp - 9);
+    int y = (int) (yoe + era * 400 + (m <= 2 ? 1 : 0));
+    int h = secondOfDay / 3600;
+    int mi = secondOfDay / 60 % 60;
+    int s = secondOfDay % 60;
+
+    while (true) {
+      if (y > maxYear) {
+        return NO_MORE;
+      }
+      if (years != null && (y < MIN_YEAR || !years.get(y))) {
+        int next = years.nextSetBit(Math.max(y, MIN_YEAR));
+        if (next < 0 || next > maxYear) {
+          return NO_MORE;
+        }
+        y = next;
+        m = 1;
+        d = 1;
+        h = mi = s = 0;
+        continue;
+      }
+
+      int nextMonth = nextBit(months, m);
+      if (nextMonth < 0) {
+        y++;
+        m = 1;
+        d = 1;
+        h = mi = s = 0;
+        continue;
+      }
+      if (nextMonth != m) {
+        m = nextMonth;
+        d = 1;
+        h = mi = s = 0;
+      }
+
+      int monthLength = monthLength(y, m);
+      if (daysOfMonth != 0) {
+        int nextDay = nextBit(daysOfMonth, d);
+        if (nextDay < 0 || nextDay > monthLength) {
+          m++;
+          if (m > 12) {
+            m = 1;
+            y++;
+          }
+          d = 1;
+          h = mi = s = 0;
+          continue;
+        }
+        if (nextDay != d) {
+          d = nextDay;
+          h = mi = s = 0;
+        }
+      } else if ((daysOfWeek & (1L << dayOfWeek(y, m, d))) == 0) {
+        if (++d > monthLength) {
+          d = 1;
+          if (++m > 12) {
+            m = 1;
+            y++;
+          }
+        }
+        h = mi = s = 0;
+        continue;
+      }
+
+      int nextHour = nextBit(hours, h);
+      if (nextHour < 0) {
+        if (++d > monthLength) {
+          d = 1;
+          if (++m > 12) {
+            m = 1;
+            y++;
+          }
+        }
+        h = mi = s = 0;
+        continue;
+      }
+      if (nextHour != h) {
+        h = nextHour;
+        mi = s = 0;
+      }
+
+      int nextMinute = nextBit(minutes, mi);
+      if (nextMinute < 0) {
+        h++;
+        mi = s = 0;
+        if (h > 23) {
+          h = 0;
+          if (++d > monthLength) {
+            d = 1;
+            if (++m > 12) {
+              m = 1;
+              y++;
+            }
+          }
+        }
+        continue;
+      }
+      if (nextMinute != mi) {
+        mi = nextMinute;
+        s = 0;
+      }
+
+      int nextSecond = nextBit(seconds, s);
+      if (nextSecond < 0) {
+        mi++;
+        s = 0;
+        if (mi > 59) {
+          mi = 0;
+          h++;
+          if (h > 23) {
+            h = 0;
+            if (++d > monthLength) {
+              d = 1;
+              if (++m > 12) {
+                m = 1;
+                y++;
+              }
+            }
+          }
+        }
+        continue;
+      }
+      s = nextSecond;
+
+      long localSecond = epochDay(y, m, d) * 86_400 + h * 3600L + mi * 60L + s;
+      return toInstant(localSecond, start);
+    }
+  }
+
+  private int offsetAt(long epochSecond) {
+    return fixedOffset != null ? fixedOffset.getTotalSeconds() : transitions.offsetAt(epochSecond);
+  }
+
+  private long toInstant(long localSecond, long start) {
+    if (fixedOffset != null) {
+      return localSecond - fixedOffset.getTotalSeconds();
+    }
+    int offset = transitions.offsetOfLocal(localSecond);
+    if (offset == ZoneTransitions.AMBIGUOUS) {
+      // DST gap or overlap: Quartz's lenient Calendar resolution decides
+      return FALLBACK;
+    }
+    long instant = localSecond - offset;
+    return instant >= start ? instant : FALLBACK;
+  }
+
+  private static int nextBit(long mask, int from) {
+    long remaining = mask >>> from;
+    return remaining == 0 ? -1 : from + Long.numberOfTrailingZeros(remaining);
+  }
+
+  private static boolean isLeap(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static int monthLength(int year, int month) {
+    return switch (month) {
+      case 2 -> isLeap(year) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+
+  private static long epochDay(int year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(y, 400);
+    long yoe = y - era * 400;
+    long doy = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * 146_097 + doe - 719_468;
+  }
+
+  // Quartz numbering: 1 = Sunday ... 7 = Saturday; 1970-01-01 was a Thursday
+  private static int dayOfWeek(int year, int month, int day) {
+    return (int) Math.floorMod(epochDay(year, month, day) + 4, 7) + 1;
+  }
+
+  private static long toMask(BitSet bits) {
+    long[] words = bits.toLongArray();
+    return words.length == 0 ? 0 : words[0];
+  }
+
+  private static BitSet parseField(String field, int min, int max, String[] names) {
+    BitSet bits = new BitSet();
+    for (String part : field.split(",")) {
+      String value = part;
+      if (names != null) {
+        for (int i = 0; i < names.length; i++) {
+          value = value.replace(names[i], String.valueOf(i + 1));
+        }
+      }
+      if (value.isEmpty()
+          || !value.chars().allMatch(c -> Character.isDigit(c) || "*/-".indexOf(c) >= 0)) {
+        throw new IllegalArgumentException("Unsupported cron syntax: " + part);
+      }
+
+      int step = 1;
+      int slash = value.indexOf('/');
+      if (slash >= 0) {
+        step = Integer.parseInt(value.substring(slash + 1));
+        value = value.substring(0, slash);
+        if (step <= 0) {
+          throw new IllegalArgumentException("Invalid step: " + part);
+        }
+      }
+
+      int from;
+      int to;
+      if ("*".equals(value)) {
+        from = min;
+        to = max;
+      } else if (value.contains("-")) {
+        String[] range = value.split("-");
+        if (range.length != 2) {
+          throw new IllegalArgumentException("Unsupported range: " + part);
+        }
+        from = Integer.parseInt(range[0]);
+        to = Integer.parseInt(range[1]);
+      } else {
+        from = Integer.parseInt(value);
+        to = slash >= 0 ? max : from;
+      }
+      if (from < min || to > max || from > to) {
+        throw new IllegalArgumentException("Unsupported range: " + part);
+      }
+      for (int v = from; v <= to; v += step) {
+        bits.set(v);
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * Offset transitions of a zone from {@link #MIN_YEAR} to {@link #MAX_SUPPORTED_YEAR} in primitive
+   * arrays. Outside that span, or for the rare zone whose transitions come too close together to
+   * keep their local windows in order, offsets are read from the {@link ZoneRules} instead.
+   */
+  static final class ZoneTransitions {
+
+    /** Returned by {@link #offsetOfLocal} for a local time in a DST gap or overlap. */
+    static final int AMBIGUOUS = Integer.MIN_VALUE;
+
+    // Bounded by the number of zone ids, and shared by every expression compiled for a zone
+    private static final Map<ZoneId, ZoneTransitions> BY_ZONE = new ConcurrentHashMap<>();
+
+    // One day of margin so local seconds near the ends stay within the span whatever the offset
+    private static final long MARGIN = 86_400;
+
+    private final ZoneRules rules;
+    private final long from;
+    private final long until;
+    private final int initialOffset;
+    private final long[] instants;
+    private final int[] offsetsAfter;
+    // Local seconds each transition skips (gap) or repeats (overlap): [localStarts, localEnds)
+    private final long[] localStarts;
+    private final long[] localEnds;
+
+    private ZoneTransitions(ZoneRules rules) {
+      this.rules = rules;
+      long spanFrom = LocalDateTime.of(MIN_YEAR, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) - MARGIN;
+      long spanUntil =
+          LocalDateTime.of(MAX_SUPPORTED_YEAR + 1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC)
+              + MARGIN;
+      this.initialOffset = rules.getOffset(Instant.ofEpochSecond(spanFrom)).getTotalSeconds();
+
+      List<ZoneOffsetTransition> found = new ArrayList<>();
+      ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(spanFrom));
+      while (transition != null && transition.toEpochSecond() < spanUntil) {
+        found.add(transition);
+        transition = rules.nextTransition(transition.getInstant());
+      }
+      int n = found.size();
+      this.instants = new long[n];
+      this.offsetsAfter = new int[n];
+      this.localStarts = new long[n];
+      this.localEnds = new long[n];
+      boolean ordered = true;
+      for (int i = 0; i < n; i++) {
+        ZoneOffsetTransition t = found.get(i);
+        int before = t.getOffsetBefore().getTotalSeconds();
+        int after = t.getOffsetAfter().getTotalSeconds();
+        instants[i] = t.toEpochSecond();
+        offsetsAfter[i] = after;
+        localStarts[i] = instants[i] + Math.min(before, after);
+        localEnds[i] = instants[i] + Math.max(before, after);
+        if (i > 0 && localStarts[i] < localEnds[i - 1]) {
+          ordered = false;
+        }
+      }
+      this.from = ordered ? spanFrom + MARGIN : 0;
+      this.until = ordered ? spanUntil - MARGIN : 0;
+    }
+
+    static ZoneTransitions of(ZoneId zone) {
+      return BY_ZONE.computeIfAbsent(zone, z -> new ZoneTransitions(z.getRules()));
+    }
+
+    /** Offset in effect at an epoch second. */
+    int offsetAt(long epochSecond) {
+      if (epochSecond < from || epochSecond >= until) {
+        return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+      }
+      int i = floorIndex(instants, epochSecond);
+      return i < 0 ? initialOffset : offsetsAfter[i];
+    }
+
+    /** Offset of a local date-time in seconds since 1970-01-01T00:00, or {@link #AMBIGUOUS}. */
+    int offsetOfLocal(long localSecond) {
+      if (localSecond < from || localSecond >= until) {
+        List<ZoneOffset> offsets =
+            rules.getValidOffsets(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC));
+        return offsets.size() == 1 ? offsets.get(0).getTotalSeconds() : AMBIGUOUS;
+      }
+      int i = floorIndex(localStarts, localSecond);
+      if (i >= 0 && localSecond < localEnds[i]) {
+        return AMBIGUOUS;
+      }
+      return i < 0 ? initialOffset : offsetsAfter[i];
+    }
+
+    // Index of the last element <= key, -1 if there is none
+    private static int floorIndex(long[] sorted, long key) {
+      int found = Arrays.binarySearch(sorted, key);
+      return found >= 0 ? found : -found - 2;
+    }
+  }
+}
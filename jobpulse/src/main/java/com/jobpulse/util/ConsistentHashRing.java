@@ -0,0 +1,63 @@
+package com.jobpulse.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring mapping keys to nodes.
+ *
+ * <p>Every node is placed on the ring at {@code virtualNodes} points; a key belongs to the first
+ * node point at or after its own hash, wrapping around. When a node joins or leaves, only the keys
+ * between its points and their predecessors move, roughly {@code 1/n} of the total. Immutable.
+ */
+public class ConsistentHashRing {
+
+  private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+  public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+    if (virtualNodes <= 0) {
+      throw new IllegalArgumentException("At least one virtual node per node is required");
+    }
+    for (String node : nodes) {
+      for (int replica = 0; replica < virtualNodes; replica++) {
+        ring.put(hash(node + "#" + replica), node);
+      }
+    }
+  }
+
+  /**
+   * @return the node owning the key, or {@code null} if the ring is empty
+   */
+  public String ownerOf(long key) {
+    if (ring.isEmpty()) {
+      return null;
+    }
+    Map.Entry<Long, String> entry = ring.ceilingEntry(mix(key));
+    return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+  }
+
+  public boolean isEmpty() {
+    return ring.isEmpty();
+  }
+
+  // 64-bit FNV-1a, finalized with the mixer below so similar node names spread over the ring
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  // SplitMix64 finalizer, also used to spread job ids over fire-time offsets
+  static long mix(long value) {
+    long z = value + 0x9e3779b97f4a7c15L;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
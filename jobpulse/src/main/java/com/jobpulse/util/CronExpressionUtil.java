@@ -1,76 +1,167 @@
 package com.jobpulse.util;
 
+import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import org.quartz.CronExpression;
 
+/**
+ * Cron helpers backed by a bounded cache of compiled expressions keyed by (expression, time zone),
+ * so computing the next run time of a recurring job parses its expression once instead of twice per
+ * completion. Quartz remains the parser and validator; fire times come from a {@link
+ * BitsetCronExpression} when the expression is within its syntax, and from Quartz otherwise or for
+ * the occasional fire time it hands back (DST transitions). Cached expressions are never mutated
+ * after compilation and are safe to share between threads.
+ */
 public class CronExpressionUtil {
 
   private static final TimeZone DEFAULT_TIMEZONE = TimeZone.getDefault();
 
+  static final int CACHE_SIZE = 1024;
+
+  private static final Map<CacheKey, Compiled> COMPILED = new ConcurrentHashMap<>();
+
+  // The smallest gap of an expression is taken over its first fire times from a fixed instant, so
+  // every node derives the same spread window; four years take in a leap day
+  private static final long GAP_SAMPLE_FROM =
+      Instant.parse("2000-01-01T00:00:00Z").getEpochSecond();
+  private static final long GAP_SAMPLE_SECONDS = Duration.ofDays(4 * 365 + 1).toSeconds();
+  private static final int GAP_SAMPLE_FIRES = 1024;
+
   public static boolean isValidCronExpression(String cronExpression) {
     if (cronExpression == null || cronExpression.isBlank()) {
       return false;
     }
     try {
-      return CronExpression.isValidExpression(cronExpression);
+      compile(cronExpression, DEFAULT_TIMEZONE);
+      return true;
     } catch (Exception e) {
       return false;
     }
   }
 
   public static void validateCronExpression(String cronExpression) {
-    if (cronExpression == null || cronExpression.isBlank()) {
-      throw new IllegalArgumentException("Cron expression cannot be null or empty");
-    }
-    if (!CronExpression.isValidExpression(cronExpression)) {
-      throw new IllegalArgumentException("Invalid cron expression: " + cronExpression);
-    }
+    compile(cronExpression, DEFAULT_TIMEZONE);
   }
 
   public static LocalDateTime getNextRunTime(String cronExpression, LocalDateTime fromDateTime) {
-    validateCronExpression(cronExpression);
+    return getNextRunTime(cronExpression, fromDateTime, DEFAULT_TIMEZONE);
+  }
 
-    try {
-      CronExpression cron = new CronExpression(cronExpression);
-      cron.setTimeZone(DEFAULT_TIMEZONE);
+  public static LocalDateTime getNextRunTime(
+      String cronExpression, LocalDateTime fromDateTime, TimeZone timeZone) {
+    List<LocalDateTime> next = getNextRunTimes(cronExpression, fromDateTime, 1, timeZone);
+    if (next.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Unable to calculate next run time for cron expression: " + cronExpression);
+    }
+    return next.get(0);
+  }
 
-      java.util.Date fromDate =
-          java.util.Date.from(fromDateTime.atZone(ZoneId.systemDefault()).toInstant());
-      java.util.Date nextDate = cron.getNextValidTimeAfter(fromDate);
+  /**
+   * Computes up to {@code count} consecutive fire times after {@code fromDateTime} from a single
+   * compiled expression, so callers can plan ahead without re-parsing. Fewer times are returned if
+   * the expression stops firing (e.g. a fixed year).
+   */
+  public static List<LocalDateTime> getNextRunTimes(
+      String cronExpression, LocalDateTime fromDateTime, int count) {
+    return getNextRunTimes(cronExpression, fromDateTime, count, DEFAULT_TIMEZONE);
+  }
 
-      if (nextDate == null) {
-        throw new IllegalArgumentException(
-            "Unable to calculate next run time for cron expression: " + cronExpression);
-      }
+  public static List<LocalDateTime> getNextRunTimes(
+      String cronExpression, LocalDateTime fromDateTime, int count, TimeZone timeZone) {
+    ZoneId zone = ZoneId.systemDefault();
+    return getNextRunTimes(cronExpression, fromDateTime.atZone(zone).toInstant(), count, timeZone)
+        .stream()
+        .map(next -> LocalDateTime.ofInstant(next, zone))
+        .toList();
+  }
 
-      return LocalDateTime.ofInstant(nextDate.toInstant(), ZoneId.systemDefault());
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Error parsing cron expression: " + e.getMessage(), e);
+  /**
+   * Next fire time after {@code from} with the expression's fields read as wall-clock time in
+   * {@code timeZone}, independent of the server's default zone.
+   */
+  public static Instant getNextRunTime(String cronExpression, Instant from, TimeZone timeZone) {
+    List<Instant> next = getNextRunTimes(cronExpression, from, 1, timeZone);
+    if (next.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Unable to calculate next run time for cron expression: " + cronExpression);
     }
+    return next.get(0);
   }
 
-  public static LocalDateTime getNextRunTime(
-      String cronExpression, LocalDateTime fromDateTime, TimeZone timeZone) {
-    validateCronExpression(cronExpression);
+  /**
+   * Like {@link #getNextRunTime(String, Instant, TimeZone)}, shifted by a deterministic offset so
+   * jobs sharing an expression do not all fire on the same second, similar to Jenkins' {@code H}.
+   * The offset is derived from {@code spreadKey} (the job id) and is below both {@code
+   * spreadSeconds} and the smallest gap between two fire times of the expression, so runs stay in
+   * order and one job gets the same offset at every fire time, even of an irregular expression such
+   * as {@code 0 0 9,17 * * ?}. {@code spreadSeconds <= 0} disables the shift.
+   */
+  public static Instant getNextRunTime(
+      String cronExpression, Instant from, TimeZone timeZone, long spreadKey, long spreadSeconds) {
+    if (spreadSeconds <= 0) {
+      return getNextRunTime(cronExpression, from, timeZone);
+    }
+    Compiled cron = compile(cronExpression, timeZone != null ? timeZone : DEFAULT_TIMEZONE);
+    long next = cron.nextAfter(from.getEpochSecond());
+    if (next == BitsetCronExpression.NO_MORE) {
+      throw new IllegalArgumentException(
+          "Unable to calculate next run time for cron expression: " + cronExpression);
+    }
+    long window = Math.min(spreadSeconds, cron.smallestGap());
+    return Instant.ofEpochSecond(next + spreadOffset(spreadKey, window));
+  }
 
-    try {
-      CronExpression cron = new CronExpression(cronExpression);
-      cron.setTimeZone(timeZone != null ? timeZone : DEFAULT_TIMEZONE);
+  /** Offset in {@code [0, windowSeconds)} for the key, stable across nodes and restarts. */
+  static long spreadOffset(long spreadKey, long windowSeconds) {
+    return windowSeconds <= 1
+        ? 0
+        : Long.remainderUnsigned(ConsistentHashRing.mix(spreadKey), windowSeconds);
+  }
 
-      java.util.Date fromDate =
-          java.util.Date.from(fromDateTime.atZone(ZoneId.systemDefault()).toInstant());
-      java.util.Date nextDate = cron.getNextValidTimeAfter(fromDate);
+  public static List<Instant> getNextRunTimes(
+      String cronExpression, Instant from, int count, TimeZone timeZone) {
+    Compiled cron = compile(cronExpression, timeZone != null ? timeZone : DEFAULT_TIMEZONE);
 
-      if (nextDate == null) {
-        throw new IllegalArgumentException(
-            "Unable to calculate next run time for cron expression: " + cronExpression);
+    List<Instant> fireTimes = new ArrayList<>(count);
+    // Quartz works at second precision: the next fire time is at least one whole second later
+    long after = from.getEpochSecond();
+    for (int i = 0; i < count; i++) {
+      long next = cron.nextAfter(after);
+      if (next == BitsetCronExpression.NO_MORE) {
+        break;
       }
+      fireTimes.add(Instant.ofEpochSecond(next));
+      after = next;
+    }
+    return fireTimes;
+  }
 
-      return LocalDateTime.ofInstant(nextDate.toInstant(), ZoneId.systemDefault());
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Error parsing cron expression: " + e.getMessage(), e);
+  /**
+   * Resolves a time zone id such as {@code Europe/Berlin}; {@code null} or blank means the server
+   * default.
+   *
+   * @throws IllegalArgumentException if the id is not a known zone
+   */
+  public static TimeZone resolveTimeZone(String timeZoneId) {
+    if (timeZoneId == null || timeZoneId.isBlank()) {
+      return DEFAULT_TIMEZONE;
+    }
+    try {
+      return TimeZone.getTimeZone(ZoneId.of(timeZoneId));
+    } catch (DateTimeException e) {
+      throw new IllegalArgumentException("Invalid time zone: " + timeZoneId, e);
     }
   }
 
@@ -88,4 +179,95 @@ public class CronExpressionUtil {
       default -> throw new IllegalArgumentException("Unsupported frequency: " + frequency);
     };
   }
+
+  static int cachedExpressionCount() {
+    return COMPILED.size();
+  }
+
+  private static Compiled compile(String cronExpression, TimeZone timeZone) {
+    if (cronExpression == null || cronExpression.isBlank()) {
+      throw new IllegalArgumentException("Cron expression cannot be null or empty");
+    }
+    CacheKey key = new CacheKey(cronExpression, timeZone.getID());
+    Compiled cached = COMPILED.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    CronExpression quartz;
+    try {
+      quartz = new CronExpression(cronExpression);
+    } catch (ParseException e) {
+      throw new IllegalArgumentException("Invalid cron expression: " + cronExpression, e);
+    }
+    quartz.setTimeZone(timeZone);
+    Compiled compiled =
+        new Compiled(
+            quartz,
+            BitsetCronExpression.compile(
+                cronExpression, timeZone.toZoneId(), CronExpression.MAX_YEAR));
+    if (COMPILED.size() >= CACHE_SIZE) {
+      evict();
+    }
+    Compiled existing = COMPILED.putIfAbsent(key, compiled);
+    return existing != null ? existing : compiled;
+  }
+
+  // Drops an arbitrary tenth of the entries; recompiling a few hot expressions is cheaper than
+  // tracking recency on every lookup
+  private static void evict() {
+    Iterator<CacheKey> keys = COMPILED.keySet().iterator();
+    for (int i = 0; i < CACHE_SIZE / 10 && keys.hasNext(); i++) {
+      keys.next();
+      keys.remove();
+    }
+  }
+
+  private record CacheKey(String expression, String timeZoneId) {}
+
+  /** Quartz expression plus its bitset form, {@code null} if the syntax is not supported. */
+  private static final class Compiled {
+
+    private final CronExpression quartz;
+    private final BitsetCronExpression bitset;
+    // Only spread jobs need it; threads racing to compute it arrive at the same value
+    private volatile long smallestGap = -1;
+
+    Compiled(CronExpression quartz, BitsetCronExpression bitset) {
+      this.quartz = quartz;
+      this.bitset = bitset;
+    }
+
+    long nextAfter(long epochSecond) {
+      long next = bitset != null ? bitset.nextAfter(epochSecond) : BitsetCronExpression.FALLBACK;
+      if (next != BitsetCronExpression.FALLBACK) {
+        return next;
+      }
+      Date quartzNext = quartz.getNextValidTimeAfter(new Date(epochSecond * 1000));
+      return quartzNext != null ? quartzNext.getTime() / 1000 : BitsetCronExpression.NO_MORE;
+    }
+
+    /** Seconds between the two closest fire times, {@link Long#MAX_VALUE} if it fires once. */
+    long smallestGap() {
+      long gap = smallestGap;
+      if (gap < 0) {
+        gap = Long.MAX_VALUE;
+        long first = nextAfter(GAP_SAMPLE_FROM);
+        long previous = first;
+        for (int i = 0; first != BitsetCronExpression.NO_MORE && i < GAP_SAMPLE_FIRES; i++) {
+          long next = nextAfter(previous);
+          if (next == BitsetCronExpression.NO_MORE || next - first > GAP_SAMPLE_SECONDS) {
+            break;
+          }
+          gap = Math.min(gap, next - previous);
+          if (gap == 1) {
+            break;
+          }
+          previous = next;
+        }
+        smallestGap = gap;
+      }
+      return gap;
+    }
+  }
 }
@@ -0,0 +1,41 @@
+package com.jobpulse.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/** Orders work so no single tenant can monopolize the front of a queue. */
+public final class FairShare {
+
+  private FairShare() {}
+
+  /**
+   * Interleaves the items round-robin by key: the first item of every key in order of first
+   * appearance, then the second of every key, and so on. Items sharing a key keep their relative
+   * order; a {@code null} key is a group of its own.
+   */
+  public static <T, K> List<T> roundRobin(List<T> items, Function<T, K> key) {
+    Map<K, Deque<T>> groups = new LinkedHashMap<>();
+    for (T item : items) {
+      groups.computeIfAbsent(key.apply(item), k -> new ArrayDeque<>()).add(item);
+    }
+    if (groups.size() <= 1) {
+      return items;
+    }
+
+    List<T> ordered = new ArrayList<>(items.size());
+    Deque<Deque<T>> turns = new ArrayDeque<>(groups.values());
+    while (!turns.isEmpty()) {
+      Deque<T> group = turns.poll();
+      ordered.add(group.poll());
+      if (!group.isEmpty()) {
+        turns.add(group);
+      }
+    }
+    return ordered;
+  }
+}
@@ -0,0 +1,158 @@
+package com.jobpulse.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hashed hierarchical timing wheel keyed by job id.
+ *
+ * <p>Level 0 has one slot per tick; every higher level has one slot per full revolution of the
+ * level below it. An entry is stored at the lowest level whose revolution still reaches its
+ * deadline and cascades down one level each time its slot comes up, until it fires from level 0.
+ * Adding, replacing and removing an entry are O(1) and advancing costs O(1) per tick plus the
+ * entries it fires or cascades, independent of how many entries are scheduled.
+ *
+ * <p>Entries fire on the first tick boundary at or after their deadline, so the lag introduced by
+ * the wheel itself is below one tick. Not thread-safe; callers must synchronize.
+ */
+public class HierarchicalTimingWheel {
+
+  /** Receives entries whose deadline has been reached. */
+  @FunctionalInterface
+  public interface ExpiryHandler {
+    void expired(long id, long deadlineMillis);
+  }
+
+  private final long tickMillis;
+  private final int[] sizes;
+  // Number of level-0 ticks covered by one slot of each level
+  private final long[] slotTicks;
+  private final Map<Long, Long>[][] buckets;
+  // id -> (level << 32 | slot)
+  private final Map<Long, Long> index = new HashMap<>();
+  private long currentTick;
+
+  /**
+   * @param tickMillis duration of a level-0 slot
+   * @param startMillis current time; entries due at or before it fire on the first advance
+   * @param wheelSizes number of slots per level, from the finest level up
+   */
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(long tickMillis, long startMillis, int... wheelSizes) {
+    if (tickMillis <= 0 || wheelSizes.length == 0) {
+      throw new IllegalArgumentException("Tick and at least one wheel size are required");
+    }
+    this.tickMillis = tickMillis;
+    this.sizes = wheelSizes.clone();
+    this.slotTicks = new long[sizes.length];
+    this.buckets = new Map[sizes.length][];
+    long ticks = 1;
+    for (int level = 0; level < sizes.length; level++) {
+      slotTicks[level] = ticks;
+      buckets[level] = new Map[sizes[level]];
+      ticks = Math.multiplyExact(ticks, sizes[level]);
+    }
+    this.currentTick = Math.floorDiv(startMillis, tickMillis);
+  }
+
+  /**
+   * Schedules an entry, replacing any earlier deadline for the same id. Deadlines already in the
+   * past fire on the next advance.
+   *
+   * @return {@code false} if the deadline lies beyond the wheel's horizon and was not added
+   */
+  public boolean add(long id, long deadlineMillis) {
+    remove(id);
+    long tick = Math.max(ceilTick(deadlineMillis), currentTick + 1);
+    return place(id, deadlineMillis, tick);
+  }
+
+  public boolean remove(long id) {
+    Long location = index.remove(id);
+    if (location == null) {
+      return false;
+    }
+    Map<Long, Long> bucket = buckets[(int) (location >>> 32)][location.intValue()];
+    bucket.remove(id);
+    return true;
+  }
+
+  public boolean contains(long id) {
+    return index.containsKey(id);
+  }
+
+  public int size() {
+    return index.size();
+  }
+
+  public long currentTimeMillis() {
+    return currentTick * tickMillis;
+  }
+
+  /** Latest deadline, relative to the wheel's current time, that {@link #add} still accepts. */
+  public long horizonMillis() {
+    int top = sizes.length - 1;
+    return (slotTicks[top] * sizes[top] - 1) * tickMillis;
+  }
+
+  /** Moves the wheel forward to {@code nowMillis}, firing every entry whose deadline passed. */
+  public void advanceTo(long nowMillis, ExpiryHandler handler) {
+    long targetTick = Math.floorDiv(nowMillis, tickMillis);
+    while (currentTick < targetTick) {
+      currentTick++;
+      for (int level = sizes.length - 1; level > 0; level--) {
+        if (currentTick % slotTicks[level] == 0) {
+          cascade(level);
+        }
+      }
+      Map<Long, Long> due = takeBucket(0, slotOf(0, currentTick));
+      if (due != null) {
+        due.forEach(handler::expired);
+      }
+    }
+  }
+
+  private void cascade(int level) {
+    Map<Long, Long> entries = takeBucket(level, slotOf(level, currentTick));
+    if (entries != null) {
+      entries.forEach((id, deadline) -> place(id, deadline, ceilTick(deadline)));
+    }
+  }
+
+  private boolean place(long id, long deadlineMillis, long tick) {
+    for (int level = 0; level < sizes.length; level++) {
+      long window = Math.floorDiv(tick, slotTicks[level]);
+      long currentWindow = Math.floorDiv(currentTick, slotTicks[level]);
+      if (window - currentWindow < sizes[level]) {
+        int slot = (int) Math.floorMod(window, (long) sizes[level]);
+        Map<Long, Long> bucket = buckets[level][slot];
+        if (bucket == null) {
+          bucket = new HashMap<>();
+          buckets[level][slot] = bucket;
+        }
+        bucket.put(id, deadlineMillis);
+        index.put(id, ((long) level << 32) | slot);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Map<Long, Long> takeBucket(int level, int slot) {
+    Map<Long, Long> bucket = buckets[level][slot];
+    if (bucket == null || bucket.isEmpty()) {
+      return null;
+    }
+    buckets[level][slot] = null;
+    bucket.keySet().forEach(index::remove);
+    return bucket;
+  }
+
+  private int slotOf(int level, long tick) {
+    return (int) Math.floorMod(Math.floorDiv(tick, slotTicks[level]), (long) sizes[level]);
+  }
+
+  private long ceilTick(long millis) {
+    return -Math.floorDiv(-millis, tickMillis);
+  }
+}
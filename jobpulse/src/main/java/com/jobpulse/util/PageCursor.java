@@ -0,0 +1,48 @@
+package com.jobpulse.util;
+
+import com.jobpulse.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token of a keyset-paginated listing: the sort key of the last row returned,
+ * URL-safe Base64 encoded so clients pass it back without interpreting it. The token only says
+ * where to resume; the query behind it still filters by owner, so a forged token cannot reach
+ * another user's rows.
+ */
+public final class PageCursor {
+
+  private static final String SEPARATOR = "|";
+
+  private PageCursor() {}
+
+  public static String encode(Object... keys) {
+    StringBuilder raw = new StringBuilder();
+    for (Object key : keys) {
+      if (!raw.isEmpty()) {
+        raw.append(SEPARATOR);
+      }
+      raw.append(key);
+    }
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the {@code parts} keys of the cursor, as passed to {@link #encode}
+   * @throws BadRequestException if the cursor was not produced by {@link #encode} with as many keys
+   */
+  public static String[] decode(String cursor, int parts) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] keys = raw.split("\\|", -1);
+      if (keys.length == parts) {
+        return keys;
+      }
+    } catch (IllegalArgumentException e) {
+      // Not Base64, reported below
+    }
+    throw new BadRequestException("Invalid page cursor");
+  }
+}
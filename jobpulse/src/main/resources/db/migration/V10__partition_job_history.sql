@@ -0,0 +1,60 @@
+-- job_history gains a row per run and per retry and was never pruned. It becomes a table range-
+-- partitioned by month of run_time, so whole months can be dropped once they leave the retention
+-- window and queries bounded by run_time only read the months they cover. JobHistoryPartitions
+-- creates the partitions of coming months and applies the retention.
+--
+-- The primary key of a partitioned table has to include the partition key, hence (id, run_time);
+-- ids still come from a single sequence and stay unique on their own.
+
+ALTER TABLE job_history RENAME TO job_history_unpartitioned;
+
+CREATE TABLE job_history (
+    id            BIGINT NOT NULL,
+    job_id        BIGINT,
+    run_time      TIMESTAMP(6) NOT NULL,
+    status        VARCHAR(255),
+    error_message VARCHAR(255),
+    retry_attempt INTEGER NOT NULL
+) PARTITION BY RANGE (run_time);
+
+-- One partition per month from the oldest run through three months ahead, then the rows are
+-- copied over. The few runs without a run time are filed under the oldest month. Runs of a month
+-- without a partition, should maintenance stop, land in job_history_default rather than failing
+-- the job; JobHistoryPartitions moves them into their month once it creates the partition.
+DO $$
+DECLARE
+    first_month TIMESTAMP;
+    month       TIMESTAMP;
+BEGIN
+    SELECT LEAST(date_trunc('month', MIN(run_time)), date_trunc('month', LOCALTIMESTAMP))
+    INTO first_month
+    FROM job_history_unpartitioned;
+    first_month := COALESCE(first_month, date_trunc('month', LOCALTIMESTAMP));
+
+    FOR month IN
+        SELECT generate_series(
+            first_month, date_trunc('month', LOCALTIMESTAMP) + interval '3 months', interval '1 month')
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF job_history FOR VALUES FROM (%L) TO (%L)',
+            'job_history_' || to_char(month, 'YYYY_MM'), month, month + interval '1 month');
+    END LOOP;
+    CREATE TABLE job_history_default PARTITION OF job_history DEFAULT;
+
+    INSERT INTO job_history (id, job_id, run_time, status, error_message, retry_attempt)
+    SELECT id, job_id, COALESCE(run_time, first_month), status, error_message, retry_attempt
+    FROM job_history_unpartitioned;
+END $$;
+
+-- Drops the old identity sequence, the old keys and idx_job_history_job_run_time_id (V9) with it
+DROP TABLE job_history_unpartitioned;
+
+CREATE SEQUENCE job_history_id_seq OWNED BY job_history.id;
+SELECT setval('job_history_id_seq', COALESCE((SELECT MAX(id) FROM job_history), 0) + 1, false);
+ALTER TABLE job_history ALTER COLUMN id SET DEFAULT nextval('job_history_id_seq');
+
+-- Declared on the parent, so every partition, present or future, gets its own copy
+ALTER TABLE job_history ADD CONSTRAINT job_history_pkey PRIMARY KEY (id, run_time);
+ALTER TABLE job_history
+    ADD CONSTRAINT job_history_job_id_fkey FOREIGN KEY (job_id) REFERENCES job (id);
+CREATE INDEX idx_job_history_job_run_time_id ON job_history (job_id, run_time DESC, id DESC);
@@ -0,0 +1,74 @@
+-- Explicit schema of the scheduling tables as they stood at V1, so the migrations no longer depend
+-- on Hibernate (ddl-auto=update) having created them. Every statement is IF NOT EXISTS and is a
+-- no-op on databases Hibernate already created, where V1 has run against Hibernate's tables.
+--
+-- V1 only patches an existing job table and fails on an empty database. A fresh database is
+-- baselined at version 1 instead (FlywayConfig does so on startup) and built from here; job
+-- therefore already carries V1's created_at. The remaining tables (gmail_tokens, user_identity,
+-- email_verification_token, password_reset_token) are still created by Hibernate.
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id             UUID PRIMARY KEY,
+    username            VARCHAR(100) NOT NULL UNIQUE,
+    email               VARCHAR(250) NOT NULL UNIQUE,
+    password_hash       VARCHAR(255) NOT NULL,
+    avatar              VARCHAR(255),
+    role                VARCHAR(255),
+    is_enabled          BOOLEAN NOT NULL,
+    is_email_verified   BOOLEAN NOT NULL,
+    is_account_locked   BOOLEAN NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_login_at       TIMESTAMP(6) WITH TIME ZONE,
+    email_verified_at   TIMESTAMP(6) WITH TIME ZONE,
+    password_changed_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- job_type holds the JobType ordinal, status the Status name
+CREATE TABLE IF NOT EXISTS job (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name            VARCHAR(255),
+    owner_id        UUID REFERENCES users (user_id),
+    cron_expression VARCHAR(255),
+    recurring       BOOLEAN NOT NULL,
+    job_type        SMALLINT,
+    payload         VARCHAR(255),
+    status          VARCHAR(255),
+    retry_count     INTEGER NOT NULL,
+    max_retries     INTEGER NOT NULL,
+    next_run_time   TIMESTAMP(6),
+    last_error      VARCHAR(255),
+    created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_status_next_run_time ON job (status, next_run_time);
+
+CREATE TABLE IF NOT EXISTS job_history (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id        BIGINT REFERENCES job (id),
+    run_time      TIMESTAMP(6),
+    status        VARCHAR(255),
+    error_message VARCHAR(255),
+    retry_attempt INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS dead_letter_job (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id     BIGINT REFERENCES job (id),
+    last_error VARCHAR(255),
+    failed_at  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS job_template (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name            VARCHAR(255),
+    description     VARCHAR(255),
+    owner_id        UUID REFERENCES users (user_id),
+    job_type        VARCHAR(255),
+    payload         VARCHAR(255),
+    cron_expression VARCHAR(255),
+    max_retries     INTEGER NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    is_public       BOOLEAN NOT NULL
+);
@@ -0,0 +1,4 @@
+-- Fencing token of the Redis lock the last outcome was written under (JobRepository
+-- .saveOutcomeIfCurrent); an outcome carrying an older token than the row is rejected. NULL until
+-- the job first runs under a lock.
+ALTER TABLE job ADD COLUMN IF NOT EXISTS fencing_token BIGINT;
@@ -0,0 +1,10 @@
+-- Skip-locked claims (JobClaimService): the node holding a claimed job, the expiry of its lease
+-- and the CLAIMED status.
+ALTER TABLE job ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(255);
+ALTER TABLE job ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP(6);
+
+-- Hibernate generated a CHECK constraint listing the Status values when it created the table, and
+-- ddl-auto=update does not widen it; without CLAIMED every skip-locked claim would be rejected
+ALTER TABLE job DROP CONSTRAINT IF EXISTS job_status_check;
+ALTER TABLE job ADD CONSTRAINT job_status_check
+    CHECK (status IN ('PENDING', 'RUNNING', 'SUCCESS', 'RETRYING', 'FAILED', 'PAUSED', 'CLAIMED'));
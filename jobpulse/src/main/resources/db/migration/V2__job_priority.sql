@@ -0,0 +1,11 @@
+-- Job priorities: 0 is the most urgent, 9 the least
+ALTER TABLE job ADD COLUMN IF NOT EXISTS priority INTEGER NOT NULL DEFAULT 5;
+ALTER TABLE job_template ADD COLUMN IF NOT EXISTS priority INTEGER NOT NULL DEFAULT 5;
+
+-- The due/claim queries filter on status and a next_run_time range and read due jobs oldest first;
+-- keeping the index partial to schedulable rows keeps it small at 1M+ jobs. The aged priority is
+-- computed per row and cannot be read from the index, so claims take a bounded slice of the
+-- longest-due jobs in index order and only rank that slice (JobRepository.claimDueJobIds)
+CREATE INDEX IF NOT EXISTS idx_job_due_priority
+    ON job (next_run_time) INCLUDE (priority)
+    WHERE status IN ('PENDING', 'RETRYING');
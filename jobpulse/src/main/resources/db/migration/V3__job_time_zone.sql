@@ -0,0 +1,10 @@
+-- Per-job time zone for cron evaluation; NULL keeps the server default
+ALTER TABLE job ADD COLUMN IF NOT EXISTS time_zone VARCHAR(64);
+
+-- Due times and claim leases become instants (stored as UTC) so nodes in different zones agree on
+-- what is due. Existing values were written as server-local wall-clock times: run this with the
+-- session TimeZone set to the zone the servers used (SET TIME ZONE '...'), which is how PostgreSQL
+-- interprets a timestamp cast to timestamptz. Indexes on the columns are rebuilt in place, and the
+-- due scan stays a plain range scan on next_run_time.
+ALTER TABLE job ALTER COLUMN next_run_time TYPE TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE job ALTER COLUMN lease_expires_at TYPE TIMESTAMP(6) WITH TIME ZONE;
@@ -0,0 +1,2 @@
+-- Misfire policy per job: FIRE_ONCE, SKIP or FIRE_ALL; NULL behaves as FIRE_ONCE
+ALTER TABLE job ADD COLUMN IF NOT EXISTS misfire_policy VARCHAR(16);
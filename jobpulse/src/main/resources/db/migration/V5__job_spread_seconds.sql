@@ -0,0 +1,2 @@
+-- Opt-in spread window: each cron fire is shifted by a job-id-derived offset below this bound
+ALTER TABLE job ADD COLUMN IF NOT EXISTS spread_seconds INTEGER;
@@ -0,0 +1,5 @@
+-- Per-job retry backoff overrides; NULL uses the default for the failure reason
+ALTER TABLE job ADD COLUMN IF NOT EXISTS retry_base_delay_ms BIGINT;
+ALTER TABLE job ADD COLUMN IF NOT EXISTS retry_multiplier DOUBLE PRECISION;
+ALTER TABLE job ADD COLUMN IF NOT EXISTS retry_max_delay_ms BIGINT;
+ALTER TABLE job ADD COLUMN IF NOT EXISTS retry_jitter BOOLEAN;
@@ -0,0 +1,7 @@
+-- Per-job wall-clock limit of a single run; NULL uses the job type's default
+ALTER TABLE job ADD COLUMN IF NOT EXISTS timeout_seconds INTEGER;
+
+-- Hibernate generated CHECK constraints listing the Status values when it created these tables
+-- (job_status_check is V1_1's since); they would reject the new CANCELLED status
+ALTER TABLE job DROP CONSTRAINT IF EXISTS job_status_check;
+ALTER TABLE job_history DROP CONSTRAINT IF EXISTS job_history_status_check;
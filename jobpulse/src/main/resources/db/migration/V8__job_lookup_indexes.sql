@@ -0,0 +1,20 @@
+-- Secondary indexes for the per-owner and per-job lookups, which were sequential scans. The due
+-- scan already has its partial index (idx_job_due_priority, V2). JobQueryPlanTest checks that the
+-- planner can use every index below.
+
+-- Jobs of an owner, optionally by status (job list, status filter, stats). The leading owner_id
+-- also covers the owner foreign key.
+CREATE INDEX IF NOT EXISTS idx_job_owner_status ON job (owner_id, status);
+
+-- History of a job, newest first; the leading job_id also covers the foreign key
+CREATE INDEX IF NOT EXISTS idx_job_history_job_run_time ON job_history (job_id, run_time DESC);
+
+-- Foreign keys: dead letters are looked up through their job's owner, templates by owner, and
+-- deleting a job or user would otherwise scan these tables
+CREATE INDEX IF NOT EXISTS idx_dead_letter_job_job ON dead_letter_job (job_id);
+CREATE INDEX IF NOT EXISTS idx_job_template_owner ON job_template (owner_id);
+
+-- Lease reaper: only running or claimed rows carry a lease, so the index stays tiny
+CREATE INDEX IF NOT EXISTS idx_job_lease_expires_at
+    ON job (lease_expires_at)
+    WHERE status IN ('RUNNING', 'CLAIMED');
@@ -0,0 +1,8 @@
+-- Listings are keyset-paginated: jobs newest first by id, history by (run_time, id). Indexes in
+-- that exact order let each page start at the cursor and stop after one page, with no sort.
+CREATE INDEX IF NOT EXISTS idx_job_owner_id ON job (owner_id, id DESC);
+
+-- Supersedes idx_job_history_job_run_time (V8): id breaks ties between runs of the same instant
+CREATE INDEX IF NOT EXISTS idx_job_history_job_run_time_id
+    ON job_history (job_id, run_time DESC, id DESC);
+DROP INDEX IF EXISTS idx_job_history_job_run_time;
@@ -0,0 +1,90 @@
+package com.jobpulse.benchmark;
+
+import com.jobpulse.util.BitsetCronExpression;
+import java.text.ParseException;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.quartz.CronExpression;
+
+/**
+ * Compares next-fire-time computation of compiled Quartz expressions with {@link
+ * BitsetCronExpression} for the expressions JobPulse generates plus a weekday schedule, both
+ * already compiled so only evaluation is measured. Europe/Berlin covers a zone with DST, where the
+ * bitset engine should still allocate nothing per call ({@code gc.alloc.rate.norm}).
+ *
+ * <p>Not part of the test suite. Run it from the IDE through {@link #main} or with {@code mvn
+ * test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp
+ * %classpath org.openjdk.jmh.Main CronEngineBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CronEngineBenchmark {
+
+  private static final String[] EXPRESSIONS = {
+    "0 */15 * * * ? *", "0 0 */2 * * ? *", "0 0 0 */1 * ? *", "0 30 9 ? * MON-FRI *"
+  };
+
+  @Param({"UTC", "Europe/Berlin"})
+  public String zone;
+
+  private CronExpression[] quartz;
+  private BitsetCronExpression[] bitset;
+  private long from;
+  private int call;
+
+  @Setup
+  public void compile() throws ParseException {
+    ZoneId zoneId = ZoneId.of(zone);
+    quartz = new CronExpression[EXPRESSIONS.length];
+    bitset = new BitsetCronExpression[EXPRESSIONS.length];
+    for (int i = 0; i < EXPRESSIONS.length; i++) {
+      quartz[i] = new CronExpression(EXPRESSIONS[i]);
+      quartz[i].setTimeZone(TimeZone.getTimeZone(zoneId));
+      bitset[i] = BitsetCronExpression.compile(EXPRESSIONS[i], zoneId, CronExpression.MAX_YEAR);
+    }
+    from = System.currentTimeMillis() / 1000;
+  }
+
+  @Benchmark
+  public long quartz() {
+    // Starting points walk through about half a year, across both DST transitions
+    int i = call++ & 0xFFFFFF;
+    return quartz[i & 3].getNextValidTimeAfter(new Date((from + i) * 1000)).getTime();
+  }
+
+  @Benchmark
+  public long bitset() {
+    int i = call++ & 0xFFFFFF;
+    return bitset[i & 3].nextAfter(from + i);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(CronEngineBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
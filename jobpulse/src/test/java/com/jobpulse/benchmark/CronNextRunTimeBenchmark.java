@@ -0,0 +1,93 @@
+package com.jobpulse.benchmark;
+
+import com.jobpulse.util.CronExpressionUtil;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.quartz.CronExpression;
+
+/**
+ * Compares the cached {@link CronExpressionUtil#getNextRunTime} with the previous path, which
+ * validated and then re-parsed the expression on every call, and with planning several fire times
+ * through {@link CronExpressionUtil#getNextRunTimes}, reported per fire time.
+ *
+ * <p>Not part of the test suite. Run it from the IDE through {@link #main} or with {@code mvn
+ * test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp
+ * %classpath org.openjdk.jmh.Main CronNextRunTimeBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CronNextRunTimeBenchmark {
+
+  private static final String[] EXPRESSIONS = {
+    "0 */15 * * * ? *", "0 0 */2 * * ? *", "0 0 0 */1 * ? *", "0 30 9 ? * MON-FRI *"
+  };
+  private static final int PLANNED = 10;
+
+  private LocalDateTime from;
+  private int call;
+
+  @Setup
+  public void start() {
+    from = LocalDateTime.now();
+  }
+
+  @Benchmark
+  public LocalDateTime uncached() throws Exception {
+    return uncached(EXPRESSIONS[call++ & 3], from);
+  }
+
+  @Benchmark
+  public LocalDateTime cached() {
+    return CronExpressionUtil.getNextRunTime(EXPRESSIONS[call++ & 3], from);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PLANNED)
+  public List<LocalDateTime> cachedNextTen() {
+    return CronExpressionUtil.getNextRunTimes(EXPRESSIONS[call++ & 3], from, PLANNED);
+  }
+
+  // The implementation before compiled expressions were cached
+  private static LocalDateTime uncached(String expression, LocalDateTime from) throws Exception {
+    if (!CronExpression.isValidExpression(expression)) {
+      throw new IllegalArgumentException("Invalid cron expression: " + expression);
+    }
+    CronExpression cron = new CronExpression(expression);
+    cron.setTimeZone(TimeZone.getDefault());
+    Date next =
+        cron.getNextValidTimeAfter(Date.from(from.atZone(ZoneId.systemDefault()).toInstant()));
+    return LocalDateTime.ofInstant(next.toInstant(), ZoneId.systemDefault());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(CronNextRunTimeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,106 @@
+package com.jobpulse.benchmark;
+
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.service.JobDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Compares the throughput of the platform-thread and virtual-thread dispatcher modes for jobs that
+ * spend most of their time blocked, the way HTTP_CALL and EMAIL jobs wait on {@code block()}. Each
+ * invocation dispatches a batch of jobs and waits for all of them; scores are jobs per second.
+ *
+ * <p>Not part of the test suite. Run it from the IDE through {@link #main} or with {@code mvn
+ * test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp
+ * %classpath org.openjdk.jmh.Main DispatcherThroughputBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatcherThroughputBenchmark {
+
+  private static final int JOBS = 5_000;
+
+  @Param({"platform", "virtual"})
+  public String mode;
+
+  @Param({"50"})
+  public long blockMillis;
+
+  private JobDispatcher dispatcher;
+
+  @Setup
+  public void start() {
+    MockEnvironment environment =
+        "platform".equals(mode)
+            ? new MockEnvironment()
+                .withProperty("jobpulse.dispatcher.mode", "platform")
+                .withProperty("jobpulse.dispatcher.http-call.pool-size", "64")
+                .withProperty("jobpulse.dispatcher.http-call.queue-capacity", String.valueOf(JOBS))
+            : new MockEnvironment()
+                .withProperty("jobpulse.dispatcher.mode", "virtual")
+                .withProperty(
+                    "jobpulse.dispatcher.http-call.max-concurrency", String.valueOf(JOBS));
+    dispatcher = new JobDispatcher(environment, new SimpleMeterRegistry());
+  }
+
+  @TearDown
+  public void stop() {
+    dispatcher.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(JOBS)
+  public void dispatchBatch() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(JOBS);
+    for (int i = 0; i < JOBS; i++) {
+      boolean accepted =
+          dispatcher.dispatch(
+              JobType.HTTP_CALL,
+              () -> {
+                try {
+                  Thread.sleep(blockMillis);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                } finally {
+                  done.countDown();
+                }
+              });
+      if (!accepted) {
+        done.countDown();
+      }
+    }
+    done.await(10, TimeUnit.MINUTES);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(DispatcherThroughputBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
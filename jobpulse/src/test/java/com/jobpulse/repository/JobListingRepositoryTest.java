@@ -0,0 +1,110 @@
+package com.jobpulse.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.dto.response.JobResponse;
+import com.jobpulse.model.Job;
+import com.jobpulse.model.Status;
+import com.jobpulse.model.User;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * The job listings leave FAILED jobs to the dead-letter view, except when filtering by status. The
+ * exclusion lives in the page queries, so it is checked against the schema Flyway builds in a
+ * PostgreSQL container.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobListingRepositoryTest {
+
+  private static final String SCHEMA = "listings";
+  private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private JobRepository jobRepository;
+
+  private User owner;
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) throws SQLException {
+    PostgresTestDatabase.register(registry, SCHEMA);
+  }
+
+  @BeforeEach
+  void seed() {
+    owner =
+        entityManager.persist(
+            User.builder().username("owner").email("owner@example.com").passwordHash("x").build());
+    entityManager.persist(job("email digest", Status.PENDING));
+    entityManager.persist(job("email cleanup", Status.FAILED));
+    entityManager.persist(job("email report", Status.SUCCESS));
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void findPageByOwner_excludesFailed() {
+    List<JobResponse> page = jobRepository.findPageByOwner(owner, Long.MAX_VALUE, Limit.of(51));
+
+    assertThat(page)
+        .extracting(JobResponse::getName)
+        .containsExactly("email report", "email digest");
+  }
+
+  @Test
+  void searchPageByOwnerAndQuery_excludesFailed() {
+    List<JobResponse> page =
+        jobRepository.searchPageByOwnerAndQuery(owner, "EMAIL", Long.MAX_VALUE, Limit.of(51));
+
+    assertThat(page).extracting(JobResponse::getStatus).doesNotContain(Status.FAILED).hasSize(2);
+  }
+
+  @Test
+  void findPageByOwnerAndDateRange_excludesFailed() {
+    List<JobResponse> page =
+        jobRepository.findPageByOwnerAndDateRange(
+            owner, CREATED.minusDays(1), CREATED.plusDays(1), Long.MAX_VALUE, Limit.of(51));
+
+    assertThat(page).extracting(JobResponse::getStatus).doesNotContain(Status.FAILED).hasSize(2);
+  }
+
+  @Test
+  void findPageByOwnerAndStatus_stillListsFailed() {
+    List<JobResponse> page =
+        jobRepository.findPageByOwnerAndStatus(owner, Status.FAILED, Long.MAX_VALUE, Limit.of(51));
+
+    assertThat(page).extracting(JobResponse::getName).containsExactly("email cleanup");
+  }
+
+  @Test
+  void nextPageSkipsFailedToo() {
+    List<JobResponse> first = jobRepository.findPageByOwner(owner, Long.MAX_VALUE, Limit.of(1));
+    List<JobResponse> next =
+        jobRepository.findPageByOwner(owner, first.get(0).getId(), Limit.of(51));
+
+    assertThat(next).extracting(JobResponse::getName).containsExactly("email digest");
+  }
+
+  private Job job(String name, Status status) {
+    return Job.builder()
+        .name(name)
+        .owner(owner)
+        .jobType(JobType.EMAIL)
+        .status(status)
+        .maxRetries(3)
+        .createdAt(CREATED)
+        .build();
+  }
+}
@@ -0,0 +1,231 @@
+package com.jobpulse.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobpulse.model.Status;
+import com.jobpulse.model.User;
+import com.jobpulse.service.JobHistoryPartitions;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Guards the indexes of the migrations: builds the schema with Flyway in a PostgreSQL container,
+ * seeds a skewed data set and checks the plans of the hot repository queries. The SQL Hibernate
+ * sends is recorded and planned as a generic plan, i.e. the plan a prepared statement settles on,
+ * with the planner's regular cost model; no scan type is disabled.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.jpa.hibernate.ddl-auto=none",
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.jobpulse.repository.JobQueryPlanTest$RecordingInspector"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobQueryPlanTest {
+
+  private static final String SCHEMA = "plans";
+  private static final UUID OWNER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+  private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private JobRepository jobRepository;
+  @Autowired private JobHistoryRepository jobHistoryRepository;
+  @Autowired private DeadLetterJobRepository deadLetterJobRepository;
+
+  /** Records the SQL Hibernate sends, so the plans below are those of the real queries. */
+  public static class RecordingInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+      statements.add(sql);
+      return sql;
+    }
+  }
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) throws SQLException {
+    PostgresTestDatabase.register(registry, SCHEMA);
+  }
+
+  @BeforeAll
+  static void seed() throws SQLException {
+    try (Connection connection = PostgresTestDatabase.connect(SCHEMA);
+        Statement statement = connection.createStatement()) {
+      statement.execute(
+          "INSERT INTO users (user_id, username, email, password_hash, is_enabled,"
+              + " is_email_verified, is_account_locked, created_at, updated_at)"
+              + " SELECT ('00000000-0000-0000-0000-' || LPAD(i::text, 12, '0'))::uuid,"
+              + " 'user' || i, 'user' || i || '@example.com', 'x', true, true, false, now(), now()"
+              + " FROM generate_series(1, 50) i");
+      // Most jobs are settled, as in production, so the partial indexes stay small
+      statement.execute(
+          "INSERT INTO job (name, owner_id, recurring, job_type, status, retry_count,"
+              + " max_retries, next_run_time, lease_expires_at, priority)"
+              + " SELECT 'job' || i,"
+              + " ('00000000-0000-0000-0000-' || LPAD((i % 50 + 1)::text, 12, '0'))::uuid, false,"
+              + " 0, CASE WHEN i % 100 = 0 THEN 'PENDING' WHEN i % 100 = 1 THEN 'RUNNING'"
+              + " WHEN i % 100 = 2 THEN 'RETRYING' ELSE 'SUCCESS' END, 0, 3,"
+              + " now() + (i % 3600 - 1800) * interval '1 second',"
+              + " CASE WHEN i % 100 = 1 THEN now() + interval '10 minutes' END, i % 10"
+              + " FROM generate_series(1, 50000) i");
+      // V10 only partitions job_history from the current month on, so the runs are seeded there
+      statement.execute(
+          "INSERT INTO job_history (job_id, run_time, status, retry_attempt)"
+              + " SELECT i % 50000 + 1,"
+              + " date_trunc('month', LOCALTIMESTAMP) + i * interval '1 second', 'SUCCESS', 0"
+              + " FROM generate_series(1, 200000) i");
+      statement.execute(
+          "INSERT INTO dead_letter_job (job_id, last_error, failed_at)"
+              + " SELECT i * 50, 'boom', now() FROM generate_series(1, 1000) i");
+      statement.execute("ANALYZE");
+    }
+  }
+
+  @Test
+  void dueScanUsesThePartialIndex() {
+    String plan = plan(() -> jobRepository.findDueJobs(Instant.now()));
+
+    assertThat(plan).contains("idx_job_due_priority").doesNotContain("Seq Scan on job ");
+  }
+
+  @Test
+  void claimRanksOnlyABoundedSliceOfTheDueIndex() {
+    Instant now = Instant.now();
+    String plan =
+        plan(
+            () ->
+                jobRepository.claimDueJobIds(now, "node-a", now.plusSeconds(600), 100, 400, 60));
+
+    // The aged-priority sort only sees the candidates read in index order
+    assertThat(plan).contains("idx_job_due_priority").doesNotContain("Seq Scan on job ");
+  }
+
+  @Test
+  void ownerPagesReadTheOwnerIndexWithoutSorting() {
+    String plan = plan(() -> jobRepository.findPageByOwner(owner(), 40_000, Limit.of(51)));
+
+    assertThat(plan).contains("idx_job_owner_id").doesNotContain("Sort");
+  }
+
+  @Test
+  void statusFilterAndStatsReadTheOwnerIndexes() {
+    assertThat(
+            plan(
+                () ->
+                    jobRepository.findPageByOwnerAndStatus(
+                        owner(), Status.RETRYING, Long.MAX_VALUE, Limit.of(51))))
+        .contains("idx_job_owner")
+        .doesNotContain("Seq Scan on job ");
+    assertThat(plan(() -> jobRepository.countByStatus(owner())))
+        .contains("idx_job_owner")
+        .doesNotContain("Seq Scan on job ");
+  }
+
+  @Test
+  void historyPagesReadTheJobRunTimeIndex() {
+    // Each partition has its own copy of idx_job_history_job_run_time_id, named after the columns
+    String index = JobHistoryPartitions.name(YearMonth.now()) + "_job_id_run_time_id_idx";
+
+    assertThat(plan(() -> jobHistoryRepository.findPageByJob(42, Limit.of(51))))
+        .contains(index);
+    assertThat(
+            plan(
+                () ->
+                    jobHistoryRepository.findPageByJobAfter(
+                        42, YearMonth.now().atDay(2).atStartOfDay(), 1000, Limit.of(51))))
+        .contains(index);
+  }
+
+  @Test
+  void historyReadsBoundedByRunTimeOnlyScanTheirMonth() {
+    YearMonth month = YearMonth.now();
+    String plan =
+        explain(
+            "SELECT * FROM job_history WHERE run_time >= '"
+                + month.atDay(1)
+                + "' AND run_time < '"
+                + month.plusMonths(1).atDay(1)
+                + "'");
+
+    assertThat(plan)
+        .contains(JobHistoryPartitions.name(month))
+        .doesNotContain(JobHistoryPartitions.name(month.plusMonths(1)));
+  }
+
+  @Test
+  void deadLetterPagesDoNotScanTheJobs() {
+    String plan =
+        plan(() -> deadLetterJobRepository.findPageByOwner(owner(), Long.MAX_VALUE, Limit.of(51)));
+
+    assertThat(plan).doesNotContain("Seq Scan on job ");
+  }
+
+  @Test
+  void leaseReaperUsesThePartialLeaseIndex() {
+    assertThat(plan(() -> jobRepository.reapExpiredLeases(Instant.now())))
+        .contains("idx_job_lease_expires_at");
+  }
+
+  private User owner() {
+    return entityManager.getEntityManager().getReference(User.class, OWNER);
+  }
+
+  /** Generic plan of the first statement {@code query} sends. */
+  private String plan(Runnable query) {
+    entityManager.flush();
+    statements.clear();
+    query.run();
+    assertThat(statements).isNotEmpty();
+    return explain(parameterized(statements.get(0)));
+  }
+
+  private String explain(String sql) {
+    return entityManager
+        .getEntityManager()
+        .unwrap(Session.class)
+        .doReturningWork(connection -> explain(connection, sql));
+  }
+
+  private static String explain(Connection connection, String sql) throws SQLException {
+    StringBuilder plan = new StringBuilder();
+    try (Statement statement = connection.createStatement();
+        ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + sql)) {
+      while (rows.next()) {
+        plan.append(rows.getString(1)).append('\n');
+      }
+    }
+    return plan.toString();
+  }
+
+  /** Turns JDBC placeholders into the numbered parameters a generic plan takes. */
+  private static String parameterized(String sql) {
+    StringBuilder numbered = new StringBuilder();
+    int parameter = 0;
+    for (char c : sql.toCharArray()) {
+      if (c == '?') {
+        numbered.append('$').append(++parameter);
+      } else {
+        numbered.append(c);
+      }
+    }
+    return numbered.toString();
+  }
+}
@@ -0,0 +1,242 @@
+package com.jobpulse.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.jobpulse.controller.JobController;
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.dto.response.DeadLetterJobResponse;
+import com.jobpulse.dto.response.JobHistoryResponse;
+import com.jobpulse.dto.response.JobResponse;
+import com.jobpulse.dto.response.JobStatsResponse;
+import com.jobpulse.dto.response.PageResponse;
+import com.jobpulse.model.DeadLetterJob;
+import com.jobpulse.model.Job;
+import com.jobpulse.model.JobHistory;
+import com.jobpulse.model.Status;
+import com.jobpulse.model.User;
+import com.jobpulse.service.ClusterMembership;
+import com.jobpulse.service.JobClaimService;
+import com.jobpulse.service.JobDispatcher;
+import com.jobpulse.service.JobExecutorFactory;
+import com.jobpulse.service.JobLockService;
+import com.jobpulse.service.JobService;
+import com.jobpulse.service.JobStatsCache;
+import com.jobpulse.service.MisfireHandler;
+import com.jobpulse.service.RedisDueQueue;
+import com.jobpulse.service.RetryPolicy;
+import com.jobpulse.service.RunningJobs;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Guards the read endpoints against N+1 selects: each one resolves its user and then reads a page
+ * or a lookup in a fixed number of statements, however many jobs, owners and dead letters the page
+ * spans. The controller is called with a {@link JobService} on the real repositories; statements
+ * are counted with Hibernate statistics, after the seed data is flushed and evicted.
+ *
+ * <p>Runs against the schema Flyway builds in a PostgreSQL container, so the tables only Hibernate
+ * would create (tokens, identities) are absent; none of these reads touch them.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.jpa.hibernate.ddl-auto=none",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobReadQueryCountTest {
+
+  private static final String SCHEMA = "reads";
+  // V10 only partitions job_history from the current month on
+  private static final LocalDateTime CREATED = YearMonth.now().atDay(1).atTime(12, 0);
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private JobRepository jobRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private DeadLetterJobRepository deadLetterJobRepository;
+  @Autowired private JobHistoryRepository jobHistoryRepository;
+
+  private JobController controller;
+  private UUID ownerId;
+  private final List<Job> jobs = new ArrayList<>();
+
+  @DynamicPropertySource
+  static void database(DynamicPropertyRegistry registry) throws SQLException {
+    PostgresTestDatabase.register(registry, SCHEMA);
+  }
+
+  @BeforeEach
+  void setUp() {
+    JobService jobService =
+        new JobService(
+            jobRepository,
+            userRepository,
+            mock(JobLockService.class),
+            mock(JobExecutorFactory.class),
+            deadLetterJobRepository,
+            jobHistoryRepository,
+            mock(RetryPolicy.class),
+            mock(JobDispatcher.class),
+            mock(JobClaimService.class),
+            mock(RedisDueQueue.class),
+            mock(ClusterMembership.class),
+            mock(MisfireHandler.class),
+            mock(RunningJobs.class),
+            mock(JobStatsCache.class),
+            mock(ApplicationEventPublisher.class));
+    ReflectionTestUtils.setField(jobService, "defaultPageSize", 50);
+    ReflectionTestUtils.setField(jobService, "maxPageSize", 500);
+    controller = new JobController(jobService);
+
+    User owner = entityManager.persist(user("owner"));
+    User other = entityManager.persist(user("other"));
+    ownerId = owner.getId();
+    for (int i = 0; i < 6; i++) {
+      Status status = i < 3 ? Status.FAILED : Status.SUCCESS;
+      Job job = entityManager.persist(job("job" + i, owner, status));
+      jobs.add(job);
+      entityManager.persist(job("other" + i, other, status));
+      for (int run = 0; run < 4; run++) {
+        entityManager.persist(
+            JobHistory.builder()
+                .job(job)
+                .runTime(CREATED.plusMinutes(run))
+                .status(Status.SUCCESS)
+                .build());
+      }
+      if (status == Status.FAILED) {
+        entityManager.persist(
+            DeadLetterJob.builder().job(job).lastError("boom").failedAt(CREATED).build());
+      }
+    }
+    entityManager.flush();
+  }
+
+  @Test
+  void getJobs_isTheUserAndOnePage() {
+    PageResponse<JobResponse> page = counting(2, () -> controller.getAllJobs(null, null, ownerId));
+
+    assertThat(page.getItems())
+        .hasSize(3)
+        .allSatisfy(job -> assertThat(job.getJobType()).isEqualTo("LOG"));
+  }
+
+  @Test
+  void getJob_isTheUserAndOneLookup() {
+    JobResponse job = counting(2, () -> controller.getJob(jobs.get(0).getId(), ownerId));
+
+    assertThat(job.getName()).isEqualTo("job0");
+  }
+
+  @Test
+  void filterByStatus_isTheUserAndOnePage() {
+    PageResponse<JobResponse> page =
+        counting(2, () -> controller.filterByStatus(Status.FAILED, null, null, ownerId));
+
+    assertThat(page.getItems()).hasSize(3);
+  }
+
+  @Test
+  void searchJobs_isTheUserAndOnePage() {
+    PageResponse<JobResponse> page =
+        counting(2, () -> controller.searchJobs("JOB", null, null, ownerId));
+
+    assertThat(page.getItems()).hasSize(3);
+  }
+
+  @Test
+  void filterByDateRange_isTheUserAndOnePage() {
+    PageResponse<JobResponse> page =
+        counting(
+            2,
+            () ->
+                controller.filterByDateRange(
+                    CREATED.minusDays(1), CREATED.plusDays(1), null, null, ownerId));
+
+    assertThat(page.getItems()).hasSize(3);
+  }
+
+  @Test
+  void getDeadLetterJobs_isTheUserAndOnePageSpanningJobs() {
+    PageResponse<DeadLetterJobResponse> page =
+        counting(2, () -> controller.getDeadLetterJobs(null, null, ownerId));
+
+    assertThat(page.getItems())
+        .hasSize(3)
+        .allSatisfy(
+            dl -> {
+              assertThat(dl.getJobName()).startsWith("job");
+              assertThat(dl.getJobType()).isEqualTo("LOG");
+              assertThat(dl.getMaxRetries()).isEqualTo(3);
+            });
+  }
+
+  @Test
+  void getJobHistory_isTheUserTheOwnershipCheckAndOnePage() {
+    long jobId = jobs.get(0).getId();
+
+    PageResponse<JobHistoryResponse> first =
+        counting(3, () -> controller.getJobHistory(jobId, null, 2, ownerId));
+    PageResponse<JobHistoryResponse> next =
+        counting(3, () -> controller.getJobHistory(jobId, first.getNextCursor(), 51, ownerId));
+
+    assertThat(first.getItems())
+        .extracting(JobHistoryResponse::getRunTime)
+        .isSortedAccordingTo(Comparator.reverseOrder());
+    assertThat(next.getItems()).hasSize(2);
+  }
+
+  @Test
+  void getJobStats_isTheUserAndTwoCounts() {
+    JobStatsResponse stats = counting(3, () -> controller.getJobStats(ownerId));
+
+    assertThat(stats.getFailedJobs()).isEqualTo(3);
+    assertThat(stats.getDeadLetterJobs()).isEqualTo(3);
+  }
+
+  /** Calls an endpoint with an empty persistence context and checks how many statements it ran. */
+  private <T> T counting(long expected, Supplier<ResponseEntity<T>> endpoint) {
+    entityManager.clear();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    T body = endpoint.get().getBody();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    return body;
+  }
+
+  private static User user(String name) {
+    return User.builder().username(name).email(name + "@example.com").passwordHash("x").build();
+  }
+
+  private static Job job(String name, User owner, Status status) {
+    return Job.builder()
+        .name(name)
+        .owner(owner)
+        .jobType(JobType.LOG)
+        .status(status)
+        .maxRetries(3)
+        .createdAt(CREATED)
+        .build();
+  }
+}
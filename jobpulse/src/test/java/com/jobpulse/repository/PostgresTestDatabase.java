@@ -0,0 +1,69 @@
+package com.jobpulse.repository;
+
+import com.jobpulse.config.FlywayConfig;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * PostgreSQL for the repository tests that need the real planner or the real schema. One container
+ * serves the whole test run; each test class works in a schema of its own, built by Flyway from
+ * {@code db/migration}.
+ */
+final class PostgresTestDatabase {
+
+  private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static final Set<String> migrated = new HashSet<>();
+
+  private PostgresTestDatabase() {}
+
+  /** Creates {@code schema} and applies the migrations to it, once per test run. */
+  static synchronized void migrate(String schema) throws SQLException {
+    if (!POSTGRES.isRunning()) {
+      POSTGRES.start();
+    }
+    if (!migrated.add(schema)) {
+      return;
+    }
+    try (Connection connection =
+            DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA " + schema);
+    }
+    Flyway flyway =
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .schemas(schema)
+            .baselineVersion("1")
+            .load();
+    // As on startup: an empty schema is baselined past V1 and built from V1_0_1 on
+    FlywayConfig.baselineThenMigrate(flyway);
+  }
+
+  /** Points the Spring datasource at {@code schema}, migrating it first. */
+  static void register(DynamicPropertyRegistry registry, String schema) throws SQLException {
+    migrate(schema);
+    registry.add("spring.datasource.url", () -> jdbcUrl(schema));
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+  }
+
+  static Connection connect(String schema) throws SQLException {
+    migrate(schema);
+    return DriverManager.getConnection(
+        jdbcUrl(schema), POSTGRES.getUsername(), POSTGRES.getPassword());
+  }
+
+  private static String jdbcUrl(String schema) {
+    String url = POSTGRES.getJdbcUrl();
+    return url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+  }
+}
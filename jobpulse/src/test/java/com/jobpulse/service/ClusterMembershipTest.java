@@ -0,0 +1,123 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.config.NodeIdentity;
+import com.jobpulse.dto.response.ClusterStatusResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterMembershipTest {
+
+  private static final String KEY = ClusterMembership.NODES_KEY;
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+
+  private ClusterMembership membership;
+
+  @BeforeEach
+  void setUp() {
+    membership = new ClusterMembership(redisTemplate, new NodeIdentity("node-a"));
+    ReflectionTestUtils.setField(membership, "enabled", true);
+    ReflectionTestUtils.setField(membership, "partitions", 64);
+    ReflectionTestUtils.setField(membership, "virtualNodes", 64);
+    ReflectionTestUtils.setField(membership, "nodeTtlMillis", 15_000L);
+  }
+
+  @Test
+  void beforeFirstHeartbeat_ownsEverything() {
+    assertThat(membership.ownedPartitions()).isNull();
+    assertThat(membership.owns(7L)).isTrue();
+  }
+
+  @Test
+  void heartbeat_registersNodeAndSplitsPartitions() {
+    stubMembers("node-a", "node-b");
+
+    membership.heartbeat();
+
+    // Scored and evicted by the script with the Redis clock, never with this node's
+    verify(redisTemplate)
+        .execute(ClusterMembership.HEARTBEAT_SCRIPT, List.of(KEY), "node-a", "15000");
+    verify(redisTemplate, never()).opsForZSet();
+    List<Integer> owned = membership.ownedPartitions();
+    assertThat(owned).isNotEmpty().hasSizeLessThan(64);
+    for (int partition = 0; partition < 64; partition++) {
+      assertThat(membership.owns(partition)).isEqualTo(owned.contains(partition));
+    }
+  }
+
+  @Test
+  void nodeLeaving_rebalancesItsPartitions() {
+    stubMembers("node-a", "node-b");
+    membership.heartbeat();
+    List<Integer> shared = membership.ownedPartitions();
+
+    stubMembers("node-a");
+    membership.heartbeat();
+
+    assertThat(membership.ownedPartitions()).hasSize(64).containsAll(shared);
+  }
+
+  @Test
+  void heartbeatScriptUsesTheServerClock() {
+    String script = ClusterMembership.HEARTBEAT_SCRIPT.getScriptAsString();
+
+    assertThat(script)
+        .contains("redis.call('TIME')")
+        .contains("'ZADD', KEYS[1], now, ARGV[1]")
+        .contains("'ZREMRANGEBYSCORE', KEYS[1], 0, now - tonumber(ARGV[2])");
+  }
+
+  @Test
+  void failedHeartbeat_keepsTheCurrentAssignment() {
+    stubMembers("node-a", "node-b");
+    membership.heartbeat();
+    List<Integer> owned = membership.ownedPartitions();
+
+    when(redisTemplate.execute(any(), anyList(), any(), any()))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    membership.heartbeat();
+
+    assertThat(membership.ownedPartitions()).isEqualTo(owned);
+  }
+
+  @Test
+  void status_listsPartitionRangesPerNode() {
+    stubMembers("node-a", "node-b");
+    membership.heartbeat();
+
+    ClusterStatusResponse status = membership.status();
+
+    assertThat(status.getNodeId()).isEqualTo("node-a");
+    assertThat(status.getPartitionCount()).isEqualTo(64);
+    assertThat(status.getPartitionRanges()).containsOnlyKeys("node-a", "node-b");
+  }
+
+  @Test
+  void toRanges_collapsesConsecutivePartitions() {
+    assertThat(ClusterMembership.toRanges(List.of(0, 1, 2, 5, 7, 8)))
+        .containsExactly("0-2", "5", "7-8");
+  }
+
+  @SuppressWarnings("unchecked")
+  private void stubMembers(String... nodes) {
+    when(redisTemplate.execute(
+            eq(ClusterMembership.HEARTBEAT_SCRIPT), eq(List.of(KEY)), eq("node-a"), eq("15000")))
+        .thenReturn(List.of(nodes));
+  }
+}
@@ -0,0 +1,60 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobpulse.model.Job;
+import com.jobpulse.model.User;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class DispatchOrderTest {
+
+  private final Instant now = Instant.parse("2030-01-01T00:00:00Z");
+
+  @Test
+  void urgentJobsGoFirstThenByNextRunTime() {
+    Job lowEarly = job(1, 9, now.minusSeconds(30), null);
+    Job urgentLate = job(2, 0, now.minusSeconds(1), null);
+    Job normalEarly = job(3, 5, now.minusSeconds(20), null);
+    Job normalLate = job(4, 5, now.minusSeconds(10), null);
+
+    assertThat(DispatchOrder.order(List.of(lowEarly, normalLate, urgentLate, normalEarly), now, 0))
+        .containsExactly(urgentLate, normalEarly, normalLate, lowEarly);
+  }
+
+  @Test
+  void waitingJobsAgeTowardsTheFront() {
+    Job starved = job(1, 9, now.minusSeconds(600), null);
+    Job fresh = job(2, 2, now.minusSeconds(1), null);
+
+    // 10 minutes at one level per minute brings priority 9 down to 0
+    assertThat(DispatchOrder.effectivePriority(starved, now, 60)).isZero();
+    assertThat(DispatchOrder.order(List.of(fresh, starved), now, 60))
+        .containsExactly(starved, fresh);
+  }
+
+  @Test
+  void futureJobsDoNotAge() {
+    assertThat(DispatchOrder.effectivePriority(job(1, 7, now.plusSeconds(3600), null), now, 60))
+        .isEqualTo(7);
+  }
+
+  @Test
+  void ownersAreInterleavedWithinAPriorityLevel() {
+    User big = User.builder().id(UUID.randomUUID()).build();
+    User small = User.builder().id(UUID.randomUUID()).build();
+    Job big1 = job(1, 5, now.minusSeconds(4), big);
+    Job big2 = job(2, 5, now.minusSeconds(3), big);
+    Job big3 = job(3, 5, now.minusSeconds(2), big);
+    Job small1 = job(4, 5, now.minusSeconds(1), small);
+
+    assertThat(DispatchOrder.order(List.of(big1, big2, big3, small1), now, 0))
+        .containsExactly(big1, small1, big2, big3);
+  }
+
+  private static Job job(long id, int priority, Instant nextRunTime, User owner) {
+    return Job.builder().id(id).priority(priority).nextRunTime(nextRunTime).owner(owner).build();
+  }
+}
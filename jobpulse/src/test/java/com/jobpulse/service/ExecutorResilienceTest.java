@@ -0,0 +1,248 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobpulse.dto.others.JobFailureReason;
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.exception.JobDeferredException;
+import com.jobpulse.exception.NonRetryableJobException;
+import com.jobpulse.exception.RetryableJobException;
+import com.jobpulse.model.Job;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class ExecutorResilienceTest {
+
+  private MockEnvironment environment;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    environment =
+        new MockEnvironment()
+            .withProperty("jobpulse.resilience.enabled", "true")
+            .withProperty("jobpulse.resilience.default-sliding-window-size", "4")
+            .withProperty("jobpulse.resilience.default-minimum-calls", "4");
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void disabledResilienceReturnsTheExecutorUnchanged() {
+    JobExecutor executor = job -> {};
+    ExecutorResilience resilience =
+        new ExecutorResilience(new MockEnvironment(), new ObjectMapper(), meterRegistry);
+
+    assertThat(resilience.decorate(JobType.LOG, executor)).isSameAs(executor);
+  }
+
+  @Test
+  void openBreakerDefersJobsWithoutCallingTheExecutor() throws Exception {
+    environment.withProperty("jobpulse.resilience.host.api.example.com.minimum-calls", "4");
+    ExecutorResilience resilience = resilience();
+    AtomicInteger calls = new AtomicInteger();
+    JobExecutor failing =
+        resilience.decorate(
+            JobType.HTTP_CALL,
+            job -> {
+              calls.incrementAndGet();
+              throw new RetryableJobException(JobFailureReason.REMOTE_5XX, "down");
+            });
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> failing.execute(httpJob("https://api.example.com/a")))
+          .isInstanceOf(RetryableJobException.class);
+    }
+
+    assertThat(resilience.circuitBreaker("host:api.example.com").getState())
+        .isEqualTo(CircuitBreaker.State.OPEN);
+    assertThatThrownBy(() -> failing.execute(httpJob("https://api.example.com/b")))
+        .isInstanceOfSatisfying(
+            JobDeferredException.class,
+            e -> assertThat(e.getDelay()).isEqualTo(Duration.ofSeconds(30)));
+    assertThat(calls).hasValue(4);
+    assertThat(
+            meterRegistry
+                .get("jobpulse.executor.rejected")
+                .tag("kind", "circuit_open")
+                .counter()
+                .count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.find("resilience4j.circuitbreaker.state").gauges()).isNotEmpty();
+  }
+
+  @Test
+  void breakersArePerHost() throws Exception {
+    environment
+        .withProperty("jobpulse.resilience.http-call.sliding-window-size", "100")
+        .withProperty("jobpulse.resilience.http-call.minimum-calls", "100")
+        .withProperty("jobpulse.resilience.host.down.example.com.minimum-calls", "4")
+        .withProperty("jobpulse.resilience.host.up.example.com.minimum-calls", "4");
+    ExecutorResilience resilience = resilience();
+    JobExecutor executor =
+        resilience.decorate(
+            JobType.HTTP_CALL,
+            job -> {
+              if (job.getPayload().contains("down.example.com")) {
+                throw new RetryableJobException(JobFailureReason.NETWORK_ERROR, "down");
+              }
+            });
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> executor.execute(httpJob("https://down.example.com")))
+          .isInstanceOf(RetryableJobException.class);
+    }
+
+    assertThatThrownBy(() -> executor.execute(httpJob("https://down.example.com")))
+        .isInstanceOf(JobDeferredException.class);
+    executor.execute(httpJob("https://up.example.com"));
+  }
+
+  @Test
+  void unconfiguredHostsShareTheTypeGuard() throws Exception {
+    JobExecutor executor = resilience().decorate(JobType.HTTP_CALL, job -> {});
+
+    for (int i = 0; i < 100; i++) {
+      executor.execute(httpJob("https://tenant-" + i + ".example.com"));
+    }
+
+    // Hosts come from job payloads, each one must not leave a breaker and its meters behind
+    assertThat(
+            meterRegistry
+                .find("resilience4j.circuitbreaker.state")
+                .tag("name", "type:http-call")
+                .gauges())
+        .isNotEmpty();
+    assertThat(meterRegistry.find("resilience4j.circuitbreaker.state").gauges())
+        .allSatisfy(gauge -> assertThat(gauge.getId().getTag("name")).doesNotStartWith("host:"));
+  }
+
+  @Test
+  void nonRetryableFailuresDoNotTripTheBreaker() {
+    ExecutorResilience resilience = resilience();
+    JobExecutor executor =
+        resilience.decorate(
+            JobType.LOG,
+            job -> {
+              throw new NonRetryableJobException(JobFailureReason.INVALID_CONFIG, "bad");
+            });
+
+    for (int i = 0; i < 10; i++) {
+      assertThatThrownBy(() -> executor.execute(new Job()))
+          .isInstanceOf(NonRetryableJobException.class);
+    }
+    assertThat(resilience.circuitBreaker("type:log").getState())
+        .isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void rateLimiterDefersJobsOverTheLimit() throws Exception {
+    environment.withProperty("jobpulse.resilience.log.limit-per-second", "2");
+    JobExecutor executor = resilience().decorate(JobType.LOG, job -> {});
+
+    executor.execute(new Job());
+    executor.execute(new Job());
+    assertThatThrownBy(() -> executor.execute(new Job())).isInstanceOf(JobDeferredException.class);
+  }
+
+  @Test
+  void bulkheadCapsConcurrentRuns() throws Exception {
+    environment.withProperty("jobpulse.resilience.default-max-concurrent", "1");
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    JobExecutor executor =
+        resilience()
+            .decorate(
+                JobType.SCRIPT,
+                job -> {
+                  started.countDown();
+                  release.await();
+                });
+
+    Thread running =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  try {
+                    executor.execute(new Job());
+                  } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                  }
+                });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> executor.execute(new Job())).isInstanceOf(JobDeferredException.class);
+
+    release.countDown();
+    running.join();
+    executor.execute(new Job());
+  }
+
+  @Test
+  void bulkheadRejectionsDoNotSpendRateLimitPermits() throws Exception {
+    environment
+        .withProperty("jobpulse.resilience.script.limit-per-second", "2")
+        .withProperty("jobpulse.resilience.script.max-concurrent", "1");
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    JobExecutor executor =
+        resilience()
+            .decorate(
+                JobType.SCRIPT,
+                job -> {
+                  if (calls.incrementAndGet() == 1) {
+                    started.countDown();
+                    release.await();
+                  }
+                });
+
+    Thread running =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  try {
+                    executor.execute(new Job());
+                  } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                  }
+                });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> executor.execute(new Job()))
+          .isInstanceOf(JobDeferredException.class);
+    }
+    release.countDown();
+    running.join();
+
+    // The second permit of this second is still there for the next run
+    executor.execute(new Job());
+    assertThat(calls).hasValue(2);
+    assertThat(
+            meterRegistry
+                .counter(
+                    "jobpulse.executor.rejected", "name", "type:script", "kind", "bulkhead_full")
+                .count())
+        .isEqualTo(3);
+  }
+
+  private ExecutorResilience resilience() {
+    return new ExecutorResilience(environment, new ObjectMapper(), meterRegistry);
+  }
+
+  private static Job httpJob(String url) {
+    return Job.builder()
+        .name("call")
+        .jobType(JobType.HTTP_CALL)
+        .payload("{\"url\":\"" + url + "\",\"method\":\"GET\"}")
+        .build();
+  }
+}
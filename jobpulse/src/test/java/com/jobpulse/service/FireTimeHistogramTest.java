@@ -0,0 +1,66 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.dto.response.FireTimeHistogramResponse;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.model.Status;
+import com.jobpulse.repository.JobRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FireTimeHistogramTest {
+
+  private JobRepository jobRepository;
+  private SimpleMeterRegistry meterRegistry;
+  private FireTimeHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    jobRepository = mock(JobRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    histogram = new FireTimeHistogram(jobRepository, meterRegistry);
+  }
+
+  @Test
+  void snapshotFillsEmptyBucketsAndReportsThePeak() {
+    when(jobRepository.countScheduledPerSlot(any(), any(), eq(10)))
+        .thenReturn(List.of(new Object[] {0, 4L}, new Object[] {2, 12L}));
+
+    FireTimeHistogramResponse response = histogram.snapshot(60, 10);
+
+    assertThat(response.getCounts()).containsExactly(4L, 0L, 12L, 0L, 0L, 0L);
+    assertThat(response.getTotal()).isEqualTo(16);
+    assertThat(response.getPeak()).isEqualTo(12);
+    assertThat(response.getPeakToMean()).isEqualTo(4.5);
+  }
+
+  @Test
+  void rejectsInvalidBuckets() {
+    assertThatThrownBy(() -> histogram.snapshot(60, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> histogram.snapshot(86_400, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void recordsTheSecondWithinTheMinuteOfScheduledFireTimes() {
+    histogram.onScheduleChanged(
+        new JobScheduleChangedEvent(1L, Status.PENDING, Instant.parse("2030-01-01T00:01:17Z")));
+    histogram.onScheduleChanged(new JobScheduleChangedEvent(2L, Status.SUCCESS, null));
+
+    DistributionSummary summary =
+        meterRegistry.get("jobpulse.scheduler.fire.second-of-minute").summary();
+    assertThat(summary.count()).isEqualTo(1);
+    assertThat(summary.totalAmount()).isEqualTo(17);
+  }
+}
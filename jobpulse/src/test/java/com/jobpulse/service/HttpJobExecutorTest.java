@@ -0,0 +1,33 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class HttpJobExecutorTest {
+
+  private final Instant now = Instant.parse("2030-01-01T12:00:00Z");
+
+  @Test
+  void parsesRetryAfterSeconds() {
+    assertThat(HttpJobExecutor.parseRetryAfter("120", now)).isEqualTo(Duration.ofSeconds(120));
+    assertThat(HttpJobExecutor.parseRetryAfter(" 0 ", now)).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void parsesRetryAfterHttpDates() {
+    assertThat(HttpJobExecutor.parseRetryAfter("Tue, 01 Jan 2030 12:01:30 GMT", now))
+        .isEqualTo(Duration.ofSeconds(90));
+    assertThat(HttpJobExecutor.parseRetryAfter("Tue, 01 Jan 2030 11:00:00 GMT", now))
+        .isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void ignoresMissingOrMalformedRetryAfter() {
+    assertThat(HttpJobExecutor.parseRetryAfter(null, now)).isNull();
+    assertThat(HttpJobExecutor.parseRetryAfter("-5", now)).isNull();
+    assertThat(HttpJobExecutor.parseRetryAfter("soon", now)).isNull();
+  }
+}
@@ -0,0 +1,241 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.config.NodeIdentity;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.model.Job;
+import com.jobpulse.model.Status;
+import com.jobpulse.repository.JobRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JobClaimServiceTest {
+
+  @Mock private JobRepository jobRepository;
+  @Mock private RunningJobs runningJobs;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private JobStatsCache statsCache;
+
+  private JobClaimService claimService;
+
+  @BeforeEach
+  void setUp() {
+    claimService =
+        new JobClaimService(
+            jobRepository, new NodeIdentity("node-a"), runningJobs, eventPublisher, statsCache);
+    ReflectionTestUtils.setField(claimService, "claimStrategy", "skip-locked");
+    ReflectionTestUtils.setField(claimService, "batchSize", 50);
+    ReflectionTestUtils.setField(claimService, "candidateFactor", 4);
+    ReflectionTestUtils.setField(claimService, "leaseSeconds", 600L);
+    ReflectionTestUtils.setField(claimService, "priorityAgingSeconds", 60L);
+  }
+
+  @Test
+  void agingDisabled_passesDivisorThatNeverAges() {
+    ReflectionTestUtils.setField(claimService, "priorityAgingSeconds", 0L);
+    when(jobRepository.claimDueJobIds(
+            any(), eq("node-a"), any(), eq(50), eq(200), eq(Long.MAX_VALUE)))
+        .thenReturn(List.of());
+
+    assertThat(claimService.claimDueJobs(Instant.now())).isEmpty();
+  }
+
+  @Test
+  void claimDueJobs_claimsBatchForThisNodeWithLease() {
+    Instant now = Instant.now();
+    Job job = Job.builder().id(1L).status(Status.CLAIMED).build();
+    when(jobRepository.claimDueJobIds(now, "node-a", now.plusSeconds(600), 50, 200, 60L))
+        .thenReturn(rows(1L, "RETRYING"));
+    when(jobRepository.findAllById(Set.of(1L))).thenReturn(List.of(job));
+
+    assertThat(claimService.isEnabled()).isTrue();
+    assertThat(claimService.claimDueJobs(now)).containsExactly(job);
+    // The bulk update bypasses the entity listener, so the claim is counted here
+    assertThat(job.getPersistedStatus()).isEqualTo(Status.RETRYING);
+    verify(statsCache).statusPersisted(job);
+  }
+
+  @Test
+  void claimDueJobs_nothingClaimed_skipsLoad() {
+    when(jobRepository.claimDueJobIds(any(), eq("node-a"), any(), eq(50), eq(200), eq(60L)))
+        .thenReturn(List.of());
+
+    assertThat(claimService.claimDueJobs(Instant.now())).isEmpty();
+    verify(jobRepository, never()).findAllById(any());
+  }
+
+  @Test
+  void release_restoresQueueStatusAndClearsOwnership() {
+    Job retried =
+        Job.builder()
+            .id(2L)
+            .status(Status.CLAIMED)
+            .retryCount(1)
+            .claimedBy("node-a")
+            .leaseExpiresAt(Instant.now())
+            .build();
+
+    claimService.release(retried);
+
+    assertThat(retried.getStatus()).isEqualTo(Status.RETRYING);
+    assertThat(retried.getClaimedBy()).isNull();
+    assertThat(retried.getLeaseExpiresAt()).isNull();
+    verify(jobRepository).save(retried);
+  }
+
+  @Test
+  void startQueued_runsTheJobHereForOneLease() {
+    Instant now = Instant.now();
+    Job job = Job.builder().id(3L).status(Status.RETRYING).build();
+    when(jobRepository.startIfWaiting(3L, "node-a", now.plusSeconds(600))).thenReturn(1);
+
+    assertThat(claimService.startQueued(job, now)).isTrue();
+    assertThat(job.getStatus()).isEqualTo(Status.RUNNING);
+    assertThat(job.getClaimedBy()).isEqualTo("node-a");
+    assertThat(job.getLeaseExpiresAt()).isEqualTo(now.plusSeconds(600));
+    // The bulk update bypasses the entity listener, so the start is counted here
+    assertThat(job.getPersistedStatus()).isEqualTo(Status.RETRYING);
+    verify(statsCache).statusPersisted(job);
+  }
+
+  @Test
+  void startQueued_jobNoLongerWaiting_isLeftAlone() {
+    Instant now = Instant.now();
+    Job job = Job.builder().id(3L).status(Status.PENDING).build();
+    when(jobRepository.startIfWaiting(3L, "node-a", now.plusSeconds(600))).thenReturn(0);
+
+    assertThat(claimService.startQueued(job, now)).isFalse();
+    assertThat(job.getStatus()).isEqualTo(Status.PENDING);
+    assertThat(job.getClaimedBy()).isNull();
+    verify(statsCache, never()).statusPersisted(any());
+  }
+
+  @Test
+  void renewLeases_extendsOnlyJobsRunningHere() {
+    when(runningJobs.runningJobIds()).thenReturn(Set.of(4L));
+
+    claimService.renewLeases();
+
+    verify(jobRepository).renewLeases(eq(Set.of(4L)), eq("node-a"), any());
+  }
+
+  @Test
+  void renewLeases_coversClaimedJobsStillWaitingForAWorker() {
+    Instant now = Instant.now();
+    List<Object[]> claimed = rows(1L, "PENDING");
+    claimed.addAll(rows(2L, "PENDING"));
+    when(jobRepository.claimDueJobIds(now, "node-a", now.plusSeconds(600), 50, 200, 60L))
+        .thenReturn(claimed);
+    when(jobRepository.findAllById(Set.of(1L, 2L)))
+        .thenReturn(
+            List.of(
+                Job.builder().id(1L).status(Status.CLAIMED).build(),
+                Job.builder().id(2L).status(Status.CLAIMED).build()));
+    Job queued = Job.builder().id(3L).status(Status.PENDING).build();
+    when(jobRepository.startIfWaiting(3L, "node-a", now.plusSeconds(600))).thenReturn(1);
+    claimService.claimDueJobs(now);
+    claimService.startQueued(queued, now);
+    claimService.clearClaim(Job.builder().id(2L).build());
+    when(runningJobs.runningJobIds()).thenReturn(Set.of());
+
+    claimService.renewLeases();
+
+    verify(jobRepository).renewLeases(eq(Set.of(1L, 3L)), eq("node-a"), any());
+  }
+
+  @Test
+  void confirm_extendsTheLeaseWhileThisNodeHoldsTheJob() {
+    Instant now = Instant.now();
+    Job job = Job.builder().id(6L).status(Status.CLAIMED).build();
+    when(jobRepository.renewLeases(List.of(6L), "node-a", now.plusSeconds(600))).thenReturn(1);
+
+    assertThat(claimService.confirm(job, now)).isTrue();
+    assertThat(job.getLeaseExpiresAt()).isEqualTo(now.plusSeconds(600));
+  }
+
+  @Test
+  void confirm_jobTakenOverByAnotherNode_isRefused() {
+    Instant now = Instant.now();
+    Job job = Job.builder().id(6L).status(Status.PENDING).build();
+    when(jobRepository.startIfWaiting(6L, "node-a", now.plusSeconds(600))).thenReturn(1);
+    claimService.startQueued(job, now);
+    when(jobRepository.renewLeases(List.of(6L), "node-a", now.plusSeconds(600))).thenReturn(0);
+    when(runningJobs.runningJobIds()).thenReturn(Set.of());
+
+    assertThat(claimService.confirm(job, now)).isFalse();
+    // No longer this node's to renew
+    claimService.renewLeases();
+    verify(jobRepository, never()).renewLeases(eq(Set.of(6L)), any(), any());
+  }
+
+  @Test
+  void saveOutcome_writesOnlyWhileClaimedAndCountsTheTransition() {
+    Job job =
+        Job.builder()
+            .id(7L)
+            .status(Status.SUCCESS)
+            .retryCount(0)
+            .claimedBy("node-a")
+            .leaseExpiresAt(Instant.now())
+            .build();
+    when(jobRepository.updateOutcomeIfClaimed(7L, "SUCCESS", null, 0, null, "node-a"))
+        .thenReturn(List.of("CLAIMED"));
+
+    assertThat(claimService.saveOutcome(job)).isTrue();
+    assertThat(job.getClaimedBy()).isNull();
+    assertThat(job.getPersistedStatus()).isEqualTo(Status.CLAIMED);
+    verify(statsCache).statusPersisted(job);
+  }
+
+  @Test
+  void saveOutcome_claimLost_discardsTheOutcome() {
+    Job job = Job.builder().id(8L).status(Status.SUCCESS).claimedBy("node-a").build();
+    when(jobRepository.updateOutcomeIfClaimed(8L, "SUCCESS", null, 0, null, "node-a"))
+        .thenReturn(List.of());
+
+    assertThat(claimService.saveOutcome(job)).isFalse();
+    verify(statsCache, never()).statusPersisted(any());
+  }
+
+  @Test
+  void reapExpiredLeases_requeuesOrphansAndAnnouncesTheirSchedule() {
+    Instant due = Instant.now().minusSeconds(900);
+    Job orphan = Job.builder().id(5L).status(Status.PENDING).nextRunTime(due).build();
+    when(jobRepository.reapExpiredLeases(any())).thenReturn(rows(5L, "RUNNING"));
+    when(jobRepository.findAllById(Set.of(5L))).thenReturn(List.of(orphan));
+
+    assertThat(claimService.reapExpiredLeases()).isEqualTo(1);
+    verify(eventPublisher).publishEvent(new JobScheduleChangedEvent(5L, Status.PENDING, due));
+    assertThat(orphan.getPersistedStatus()).isEqualTo(Status.RUNNING);
+    verify(statsCache).statusPersisted(orphan);
+  }
+
+  @Test
+  void defaultStrategyKeepsRedisLocks() {
+    ReflectionTestUtils.setField(claimService, "claimStrategy", "redis-lock");
+
+    assertThat(claimService.isEnabled()).isFalse();
+  }
+
+  private static List<Object[]> rows(long id, String previousStatus) {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[] {id, previousStatus});
+    return rows;
+  }
+}
@@ -0,0 +1,166 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class JobDispatcherTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private JobDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    MockEnvironment environment =
+        new MockEnvironment()
+            .withProperty("jobpulse.dispatcher.script.pool-size", "1")
+            .withProperty("jobpulse.dispatcher.script.queue-capacity", "1");
+    dispatcher = new JobDispatcher(environment, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    dispatcher.shutdown();
+  }
+
+  @Test
+  void saturatedPoolRejectsWithoutBlockingOtherTypes() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    assertThat(dispatcher.dispatch(JobType.SCRIPT, () -> block(started))).isTrue();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(dispatcher.dispatch(JobType.SCRIPT, () -> {})).isTrue();
+    assertThat(dispatcher.dispatch(JobType.SCRIPT, () -> {})).isFalse();
+    assertThat(dispatcher.queueDepth(JobType.SCRIPT)).isEqualTo(1);
+    assertThat(dispatcher.activeWorkers(JobType.SCRIPT)).isEqualTo(1);
+
+    CountDownLatch logRan = new CountDownLatch(1);
+    assertThat(dispatcher.dispatch(JobType.LOG, logRan::countDown)).isTrue();
+    assertThat(logRan.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void exposesPoolGaugesPerJobType() {
+    assertThat(
+            meterRegistry
+                .get("jobpulse.dispatcher.workers.max")
+                .tag("jobType", "SCRIPT")
+                .gauge()
+                .value())
+        .isEqualTo(1.0);
+    assertThat(
+            meterRegistry
+                .get("jobpulse.dispatcher.workers.max")
+                .tag("jobType", "HTTP_CALL")
+                .gauge()
+                .value())
+        .isEqualTo(4.0);
+    assertThat(
+            meterRegistry
+                .get("jobpulse.dispatcher.queue.depth")
+                .tag("jobType", "LOG")
+                .gauge()
+                .value())
+        .isZero();
+  }
+
+  @Test
+  void virtualModeCapsInFlightJobsPerType() throws Exception {
+    JobDispatcher virtual =
+        new JobDispatcher(
+            new MockEnvironment()
+                .withProperty("jobpulse.dispatcher.mode", "virtual")
+                .withProperty("jobpulse.dispatcher.http-call.max-concurrency", "2"),
+            new SimpleMeterRegistry());
+    try {
+      CountDownLatch started = new CountDownLatch(2);
+      assertThat(virtual.getMode()).isEqualTo(JobDispatcher.Mode.VIRTUAL);
+      assertThat(virtual.dispatch(JobType.HTTP_CALL, () -> block(started))).isTrue();
+      assertThat(virtual.dispatch(JobType.HTTP_CALL, () -> block(started))).isTrue();
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(virtual.dispatch(JobType.HTTP_CALL, () -> {})).isFalse();
+      assertThat(virtual.activeWorkers(JobType.HTTP_CALL)).isEqualTo(2);
+      assertThat(virtual.queueDepth(JobType.HTTP_CALL)).isZero();
+    } finally {
+      release.countDown();
+      virtual.shutdown();
+    }
+  }
+
+  @Test
+  void ownerCapLeavesCapacityForOtherOwners() throws Exception {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    JobDispatcher fair =
+        new JobDispatcher(
+            new MockEnvironment().withProperty("jobpulse.dispatcher.owner.max-in-flight", "2"),
+            registry);
+    UUID big = UUID.randomUUID();
+    UUID small = UUID.randomUUID();
+    try {
+      CountDownLatch started = new CountDownLatch(3);
+      assertThat(fair.dispatch(JobType.LOG, big, () -> block(started))).isTrue();
+      assertThat(fair.dispatch(JobType.LOG, big, () -> block(started))).isTrue();
+      assertThat(fair.dispatch(JobType.LOG, big, () -> {})).isFalse();
+      assertThat(fair.dispatch(JobType.LOG, small, () -> block(started))).isTrue();
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(fair.ownerInFlight(big)).isEqualTo(2);
+      assertThat(registry.get("jobpulse.dispatcher.owner.active").gauge().value()).isEqualTo(2.0);
+      assertThat(registry.get("jobpulse.dispatcher.owner.in-flight.max").gauge().value())
+          .isEqualTo(2.0);
+      assertThat(registry.get("jobpulse.dispatcher.owner.throttled").counter().count())
+          .isEqualTo(1.0);
+
+      release.countDown();
+      await(() -> fair.ownerInFlight(big) == 0 && fair.ownerInFlight(small) == 0);
+      // Owners are forgotten once idle, so the tracking doesn't grow with every tenant ever seen
+      await(() -> fair.activeOwners() == 0);
+      assertThat(registry.find("jobpulse.dispatcher.owner.in-flight").gauges()).isEmpty();
+    } finally {
+      release.countDown();
+      fair.shutdown();
+    }
+  }
+
+  @Test
+  void laneRejectionDoesNotLeakOwnerSlot() throws Exception {
+    UUID owner = UUID.randomUUID();
+    CountDownLatch started = new CountDownLatch(1);
+    assertThat(dispatcher.dispatch(JobType.SCRIPT, owner, () -> block(started))).isTrue();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(dispatcher.dispatch(JobType.SCRIPT, owner, () -> {})).isTrue();
+
+    assertThat(dispatcher.dispatch(JobType.SCRIPT, owner, () -> {})).isFalse();
+    assertThat(dispatcher.ownerInFlight(owner)).isEqualTo(2);
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  private void block(CountDownLatch started) {
+    started.countDown();
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
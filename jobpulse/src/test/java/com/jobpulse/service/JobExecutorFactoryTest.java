@@ -2,11 +2,14 @@ package com.jobpulse.service;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobpulse.annotation.ExecutorType;
 import com.jobpulse.dto.request.JobRequestDTO.JobType;
 import com.jobpulse.model.Job;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
 
 class JobExecutorFactoryTest {
 
@@ -15,7 +18,11 @@ class JobExecutorFactoryTest {
     JobExecutor httpExecutor = new HttpCallExecutorStub();
     JobExecutor logExecutor = new LogExecutorStub();
 
-    JobExecutorFactory factory = new JobExecutorFactory(List.of(httpExecutor, logExecutor));
+    JobExecutorFactory factory =
+        new JobExecutorFactory(
+            List.of(httpExecutor, logExecutor),
+            new ExecutorResilience(
+                new MockEnvironment(), new ObjectMapper(), new SimpleMeterRegistry()));
 
     assertSame(httpExecutor, factory.get(JobType.HTTP_CALL));
     assertSame(logExecutor, factory.get(JobType.LOG));
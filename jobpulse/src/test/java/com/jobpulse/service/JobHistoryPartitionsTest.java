@@ -0,0 +1,181 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JobHistoryPartitionsTest {
+
+  private static final YearMonth NOW = YearMonth.of(2026, 10);
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private JobHistoryPartitions partitions;
+
+  @BeforeEach
+  void setUp() {
+    partitions = new JobHistoryPartitions(jdbcTemplate, meterRegistry);
+    ReflectionTestUtils.setField(partitions, "enabled", true);
+    ReflectionTestUtils.setField(partitions, "premakeMonths", 2);
+    ReflectionTestUtils.setField(partitions, "retentionMonths", 3);
+    ReflectionTestUtils.setField(partitions, "retentionMode", "drop");
+  }
+
+  @Test
+  void createsTheMissingMonthsAhead() {
+    stubPartitions("job_history_2026_10");
+
+    partitions.maintain(NOW);
+
+    verify(jdbcTemplate, never()).execute(eq(create("2026_10", "2026-10-01", "2026-11-01")));
+    verify(jdbcTemplate).execute(create("2026_11", "2026-11-01", "2026-12-01"));
+    verify(jdbcTemplate).execute(create("2026_12", "2026-12-01", "2027-01-01"));
+  }
+
+  @Test
+  void runsInTheDefaultPartition_moveIntoTheirNewMonth() {
+    stubPartitions("job_history_default", "job_history_2026_10", "job_history_2026_11");
+    String december = "run_time >= '2026-12-01' AND run_time < '2027-01-01'";
+    when(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM job_history_default WHERE " + december, Long.class))
+        .thenReturn(4L);
+    when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_history_default", Long.class))
+        .thenReturn(0L);
+
+    partitions.maintain(NOW);
+
+    InOrder move = inOrder(jdbcTemplate);
+    move.verify(jdbcTemplate)
+        .execute("ALTER TABLE job_history DETACH PARTITION job_history_default");
+    move.verify(jdbcTemplate).execute(create("2026_12", "2026-12-01", "2027-01-01"));
+    move.verify(jdbcTemplate)
+        .execute(
+            "INSERT INTO job_history_2026_12 SELECT * FROM job_history_default WHERE " + december);
+    move.verify(jdbcTemplate).execute("DELETE FROM job_history_default WHERE " + december);
+    move.verify(jdbcTemplate)
+        .execute("ALTER TABLE job_history ATTACH PARTITION job_history_default DEFAULT");
+    assertThat(meterRegistry.get("jobpulse.history.default-partition.rows").gauge().value())
+        .isZero();
+  }
+
+  @Test
+  void runsLeftInTheDefaultPartition_areReported() {
+    stubPartitions(
+        "job_history_default", "job_history_2026_10", "job_history_2026_11", "job_history_2026_12");
+    when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_history_default", Long.class))
+        .thenReturn(7L);
+
+    partitions.maintain(NOW);
+
+    verify(jdbcTemplate, never()).execute(anyString());
+    assertThat(meterRegistry.get("jobpulse.history.default-partition.rows").gauge().value())
+        .isEqualTo(7);
+  }
+
+  @Test
+  void dropsTheMonthsPastRetention() {
+    stubPartitions(
+        "job_history_2026_05",
+        "job_history_2026_06",
+        "job_history_2026_07",
+        "job_history_2026_10",
+        "job_history_2026_11",
+        "job_history_2026_12",
+        "job_history_archive");
+
+    partitions.maintain(NOW);
+
+    verify(jdbcTemplate).execute("DROP TABLE job_history_2026_05");
+    verify(jdbcTemplate).execute("DROP TABLE job_history_2026_06");
+    verify(jdbcTemplate, never()).execute("DROP TABLE job_history_2026_07");
+    verify(jdbcTemplate, never()).execute("DROP TABLE job_history_archive");
+  }
+
+  @Test
+  void detachMode_keepsTheExpiredTables() {
+    ReflectionTestUtils.setField(partitions, "retentionMode", JobHistoryPartitions.DETACH);
+    stubPartitions(
+        "job_history_2026_01", "job_history_2026_10", "job_history_2026_11", "job_history_2026_12");
+
+    partitions.maintain(NOW);
+
+    verify(jdbcTemplate).execute("ALTER TABLE job_history DETACH PARTITION job_history_2026_01");
+    verify(jdbcTemplate, never()).execute("DROP TABLE job_history_2026_01");
+  }
+
+  @Test
+  void zeroRetention_keepsAllHistory() {
+    ReflectionTestUtils.setField(partitions, "retentionMonths", 0);
+    stubPartitions(
+        "job_history_2020_01", "job_history_2026_10", "job_history_2026_11", "job_history_2026_12");
+
+    partitions.maintain(NOW);
+
+    verify(jdbcTemplate, never()).execute(anyString());
+  }
+
+  @Test
+  void anotherNodeHoldingTheLock_skipsTheRun() {
+    when(jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, JobHistoryPartitions.LOCK_KEY))
+        .thenReturn(false);
+
+    partitions.maintain(NOW);
+
+    verifyNoMoreInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void unpartitionedTable_isLeftAlone() {
+    stubLock();
+    when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("job_history")))
+        .thenReturn(0);
+
+    partitions.maintain(NOW);
+
+    verify(jdbcTemplate, never()).execute(anyString());
+  }
+
+  private void stubPartitions(String... names) {
+    stubLock();
+    when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("job_history")))
+        .thenReturn(1);
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("job_history")))
+        .thenReturn(List.of(names));
+  }
+
+  private void stubLock() {
+    when(jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, JobHistoryPartitions.LOCK_KEY))
+        .thenReturn(true);
+  }
+
+  private static String create(String suffix, String from, String to) {
+    return "CREATE TABLE IF NOT EXISTS job_history_"
+        + suffix
+        + " PARTITION OF job_history FOR VALUES FROM ('"
+        + from
+        + "') TO ('"
+        + to
+        + "')";
+  }
+}
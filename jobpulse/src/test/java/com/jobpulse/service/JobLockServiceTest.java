@@ -0,0 +1,175 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.config.NodeIdentity;
+import com.jobpulse.model.Job;
+import com.jobpulse.service.JobLockService.JobLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JobLockServiceTest {
+
+  private static final List<String> KEYS = List.of("job-lock:1", "job-fence:1");
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private JobLockService lockService;
+  private Job job;
+
+  @BeforeEach
+  void setUp() {
+    lockService = new JobLockService(redisTemplate, new NodeIdentity("node-a"), meterRegistry);
+    ReflectionTestUtils.setField(lockService, "ttlSeconds", 60L);
+    ReflectionTestUtils.setField(lockService, "batchSize", 2);
+    job = new Job();
+    job.setId(1L);
+  }
+
+  @Test
+  void acquire_returnsLockWithFencingToken() {
+    when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("60000"), anyString(), eq("0")))
+        .thenReturn(List.of(5L));
+
+    Optional<JobLock> lock = lockService.acquire(job);
+
+    assertThat(lock).isPresent();
+    assertThat(lock.get().fencingToken()).isEqualTo(5L);
+    assertThat(lock.get().token()).startsWith("node-a:");
+    assertThat(lockService.heldLockCount()).isEqualTo(1);
+  }
+
+  @Test
+  void acquire_passesTheStoredFencingTokenAsTheFloor() {
+    job.setFencingToken(10_000L);
+    when(redisTemplate.execute(
+            any(RedisScript.class), eq(KEYS), eq("60000"), anyString(), eq("10000")))
+        .thenReturn(List.of(10_001L));
+
+    assertThat(lockService.acquire(job)).get().extracting(JobLock::fencingToken).isEqualTo(10_001L);
+    // A counter lost in Redis restarts past the stored token, not from 1
+    assertThat(JobLockService.ACQUIRE_SCRIPT.getScriptAsString())
+        .contains("if fence <= stored then")
+        .contains("redis.call('SET', KEYS[i + 1], fence)");
+  }
+
+  @Test
+  void forget_deletesTheFencingCounter() {
+    lockService.forget(1L);
+
+    verify(redisTemplate).delete("job-fence:1");
+  }
+
+  @Test
+  void acquire_heldElsewhere_returnsEmpty() {
+    when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("60000"), anyString(), eq("0")))
+        .thenReturn(List.of(0L));
+
+    assertThat(lockService.acquire(job)).isEmpty();
+    assertThat(lockService.heldLockCount()).isZero();
+  }
+
+  @Test
+  void isLocked_seesLocksOfAnyNode() {
+    when(redisTemplate.hasKey(JobLockService.LOCK_PREFIX + 1)).thenReturn(true);
+
+    assertThat(lockService.isLocked(1L)).isTrue();
+    assertThat(lockService.isLocked(2L)).isFalse();
+  }
+
+  @Test
+  void release_onlyDeletesOwnToken() {
+    when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("60000"), anyString(), eq("0")))
+        .thenReturn(List.of(5L));
+    JobLock lock = lockService.acquire(job).orElseThrow();
+    when(redisTemplate.execute(any(RedisScript.class), eq(List.of("job-lock:1")), eq(lock.token())))
+        .thenReturn(List.of(0L));
+
+    assertThat(lockService.release(lock)).isFalse();
+    assertThat(lockService.heldLockCount()).isZero();
+  }
+
+  @Test
+  void renewal_keepsLockUntilItIsLost() {
+    when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("60000"), anyString(), eq("0")))
+        .thenReturn(List.of(5L));
+    JobLock lock = lockService.acquire(job).orElseThrow();
+    when(redisTemplate.execute(
+            any(RedisScript.class), eq(List.of("job-lock:1")), eq("60000"), eq(lock.token())))
+        .thenReturn(List.of(1L), List.of(0L));
+
+    lockService.renewHeldLocks();
+    assertThat(lockService.heldLockCount()).isEqualTo(1);
+
+    lockService.renewHeldLocks();
+    assertThat(lockService.heldLockCount()).isZero();
+  }
+
+  @Test
+  void acquireAll_locksEachSliceInOneCallAndRecordsLatency() {
+    Job second = new Job();
+    second.setId(2L);
+    Job third = new Job();
+    third.setId(3L);
+    when(redisTemplate.execute(
+            any(RedisScript.class),
+            eq(List.of("job-lock:1", "job-fence:1", "job-lock:2", "job-fence:2")),
+            eq("60000"),
+            anyString(),
+            eq("0"),
+            anyString(),
+            eq("0")))
+        .thenReturn(List.of(4L, 0L));
+    when(redisTemplate.execute(
+            any(RedisScript.class),
+            eq(List.of("job-lock:3", "job-fence:3")),
+            eq("60000"),
+            anyString(),
+            eq("0")))
+        .thenReturn(List.of(9L));
+
+    Map<Long, JobLock> locks = lockService.acquireAll(List.of(job, second, third));
+
+    assertThat(locks.keySet()).containsExactly(1L, 3L);
+    assertThat(locks.get(3L).fencingToken()).isEqualTo(9L);
+    assertThat(locks.get(1L).token()).isNotEqualTo(locks.get(3L).token());
+    assertThat(
+            meterRegistry
+                .get("jobpulse.scheduler.lock.batch.latency")
+                .tag("operation", "acquire")
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void releaseAll_deletesSliceInOneCall() {
+    JobLock first = new JobLock(1L, "node-a:x:1", 4L);
+    JobLock second = new JobLock(2L, "node-a:x:2", 6L);
+    when(redisTemplate.execute(
+            any(RedisScript.class),
+            eq(List.of("job-lock:1", "job-lock:2")),
+            eq("node-a:x:1"),
+            eq("node-a:x:2")))
+        .thenReturn(List.of(1L, 1L));
+
+    assertThat(lockService.releaseAll(List.of(first, second))).isEqualTo(2);
+  }
+}
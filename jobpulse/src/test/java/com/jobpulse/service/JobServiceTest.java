@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.jobpulse.dto.others.JobFailureReason;
+import com.jobpulse.dto.others.StatusCount;
 import com.jobpulse.dto.request.JobRequestDTO;
 import com.jobpulse.dto.request.JobRequestDTO.JobType;
 import com.jobpulse.dto.request.ScheduleDTO;
@@ -13,46 +14,87 @@ import com.jobpulse.dto.request.ScheduleDTO.ScheduleType;
 import com.jobpulse.dto.response.JobHistoryResponse;
 import com.jobpulse.dto.response.JobResponse;
 import com.jobpulse.dto.response.JobStatsResponse;
+import com.jobpulse.dto.response.PageResponse;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.exception.BadRequestException;
+import com.jobpulse.exception.JobDeferredException;
 import com.jobpulse.exception.NonRetryableJobException;
 import com.jobpulse.exception.ResourceNotFoundException;
 import com.jobpulse.exception.RetryableJobException;
 import com.jobpulse.model.DeadLetterJob;
 import com.jobpulse.model.Job;
-import com.jobpulse.model.JobHistory;
+import com.jobpulse.model.MisfirePolicy;
 import com.jobpulse.model.Status;
 import com.jobpulse.model.User;
 import com.jobpulse.repository.DeadLetterJobRepository;
 import com.jobpulse.repository.JobHistoryRepository;
 import com.jobpulse.repository.JobRepository;
 import com.jobpulse.repository.UserRepository;
+import com.jobpulse.service.JobLockService.JobLock;
+import com.jobpulse.util.PageCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class JobServiceTest {
 
   @Mock private JobRepository jobRepository;
   @Mock private UserRepository userRepository;
-  @Mock private RedisTemplate<String, String> redisTemplate;
-  @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private JobLockService jobLockService;
   @Mock private JobExecutorFactory executorFactory;
   @Mock private DeadLetterJobRepository deadLetterJobRepository;
   @Mock private JobHistoryRepository jobHistoryRepository;
   @Mock private RetryPolicy retryPolicy;
-  @Mock private JobExecutor jobExecutor;
+
+  // Real default methods, so the cancellation-aware overload reaches the stubbed execute(Job);
+  // lenient because strict stubs report the call to the other overload as an argument mismatch
+  @Mock(answer = Answers.CALLS_REAL_METHODS, strictness = Mock.Strictness.LENIENT)
+  private JobExecutor jobExecutor;
+
+  @Mock private JobDispatcher jobDispatcher;
+  @Mock private JobClaimService jobClaimService;
+  @Mock private RedisDueQueue redisDueQueue;
+  @Mock private ClusterMembership clusterMembership;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private JobStatsCache jobStatsCache;
+  @Spy private MisfireHandler misfireHandler = new MisfireHandler(new SimpleMeterRegistry());
+
+  @Spy
+  private RunningJobs runningJobs =
+      new RunningJobs(null, new MockEnvironment(), new SimpleMeterRegistry());
 
   @InjectMocks private JobService jobService;
 
@@ -69,6 +111,8 @@ class JobServiceTest {
             .email("tahri@test.com")
             .passwordHash("hash")
             .build();
+    ReflectionTestUtils.setField(jobService, "defaultPageSize", 50);
+    ReflectionTestUtils.setField(jobService, "maxPageSize", 500);
   }
 
   // createJobFull
@@ -102,7 +146,56 @@ class JobServiceTest {
       assertThat(saved.getName()).isEqualTo("My Job");
       assertThat(saved.isRecurring()).isFalse();
       assertThat(saved.getStatus()).isEqualTo(Status.PENDING);
-      assertThat(saved.getNextRunTime()).isAfter(LocalDateTime.now());
+      assertThat(saved.getNextRunTime()).isAfter(Instant.now());
+    }
+
+    @Test
+    void cron_withTimeZone_firesAtWallClockTimeInThatZone() {
+      ScheduleDTO schedule = new ScheduleDTO();
+      schedule.setType(ScheduleType.CRON);
+      schedule.setCronExpression("0 0 9 * * ?");
+      schedule.setTimeZone("Asia/Tokyo");
+
+      JobRequestDTO dto =
+          JobRequestDTO.builder()
+              .name("Tokyo Job")
+              .ownerId(userId)
+              .jobType(JobType.LOG)
+              .schedule(schedule)
+              .build();
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+      jobService.createJobFull(dto);
+
+      ArgumentCaptor<Job> captor = ArgumentCaptor.forClass(Job.class);
+      verify(jobRepository).save(captor.capture());
+      Job saved = captor.getValue();
+      assertThat(saved.getTimeZone()).isEqualTo("Asia/Tokyo");
+      assertThat(saved.getNextRunTime().atZone(ZoneId.of("Asia/Tokyo")).toLocalTime())
+          .isEqualTo(LocalTime.of(9, 0));
+    }
+
+    @Test
+    void unknownTimeZone_throwsIllegalArgument() {
+      ScheduleDTO schedule = new ScheduleDTO();
+      schedule.setType(ScheduleType.CRON);
+      schedule.setCronExpression("0 0 9 * * ?");
+      schedule.setTimeZone("Mars/Olympus");
+
+      JobRequestDTO dto =
+          JobRequestDTO.builder()
+              .name("Bad Zone")
+              .ownerId(userId)
+              .jobType(JobType.LOG)
+              .schedule(schedule)
+              .build();
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+      assertThatThrownBy(() -> jobService.createJobFull(dto))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("time zone");
     }
 
     @Test
@@ -258,6 +351,26 @@ class JobServiceTest {
   @Nested
   class RunDueJobs {
 
+    private final JobLock lock = new JobLock(1L, "node-a:token", 7L);
+
+    @BeforeEach
+    void lockedJobsAreStillDue() {
+      lenient()
+          .when(jobRepository.findDueIdsAmong(any(), any()))
+          .thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(0)));
+    }
+
+    @BeforeEach
+    void runDispatchedJobsInline() {
+      lenient()
+          .when(jobDispatcher.dispatch(any(), any(), any()))
+          .thenAnswer(
+              invocation -> {
+                invocation.getArgument(2, Runnable.class).run();
+                return true;
+              });
+    }
+
     private Job buildJob(Status status) {
       return Job.builder()
           .id(1L)
@@ -267,7 +380,7 @@ class JobServiceTest {
           .status(status)
           .retryCount(0)
           .maxRetries(3)
-          .nextRunTime(LocalDateTime.now().minusSeconds(5))
+          .nextRunTime(Instant.now().minusSeconds(5))
           .build();
     }
 
@@ -275,33 +388,483 @@ class JobServiceTest {
     void acquiresLock_executesJob_releasesLock() throws Exception {
       Job job = buildJob(Status.PENDING);
       when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
-      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-      when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
-          .thenReturn(true);
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
       when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
       doNothing().when(jobExecutor).execute(job);
 
       jobService.runDueJobs();
 
       verify(jobExecutor).execute(job);
-      verify(redisTemplate).delete("job-lock:1");
-      verify(jobRepository).save(job);
+      verify(jobRepository).saveOutcomeIfCurrent(job, 7L);
+      verify(jobLockService).release(lock);
       assertThat(job.getStatus()).isEqualTo(Status.SUCCESS);
     }
 
+    @Test
+    void concurrentRuns_scanOneAtATime() throws Exception {
+      CountDownLatch scanning = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(jobRepository.findDueJobs(any()))
+          .thenAnswer(
+              invocation -> {
+                scanning.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of();
+              })
+          .thenReturn(List.of());
+
+      CompletableFuture<Void> poll = CompletableFuture.runAsync(this::runDueJobs);
+      assertThat(scanning.await(5, TimeUnit.SECONDS)).isTrue();
+      CompletableFuture<Void> wakeUp = CompletableFuture.runAsync(this::runDueJobs);
+
+      // The wake-up run waits for the poll instead of scanning the same jobs alongside it
+      Thread.sleep(200);
+      verify(jobRepository, times(1)).findDueJobs(any());
+      release.countDown();
+      CompletableFuture.allOf(poll, wakeUp).get(5, TimeUnit.SECONDS);
+      verify(jobRepository, times(2)).findDueJobs(any());
+    }
+
+    private void runDueJobs() {
+      try {
+        jobService.runDueJobs();
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Test
+    void staleFencingToken_discardsOutcomeButReleasesLock() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+      when(jobRepository.saveOutcomeIfCurrent(job, 7L)).thenReturn(false);
+
+      jobService.runDueJobs();
+
+      verify(jobLockService).release(lock);
+      verify(jobRepository, never()).save(job);
+      verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void misfiredSkipJob_isRescheduledWithoutRunning() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      job.setRecurring(true);
+      job.setCronExpression("0 0 * * * ?");
+      job.setMisfirePolicy(MisfirePolicy.SKIP);
+      job.setNextRunTime(Instant.now().minusSeconds(7200));
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, never()).execute(any());
+      verify(jobDispatcher, never()).dispatch(any(), any(), any());
+      verify(jobRepository).saveOutcomeIfCurrent(job, 7L);
+      verify(jobLockService).releaseAll(List.of(lock));
+      assertThat(job.getNextRunTime()).isAfter(Instant.now());
+    }
+
+    @Test
+    void fireAllJob_continuesFromTheMissedFireTime() throws Exception {
+      Instant missed = Instant.now().minusSeconds(7200).truncatedTo(ChronoUnit.HOURS);
+      Job job = buildJob(Status.PENDING);
+      job.setRecurring(true);
+      job.setCronExpression("0 0 * * * ?");
+      job.setMisfirePolicy(MisfirePolicy.FIRE_ALL);
+      job.setNextRunTime(missed);
+      ReflectionTestUtils.setField(misfireHandler, "maxCatchUpSeconds", 86_400L);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor).execute(job);
+      assertThat(job.getNextRunTime()).isEqualTo(missed.plusSeconds(3600));
+    }
+
+    @Test
+    void locksWholeBatchInOneCall_runsOnlyLockedJobs() throws Exception {
+      Job first = buildJob(Status.PENDING);
+      Job second = buildJob(Status.PENDING);
+      second.setId(2L);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(first, second));
+      when(jobLockService.acquireAll(List.of(first, second))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      verify(jobLockService).acquireAll(List.of(first, second));
+      verify(jobExecutor).execute(first);
+      verify(jobExecutor, never()).execute(second);
+    }
+
+    @Test
+    void dueJobs_areDispatchedRoundRobinAcrossOwners() throws Exception {
+      User big = User.builder().id(UUID.randomUUID()).build();
+      User small = User.builder().id(UUID.randomUUID()).build();
+      List<Job> due = new ArrayList<>();
+      for (long id = 1; id <= 4; id++) {
+        Job job = buildJob(Status.PENDING);
+        job.setId(id);
+        job.setOwner(id == 4 ? small : big);
+        due.add(job);
+      }
+      when(jobRepository.findDueJobs(any())).thenReturn(due);
+      Map<Long, JobLock> locks = new HashMap<>();
+      due.forEach(job -> locks.put(job.getId(), new JobLock(job.getId(), "t", 1L)));
+      when(jobLockService.acquireAll(due)).thenReturn(locks);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      InOrder order = inOrder(jobExecutor);
+      order.verify(jobExecutor).execute(due.get(0));
+      order.verify(jobExecutor).execute(due.get(3));
+      order.verify(jobExecutor).execute(due.get(1));
+      order.verify(jobExecutor).execute(due.get(2));
+    }
+
     @Test
     void cannotAcquireLock_skipsJob() throws Exception {
       Job job = buildJob(Status.PENDING);
       when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
-      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-      when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
-          .thenReturn(false);
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of());
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, never()).execute(any());
+    }
+
+    @Test
+    void dispatcherSaturated_releasesLockWithoutExecuting() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      doReturn(false).when(jobDispatcher).dispatch(eq(JobType.LOG), any(), any());
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, never()).execute(any());
+      verify(jobLockService).releaseAll(List.of(lock));
+      verify(jobRepository, never()).save(any());
+      assertThat(job.getStatus()).isEqualTo(Status.PENDING);
+    }
+
+    @Test
+    void skipLockedClaim_executesClaimedJobsWithoutRedisLock() throws Exception {
+      Job job = buildJob(Status.CLAIMED);
+      when(jobClaimService.isEnabled()).thenReturn(true);
+      when(jobClaimService.claimDueJobs(any())).thenReturn(List.of(job));
+      when(jobClaimService.confirm(eq(job), any())).thenReturn(true);
+      when(jobClaimService.saveOutcome(job)).thenReturn(true);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor).execute(job);
+      verify(jobClaimService).saveOutcome(job);
+      verify(jobRepository, never()).save(job);
+      verify(jobRepository, never()).findDueJobs(any());
+      verifyNoInteractions(jobLockService);
+      assertThat(job.getStatus()).isEqualTo(Status.SUCCESS);
+    }
+
+    @Test
+    void skipLockedClaim_lostWhileQueued_isNotRun() throws Exception {
+      Job job = buildJob(Status.CLAIMED);
+      when(jobClaimService.isEnabled()).thenReturn(true);
+      when(jobClaimService.claimDueJobs(any())).thenReturn(List.of(job));
+      when(jobClaimService.confirm(eq(job), any())).thenReturn(false);
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, never()).execute(any());
+      verify(jobClaimService, never()).saveOutcome(any());
+      verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void skipLockedClaim_lostWhileRunning_discardsOutcome() throws Exception {
+      Job job = buildJob(Status.CLAIMED);
+      when(jobClaimService.isEnabled()).thenReturn(true);
+      when(jobClaimService.claimDueJobs(any())).thenReturn(List.of(job));
+      when(jobClaimService.confirm(eq(job), any())).thenReturn(true);
+      when(jobClaimService.saveOutcome(job)).thenReturn(false);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor).execute(job);
+      verify(jobRepository, never()).save(job);
+      verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void skipLockedClaim_dispatcherSaturated_releasesClaim() throws Exception {
+      Job job = buildJob(Status.CLAIMED);
+      when(jobClaimService.isEnabled()).thenReturn(true);
+      when(jobClaimService.claimDueJobs(any())).thenReturn(List.of(job));
+      doReturn(false).when(jobDispatcher).dispatch(eq(JobType.LOG), any(), any());
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, never()).execute(any());
+      verify(jobClaimService).release(job);
+    }
+
+    @Test
+    void skipLockedClaim_catchUpOverBudget_isReleasedPastTheCurrentWindow() throws Exception {
+      ReflectionTestUtils.setField(misfireHandler, "recoveryMaxRate", 1.0);
+      Instant missed = Instant.now().minusSeconds(3600);
+      Job first = buildJob(Status.CLAIMED);
+      first.setNextRunTime(missed);
+      Job second = buildJob(Status.CLAIMED);
+      second.setId(2L);
+      second.setNextRunTime(missed);
+      when(jobClaimService.isEnabled()).thenReturn(true);
+      when(jobClaimService.claimDueJobs(any())).thenReturn(List.of(first, second));
+      when(jobClaimService.confirm(any(), any())).thenReturn(true);
+      when(jobClaimService.saveOutcome(any())).thenReturn(true);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      Instant before = Instant.now();
+      jobService.runDueJobs();
+
+      // One catch-up run per second: the other job must not be the oldest due row again
+      verify(jobExecutor, times(1)).execute(any());
+      verify(jobClaimService)
+          .release(argThat(job -> job.getNextRunTime().isAfter(before.plusMillis(500))));
+    }
+
+    @Test
+    void skipLockedClaim_recoveryRateIsSizedFromTheWholeBacklog() throws Exception {
+      ReflectionTestUtils.setField(misfireHandler, "recoveryWindowSeconds", 60L);
+      List<Job> batch = misfiredBatch(Status.CLAIMED);
+      when(jobClaimService.isEnabled()).thenReturn(true);
+      when(jobClaimService.claimDueJobs(any())).thenReturn(batch);
+      when(jobRepository.countDueBefore(any())).thenReturn(600L);
+      when(jobClaimService.startQueued(any(), any())).thenReturn(true);
+      when(jobClaimService.confirm(any(), any())).thenReturn(true);
+      when(jobClaimService.saveOutcome(any())).thenReturn(true);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      // 600 jobs over 60 s is 10 runs a second, not 3 / 60: the whole batch runs at once
+      verify(jobExecutor, times(3)).execute(any());
+      verify(jobClaimService, never()).release(any());
+    }
+
+    @Test
+    void redisDueQueue_recoveryRateIsSizedFromTheWholeBacklog() throws Exception {
+      ReflectionTestUtils.setField(misfireHandler, "recoveryWindowSeconds", 60L);
+      List<Job> batch = misfiredBatch(Status.PENDING);
+      when(redisDueQueue.isEnabled()).thenReturn(true);
+      when(redisDueQueue.popDue(any())).thenReturn(List.of(1L, 2L, 3L));
+      when(jobRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(batch);
+      when(jobRepository.countDueBefore(any())).thenReturn(600L);
+      when(jobClaimService.confirm(any(), any())).thenReturn(true);
+      when(jobClaimService.saveOutcome(any())).thenReturn(true);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, times(3)).execute(any());
+      assertThat(batch).allSatisfy(job -> assertThat(job.getStatus()).isEqualTo(Status.SUCCESS));
+    }
+
+    private List<Job> misfiredBatch(Status status) {
+      List<Job> batch = new ArrayList<>();
+      for (long id = 1; id <= 3; id++) {
+        Job job = buildJob(status);
+        job.setId(id);
+        job.setNextRunTime(Instant.now().minusSeconds(3600));
+        batch.add(job);
+      }
+      return batch;
+    }
+
+    @Test
+    void redisDueQueue_runsPoppedJobsAndPublishesNextSchedule() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      job.setRecurring(true);
+      job.setCronExpression("0 0 * * * ? *");
+      Job paused = buildJob(Status.PAUSED);
+      paused.setId(2L);
+      when(redisDueQueue.isEnabled()).thenReturn(true);
+      when(redisDueQueue.popDue(any())).thenReturn(List.of(1L, 2L));
+      when(jobRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(job, paused));
+      when(jobClaimService.startQueued(eq(job), any())).thenReturn(true);
+      when(jobClaimService.confirm(eq(job), any())).thenReturn(true);
+      when(jobClaimService.saveOutcome(job)).thenReturn(true);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor).execute(job);
+      verify(jobExecutor, never()).execute(paused);
+      verifyNoInteractions(jobLockService);
+      ArgumentCaptor<JobScheduleChangedEvent> captor =
+          ArgumentCaptor.forClass(JobScheduleChangedEvent.class);
+      verify(eventPublisher).publishEvent(captor.capture());
+      assertThat(captor.getValue().jobId()).isEqualTo(1L);
+      assertThat(captor.getValue().status()).isEqualTo(Status.SUCCESS);
+      assertThat(captor.getValue().nextRunTime()).isAfter(Instant.now());
+    }
+
+    @Test
+    void redisDueQueue_memberPoppedBeforeItsNextRunTime_isRequeuedAtIt() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      job.setNextRunTime(Instant.now().plusSeconds(3600));
+      when(redisDueQueue.isEnabled()).thenReturn(true);
+      when(redisDueQueue.popDue(any())).thenReturn(List.of(1L));
+      when(jobRepository.findAllById(List.of(1L))).thenReturn(List.of(job));
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, never()).execute(any());
+      verify(redisDueQueue).enqueue(1L, job.getNextRunTime());
+      verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void redisDueQueue_jobStartedByAnotherNode_isSkipped() throws Exception {
+      // A reconcile re-added the member after another node popped it but before it went RUNNING
+      Job job = buildJob(Status.PENDING);
+      when(redisDueQueue.isEnabled()).thenReturn(true);
+      when(redisDueQueue.popDue(any())).thenReturn(List.of(1L));
+      when(jobRepository.findAllById(List.of(1L))).thenReturn(List.of(job));
+      when(jobClaimService.startQueued(eq(job), any())).thenReturn(false);
+
+      jobService.runDueJobs();
+
+      verify(jobDispatcher, never()).dispatch(any(), any(), any());
+      verify(jobRepository, never()).save(any());
+      verify(redisDueQueue, never()).enqueue(anyLong(), any());
+    }
+
+    @Test
+    void redisDueQueue_dispatcherSaturated_requeuesJob() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(redisDueQueue.isEnabled()).thenReturn(true);
+      when(redisDueQueue.popDue(any())).thenReturn(List.of(1L));
+      when(jobRepository.findAllById(List.of(1L))).thenReturn(List.of(job));
+      when(jobClaimService.startQueued(eq(job), any())).thenReturn(true);
+      doReturn(false).when(jobDispatcher).dispatch(eq(JobType.LOG), any(), any());
+
+      jobService.runDueJobs();
+
+      verify(jobExecutor, never()).execute(any());
+      verify(redisDueQueue).enqueue(1L, job.getNextRunTime());
+      assertThat(job.getStatus()).isEqualTo(Status.PENDING);
+    }
+
+    @Test
+    void partitioningEnabled_queriesOnlyOwnedPartitions() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(clusterMembership.isEnabled()).thenReturn(true);
+      when(clusterMembership.ownedPartitions()).thenReturn(List.of(1, 2, 3));
+      when(clusterMembership.partitionCount()).thenReturn(256);
+      when(jobRepository.findDueJobsInPartitions(any(), eq(256), eq(List.of(1, 2, 3))))
+          .thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
 
       jobService.runDueJobs();
 
+      verify(jobExecutor).execute(job);
+      verify(jobRepository, never()).findDueJobs(any());
+    }
+
+    @Test
+    void partitioningEnabled_noOwnedPartitions_runsNothing() throws Exception {
+      when(clusterMembership.isEnabled()).thenReturn(true);
+      when(clusterMembership.ownedPartitions()).thenReturn(List.of());
+
+      jobService.runDueJobs();
+
+      verify(jobRepository, never()).findDueJobs(any());
+      verify(jobRepository, never()).findDueJobsInPartitions(any(), anyInt(), any());
+    }
+
+    @Test
+    void runFiredJobs_skipsJobsOwnedByOtherNodes() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findAllById(List.of(1L))).thenReturn(List.of(job));
+      when(clusterMembership.isEnabled()).thenReturn(true);
+      when(clusterMembership.owns(1L)).thenReturn(false);
+      when(jobLockService.acquireAll(List.of())).thenReturn(Map.of());
+
+      jobService.runFiredJobs(List.of(1L));
+
       verify(jobExecutor, never()).execute(any());
     }
 
+    @Test
+    void runFiredJobs_runsOnlyJobsThatAreStillDue() throws Exception {
+      Job due = buildJob(Status.PENDING);
+      Job rescheduled = buildJob(Status.PENDING);
+      rescheduled.setId(2L);
+      rescheduled.setNextRunTime(Instant.now().plusSeconds(300));
+      Job paused = buildJob(Status.PAUSED);
+      paused.setId(3L);
+      when(jobRepository.findAllById(List.of(1L, 2L, 3L)))
+          .thenReturn(List.of(due, rescheduled, paused));
+      when(jobLockService.acquireAll(List.of(due))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+
+      jobService.runFiredJobs(List.of(1L, 2L, 3L));
+
+      verify(jobExecutor).execute(due);
+      verify(jobExecutor, never()).execute(rescheduled);
+      verify(jobExecutor, never()).execute(paused);
+      verify(jobLockService).acquireAll(List.of(due));
+    }
+
+    @Test
+    void jobFinishedBeforeItWasLocked_isSkippedAndUnlocked() throws Exception {
+      // Read by the poll while the wheel-fired run of it was still going
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      doReturn(List.of()).when(jobRepository).findDueIdsAmong(eq(Set.of(1L)), any());
+
+      jobService.runDueJobs();
+
+      verify(jobDispatcher, never()).dispatch(any(), any(), any());
+      verify(jobLockService).releaseAll(List.of(lock));
+    }
+
+    @Test
+    void runFiredJobs_waitsForTheScanInProgress() throws Exception {
+      CountDownLatch scanning = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(jobRepository.findDueJobs(any()))
+          .thenAnswer(
+              invocation -> {
+                scanning.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of();
+              });
+      when(jobRepository.findAllById(List.of(1L))).thenReturn(List.of());
+      when(jobLockService.acquireAll(List.of())).thenReturn(Map.of());
+
+      CompletableFuture<Void> poll = CompletableFuture.runAsync(this::runDueJobs);
+      assertThat(scanning.await(5, TimeUnit.SECONDS)).isTrue();
+      CompletableFuture<Void> fire =
+          CompletableFuture.runAsync(() -> jobService.runFiredJobs(List.of(1L)));
+
+      Thread.sleep(200);
+      verify(jobRepository, never()).findAllById(any());
+      release.countDown();
+      CompletableFuture.allOf(poll, fire).get(5, TimeUnit.SECONDS);
+      verify(jobRepository).findAllById(List.of(1L));
+    }
+
     @Test
     void noDueJobs_doesNothing() throws Exception {
       when(jobRepository.findDueJobs(any())).thenReturn(List.of());
@@ -315,39 +878,195 @@ class JobServiceTest {
     void retryableException_setsStatusRetrying() throws Exception {
       Job job = buildJob(Status.PENDING);
       when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
-      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-      when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
-          .thenReturn(true);
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
       when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
       doThrow(new RetryableJobException(JobFailureReason.NETWORK_ERROR, "timeout"))
           .when(jobExecutor)
           .execute(job);
       when(retryPolicy.isRetryable(JobFailureReason.NETWORK_ERROR)).thenReturn(true);
+      when(retryPolicy.backoffDelay(job, JobFailureReason.NETWORK_ERROR, 1, null))
+          .thenReturn(Duration.ofSeconds(5));
 
       jobService.runDueJobs();
 
       assertThat(job.getStatus()).isEqualTo(Status.RETRYING);
       assertThat(job.getRetryCount()).isEqualTo(1);
-      assertThat(job.getNextRunTime()).isAfter(LocalDateTime.now());
+      assertThat(job.getNextRunTime()).isAfter(Instant.now());
+    }
+
+    @Test
+    void retryAfterFromTheExecutorIsPassedToTheBackoff() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+      doThrow(
+              new RetryableJobException(
+                  JobFailureReason.RATE_LIMITED, "slow down", null, Duration.ofSeconds(90)))
+          .when(jobExecutor)
+          .execute(job);
+      when(retryPolicy.isRetryable(JobFailureReason.RATE_LIMITED)).thenReturn(true);
+      when(retryPolicy.backoffDelay(job, JobFailureReason.RATE_LIMITED, 1, Duration.ofSeconds(90)))
+          .thenReturn(Duration.ofSeconds(90));
+
+      Instant before = Instant.now();
+      jobService.runDueJobs();
+
+      assertThat(job.getStatus()).isEqualTo(Status.RETRYING);
+      assertThat(job.getNextRunTime()).isAfterOrEqualTo(before.plusSeconds(90));
+    }
+
+    @Test
+    void runPastItsDeadline_isRetriedAsATimeout() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      job.setTimeoutSeconds(1);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+      doAnswer(
+              invocation -> {
+                Thread.sleep(10_000);
+                return null;
+              })
+          .when(jobExecutor)
+          .execute(job);
+      when(retryPolicy.isRetryable(JobFailureReason.TIMEOUT)).thenReturn(true);
+      when(retryPolicy.backoffDelay(job, JobFailureReason.TIMEOUT, 1, null))
+          .thenReturn(Duration.ofSeconds(5));
+
+      jobService.runDueJobs();
+
+      assertThat(job.getStatus()).isEqualTo(Status.RETRYING);
+      assertThat(job.getLastError()).contains("deadline");
+      assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void cancelledOneTimeJob_endsCancelledWithoutRetry() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+      doAnswer(
+              invocation -> {
+                runningJobs.requestCancel(1L);
+                Thread.sleep(10_000);
+                return null;
+              })
+          .when(jobExecutor)
+          .execute(job);
+      AtomicBoolean savedInterrupted = new AtomicBoolean();
+      when(jobHistoryRepository.save(any()))
+          .thenAnswer(
+              invocation -> {
+                savedInterrupted.set(Thread.currentThread().isInterrupted());
+                return invocation.getArgument(0);
+              });
+
+      jobService.runDueJobs();
+
+      assertThat(job.getStatus()).isEqualTo(Status.CANCELLED);
+      assertThat(job.getNextRunTime()).isNull();
+      // An interrupted thread would fail to check out a connection for the history row
+      assertThat(savedInterrupted).isFalse();
+      assertThat(runningJobs.isRunning(1L)).isFalse();
+      verify(retryPolicy, never()).isRetryable(any());
+      verify(deadLetterJobRepository, never()).save(any());
+    }
+
+    @Test
+    void deferredJob_isRescheduledWithoutUsingARetry() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+      doThrow(new JobDeferredException("circuit_open on type:log", Duration.ofSeconds(30)))
+          .when(jobExecutor)
+          .execute(job);
+
+      Instant before = Instant.now();
+      jobService.runDueJobs();
+
+      assertThat(job.getStatus()).isEqualTo(Status.PENDING);
+      assertThat(job.getRetryCount()).isZero();
+      assertThat(job.getNextRunTime()).isAfterOrEqualTo(before.plusSeconds(30));
+      verify(retryPolicy, never()).isRetryable(any());
+      verify(deadLetterJobRepository, never()).save(any());
+    }
+
+    @Test
+    void runCutOffByShutdown_isHandedBackDueWithoutUsingARetry() throws Exception {
+      Job job = buildJob(Status.RETRYING);
+      job.setRetryCount(1);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(jobRepository.saveOutcomeIfCurrent(job, lock.fencingToken())).thenReturn(true);
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+      doAnswer(
+              invocation -> {
+                runningJobs.cancelAll();
+                throw new IllegalStateException("interrupted");
+              })
+          .when(jobExecutor)
+          .execute(job);
+
+      Instant before = Instant.now();
+      jobService.runDueJobs();
+
+      assertThat(job.getStatus()).isEqualTo(Status.RETRYING);
+      assertThat(job.getRetryCount()).isEqualTo(1);
+      assertThat(job.getNextRunTime()).isBetween(before, Instant.now());
+      verify(jobLockService).release(lock);
+      verify(jobHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    void drainingNode_stopsPickingUpDueJobs() throws Exception {
+      runningJobs.beginDrain();
+
+      jobService.runDueJobs();
+      jobService.runFiredJobs(List.of(1L));
+
+      verifyNoInteractions(jobRepository, jobLockService, jobClaimService, redisDueQueue);
     }
 
     @Test
     void nonRetryableException_movesToDeadLetter() throws Exception {
       Job job = buildJob(Status.PENDING);
       when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
-      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-      when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
-          .thenReturn(true);
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
       when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
       doThrow(new NonRetryableJobException(JobFailureReason.INVALID_CONFIG, "bad config"))
           .when(jobExecutor)
           .execute(job);
       when(retryPolicy.isRetryable(JobFailureReason.INVALID_CONFIG)).thenReturn(false);
+      when(jobRepository.saveOutcomeIfCurrent(job, lock.fencingToken())).thenReturn(true);
 
       jobService.runDueJobs();
 
       assertThat(job.getStatus()).isEqualTo(Status.FAILED);
       verify(deadLetterJobRepository).save(any(DeadLetterJob.class));
+      verify(jobRepository, never()).save(job);
+      // One write, so the PENDING to FAILED transition is counted once
+      verify(jobStatsCache).statusPersisted(job);
+    }
+
+    @Test
+    void failedJobTakenOverByAnotherNode_isNotMovedToDeadLetter() throws Exception {
+      Job job = buildJob(Status.PENDING);
+      when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
+      when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
+      doThrow(new NonRetryableJobException(JobFailureReason.INVALID_CONFIG, "bad config"))
+          .when(jobExecutor)
+          .execute(job);
+      when(retryPolicy.isRetryable(JobFailureReason.INVALID_CONFIG)).thenReturn(false);
+      when(jobRepository.saveOutcomeIfCurrent(job, lock.fencingToken())).thenReturn(false);
+
+      jobService.runDueJobs();
+
+      verify(deadLetterJobRepository, never()).save(any());
+      verify(jobRepository, never()).save(job);
     }
 
     @Test
@@ -357,14 +1076,13 @@ class JobServiceTest {
       job.setMaxRetries(3);
 
       when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
-      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-      when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
-          .thenReturn(true);
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
       when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
       doThrow(new RetryableJobException(JobFailureReason.NETWORK_ERROR, "still failing"))
           .when(jobExecutor)
           .execute(job);
       when(retryPolicy.isRetryable(JobFailureReason.NETWORK_ERROR)).thenReturn(true);
+      when(jobRepository.saveOutcomeIfCurrent(job, lock.fencingToken())).thenReturn(true);
 
       jobService.runDueJobs();
 
@@ -379,16 +1097,14 @@ class JobServiceTest {
       job.setCronExpression("0 0 * * * ? *");
 
       when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
-      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-      when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
-          .thenReturn(true);
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
       when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
       doNothing().when(jobExecutor).execute(job);
 
       jobService.runDueJobs();
 
       assertThat(job.getStatus()).isEqualTo(Status.SUCCESS);
-      assertThat(job.getNextRunTime()).isAfter(LocalDateTime.now());
+      assertThat(job.getNextRunTime()).isAfter(Instant.now());
     }
 
     @Test
@@ -398,9 +1114,7 @@ class JobServiceTest {
       job.setCronExpression(null);
 
       when(jobRepository.findDueJobs(any())).thenReturn(List.of(job));
-      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-      when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
-          .thenReturn(true);
+      when(jobLockService.acquireAll(List.of(job))).thenReturn(Map.of(1L, lock));
       when(executorFactory.get(JobType.LOG)).thenReturn(jobExecutor);
       doNothing().when(jobExecutor).execute(job);
 
@@ -417,31 +1131,45 @@ class JobServiceTest {
   class GetJobs {
 
     @Test
-    void getJobs_returnsMappedResponses_excludesFailed() {
-      Job pending =
-          Job.builder()
-              .id(1L)
-              .name("A")
-              .status(Status.PENDING)
-              .owner(user)
-              .jobType(JobType.LOG)
-              .build();
-      Job failed =
-          Job.builder()
-              .id(2L)
-              .name("B")
-              .status(Status.FAILED)
-              .owner(user)
-              .jobType(JobType.LOG)
-              .build();
+    void getJobs_firstPage_returnsCursorWhenMoreJobsFollow() {
+      Job newest = Job.builder().id(3L).name("C").status(Status.PENDING).owner(user).build();
+      Job older = Job.builder().id(2L).name("B").status(Status.PAUSED).owner(user).build();
+      Job oldest = Job.builder().id(1L).name("A").status(Status.SUCCESS).owner(user).build();
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.findByOwner(user)).thenReturn(List.of(pending, failed));
+      when(jobRepository.findPageByOwner(user, Long.MAX_VALUE, Limit.of(3)))
+          .thenReturn(responses(newest, older, oldest));
 
-      List<JobResponse> result = jobService.getJobs(userId);
+      PageResponse<JobResponse> page = jobService.getJobs(userId, null, 2);
 
-      assertThat(result).hasSize(1);
-      assertThat(result.get(0).getName()).isEqualTo("A");
+      assertThat(page.getItems()).extracting(JobResponse::getName).containsExactly("C", "B");
+      assertThat(page.getNextCursor()).isEqualTo(PageCursor.encode(2L));
+    }
+
+    @Test
+    void getJobs_nextPage_resumesBelowTheCursorAndEndsWithoutOne() {
+      Job last = Job.builder().id(1L).name("A").status(Status.SUCCESS).owner(user).build();
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobRepository.findPageByOwner(user, 2L, Limit.of(51))).thenReturn(responses(last));
+
+      PageResponse<JobResponse> page = jobService.getJobs(userId, PageCursor.encode(2L), null);
+
+      assertThat(page.getItems()).extracting(JobResponse::getName).containsExactly("A");
+      assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getJobs_rejectsMalformedCursorAndOversizedPage() {
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+      assertThatThrownBy(() -> jobService.getJobs(userId, "not a cursor", null))
+          .isInstanceOf(BadRequestException.class);
+      assertThatThrownBy(() -> jobService.getJobs(userId, PageCursor.encode("x"), null))
+          .isInstanceOf(BadRequestException.class);
+      assertThatThrownBy(() -> jobService.getJobs(userId, null, 501))
+          .isInstanceOf(BadRequestException.class);
+      verifyNoInteractions(jobRepository);
     }
 
     @Test
@@ -456,7 +1184,8 @@ class JobServiceTest {
               .build();
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.findByIdAndOwner(1L, user)).thenReturn(Optional.of(job));
+      when(jobRepository.findResponseByIdAndOwner(1L, user))
+          .thenReturn(Optional.of(JobService.mapToJobResponse(job)));
 
       JobResponse result = jobService.getJob(1L, userId);
 
@@ -466,7 +1195,7 @@ class JobServiceTest {
     @Test
     void getJob_notFound_throwsResourceNotFound() {
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.findByIdAndOwner(99L, user)).thenReturn(Optional.empty());
+      when(jobRepository.findResponseByIdAndOwner(99L, user)).thenReturn(Optional.empty());
 
       assertThatThrownBy(() -> jobService.getJob(99L, userId))
           .isInstanceOf(ResourceNotFoundException.class);
@@ -491,6 +1220,8 @@ class JobServiceTest {
 
       verify(deadLetterJobRepository).delete(dlJob);
       verify(jobRepository).delete(job);
+      verify(jobLockService).forget(1L);
+      verify(eventPublisher).publishEvent(JobScheduleChangedEvent.removed(1L));
     }
 
     @Test
@@ -519,6 +1250,7 @@ class JobServiceTest {
       JobResponse result = jobService.pauseJob(1L, userId);
 
       assertThat(result.getStatus()).isEqualTo(Status.PAUSED);
+      verify(eventPublisher).publishEvent(new JobScheduleChangedEvent(1L, Status.PAUSED, null));
     }
 
     @Test
@@ -528,7 +1260,7 @@ class JobServiceTest {
               .id(1L)
               .status(Status.PAUSED)
               .owner(user)
-              .nextRunTime(LocalDateTime.now().plusMinutes(5))
+              .nextRunTime(Instant.now().plusSeconds(300))
               .build();
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
@@ -559,7 +1291,7 @@ class JobServiceTest {
               .id(1L)
               .status(Status.PAUSED)
               .owner(user)
-              .nextRunTime(LocalDateTime.now().minusHours(1))
+              .nextRunTime(Instant.now().minusSeconds(3600))
               .build();
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
@@ -568,7 +1300,56 @@ class JobServiceTest {
 
       jobService.resumeJob(1L, userId);
 
-      assertThat(job.getNextRunTime()).isAfter(LocalDateTime.now());
+      assertThat(job.getNextRunTime()).isAfter(Instant.now());
+    }
+
+    @Test
+    void cancelJob_notRunning_throwsBadRequest() {
+      Job job = Job.builder().id(1L).status(Status.PENDING).owner(user).build();
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobRepository.findByIdAndOwner(1L, user)).thenReturn(Optional.of(job));
+
+      assertThatThrownBy(() -> jobService.cancelJob(1L, userId))
+          .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void cancelJob_runningElsewhere_isPublishedToTheOtherNodes() {
+      Job job = Job.builder().id(1L).status(Status.RUNNING).owner(user).build();
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobRepository.findByIdAndOwner(1L, user)).thenReturn(Optional.of(job));
+      doReturn(false).when(runningJobs).requestCancel(1L);
+
+      assertThat(jobService.cancelJob(1L, userId)).isFalse();
+      verify(runningJobs).requestCancel(1L);
+    }
+
+    @Test
+    void cancelJob_claimedByAnotherNode_isPublishedToTheOtherNodes() {
+      Job job = Job.builder().id(1L).status(Status.CLAIMED).claimedBy("node-b").owner(user).build();
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobRepository.findByIdAndOwner(1L, user)).thenReturn(Optional.of(job));
+      doReturn(false).when(runningJobs).requestCancel(1L);
+
+      assertThat(jobService.cancelJob(1L, userId)).isFalse();
+      verify(runningJobs).requestCancel(1L);
+    }
+
+    @Test
+    void cancelJob_lockedByAnotherNode_isPublishedToTheOtherNodes() {
+      // A run under a Redis lock never persists RUNNING; the row still reads PENDING
+      Job job = Job.builder().id(1L).status(Status.PENDING).owner(user).build();
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobRepository.findByIdAndOwner(1L, user)).thenReturn(Optional.of(job));
+      when(jobLockService.isLocked(1L)).thenReturn(true);
+      doReturn(false).when(runningJobs).requestCancel(1L);
+
+      assertThat(jobService.cancelJob(1L, userId)).isFalse();
+      verify(runningJobs).requestCancel(1L);
     }
   }
 
@@ -700,29 +1481,40 @@ class JobServiceTest {
   class GetJobStats {
 
     @Test
-    void stats_countsEachStatusCorrectly() {
-      List<Job> jobs =
-          List.of(
-              Job.builder().status(Status.PENDING).owner(user).build(),
-              Job.builder().status(Status.RUNNING).owner(user).build(),
-              Job.builder().status(Status.SUCCESS).owner(user).build(),
-              Job.builder().status(Status.RETRYING).owner(user).build(),
-              Job.builder().status(Status.FAILED).owner(user).build());
-      DeadLetterJob dl = DeadLetterJob.builder().job(Job.builder().owner(user).build()).build();
-
+    void stats_cacheMiss_aggregatesByStatusAndCachesTheCounts() {
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.findByOwner(user)).thenReturn(jobs);
-      when(deadLetterJobRepository.findByJob_Owner(user)).thenReturn(List.of(dl));
+      when(jobRepository.countByStatus(user))
+          .thenReturn(
+              List.of(
+                  new StatusCount(Status.PENDING, 4),
+                  new StatusCount(Status.RUNNING, 1),
+                  new StatusCount(Status.SUCCESS, 10),
+                  new StatusCount(Status.RETRYING, 2),
+                  new StatusCount(Status.FAILED, 3),
+                  new StatusCount(Status.PAUSED, 1)));
+      when(deadLetterJobRepository.countByJob_Owner(user)).thenReturn(3L);
 
       JobStatsResponse stats = jobService.getJobStats(userId);
 
-      assertThat(stats.getTotalJobs()).isEqualTo(5);
-      assertThat(stats.getPendingJobs()).isEqualTo(1);
+      assertThat(stats.getTotalJobs()).isEqualTo(21);
+      assertThat(stats.getPendingJobs()).isEqualTo(4);
       assertThat(stats.getRunningJobs()).isEqualTo(1);
-      assertThat(stats.getSuccessfulJobs()).isEqualTo(1);
-      assertThat(stats.getRetryingJobs()).isEqualTo(1);
-      assertThat(stats.getFailedJobs()).isEqualTo(1);
-      assertThat(stats.getDeadLetterJobs()).isEqualTo(1);
+      assertThat(stats.getSuccessfulJobs()).isEqualTo(10);
+      assertThat(stats.getRetryingJobs()).isEqualTo(2);
+      assertThat(stats.getFailedJobs()).isEqualTo(3);
+      assertThat(stats.getDeadLetterJobs()).isEqualTo(3);
+      verify(jobStatsCache).put(eq(userId), argThat(counts -> counts.size() == 6), eq(3L));
+      verify(jobRepository, never()).findByOwner(any());
+    }
+
+    @Test
+    void stats_cacheHit_skipsTheAggregate() {
+      JobStatsResponse cached = JobStatsResponse.of(Map.of(Status.SUCCESS, 7L), 1);
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobStatsCache.get(userId)).thenReturn(Optional.of(cached));
+
+      assertThat(jobService.getJobStats(userId)).isSameAs(cached);
+      verifyNoInteractions(jobRepository, deadLetterJobRepository);
     }
   }
 
@@ -732,33 +1524,58 @@ class JobServiceTest {
   class GetJobHistory {
 
     @Test
-    void returnsHistoryOrderedByRunTime() {
-      Job job = Job.builder().id(1L).owner(user).status(Status.SUCCESS).build();
-      JobHistory h1 =
-          JobHistory.builder()
+    void firstPage_isNewestFirstWithACursorOnTheLastRun() {
+      LocalDateTime later = LocalDateTime.of(2026, 1, 1, 12, 5);
+      JobHistoryResponse h1 =
+          JobHistoryResponse.builder()
               .id(1L)
-              .job(job)
               .status(Status.SUCCESS)
-              .runTime(LocalDateTime.now().minusMinutes(10))
+              .runTime(later.minusMinutes(5))
               .retryAttempt(0)
               .build();
-      JobHistory h2 =
-          JobHistory.builder()
+      JobHistoryResponse h2 =
+          JobHistoryResponse.builder()
               .id(2L)
-              .job(job)
               .status(Status.RETRYING)
-              .runTime(LocalDateTime.now().minusMinutes(5))
+              .runTime(later)
               .retryAttempt(1)
               .build();
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.findByIdAndOwner(1L, user)).thenReturn(Optional.of(job));
-      when(jobHistoryRepository.findByJobOrderByRunTimeDesc(job)).thenReturn(List.of(h2, h1));
+      when(jobRepository.existsByIdAndOwner(1L, user)).thenReturn(true);
+      when(jobHistoryRepository.findPageByJob(1L, Limit.of(2))).thenReturn(List.of(h2, h1));
+
+      PageResponse<JobHistoryResponse> page = jobService.getJobHistory(1L, userId, null, 1);
+
+      assertThat(page.getItems()).hasSize(1);
+      assertThat(page.getItems().get(0).getStatus()).isEqualTo(Status.RETRYING);
+      assertThat(page.getNextCursor()).isEqualTo(PageCursor.encode(later, 2L));
+    }
+
+    @Test
+    void nextPage_resumesAfterTheCursorRun() {
+      LocalDateTime runTime = LocalDateTime.of(2026, 1, 1, 12, 5, 30, 123_000_000);
+
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobRepository.existsByIdAndOwner(1L, user)).thenReturn(true);
+      when(jobHistoryRepository.findPageByJobAfter(1L, runTime, 7L, Limit.of(51)))
+          .thenReturn(List.of());
+
+      PageResponse<JobHistoryResponse> page =
+          jobService.getJobHistory(1L, userId, PageCursor.encode(runTime, 7L), null);
+
+      assertThat(page.getItems()).isEmpty();
+      assertThat(page.getNextCursor()).isNull();
+    }
 
-      List<JobHistoryResponse> result = jobService.getJobHistory(1L, userId);
+    @Test
+    void jobOfAnotherOwner_throwsResourceNotFound() {
+      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(jobRepository.existsByIdAndOwner(1L, user)).thenReturn(false);
 
-      assertThat(result).hasSize(2);
-      assertThat(result.get(0).getStatus()).isEqualTo(Status.RETRYING);
+      assertThatThrownBy(() -> jobService.getJobHistory(1L, userId, null, null))
+          .isInstanceOf(ResourceNotFoundException.class);
+      verifyNoInteractions(jobHistoryRepository);
     }
   }
 
@@ -768,7 +1585,7 @@ class JobServiceTest {
   class SearchAndFilter {
 
     @Test
-    void searchJobs_excludesFailedResults() {
+    void searchJobs_returnsFirstPageOfMatches() {
       Job match =
           Job.builder()
               .id(1L)
@@ -777,22 +1594,14 @@ class JobServiceTest {
               .owner(user)
               .jobType(JobType.EMAIL)
               .build();
-      Job failed =
-          Job.builder()
-              .id(2L)
-              .name("email cleanup")
-              .status(Status.FAILED)
-              .owner(user)
-              .jobType(JobType.EMAIL)
-              .build();
-
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.searchByOwnerAndQuery(user, "email")).thenReturn(List.of(match, failed));
+      when(jobRepository.searchPageByOwnerAndQuery(user, "email", Long.MAX_VALUE, Limit.of(51)))
+          .thenReturn(responses(match));
 
-      List<JobResponse> result = jobService.searchJobs("email", userId);
+      PageResponse<JobResponse> result = jobService.searchJobs("email", userId, null, null);
 
-      assertThat(result).hasSize(1);
-      assertThat(result.get(0).getName()).isEqualTo("email report");
+      assertThat(result.getItems()).hasSize(1);
+      assertThat(result.getItems().get(0).getName()).isEqualTo("email report");
     }
 
     @Test
@@ -800,30 +1609,38 @@ class JobServiceTest {
       Job job = Job.builder().id(1L).status(Status.PAUSED).owner(user).jobType(JobType.LOG).build();
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.findByOwnerAndStatus(user, Status.PAUSED)).thenReturn(List.of(job));
+      when(jobRepository.findPageByOwnerAndStatus(
+              user, Status.PAUSED, Long.MAX_VALUE, Limit.of(51)))
+          .thenReturn(responses(job));
 
-      List<JobResponse> result = jobService.filterByStatus(Status.PAUSED, userId);
+      PageResponse<JobResponse> result =
+          jobService.filterByStatus(Status.PAUSED, userId, null, null);
 
-      assertThat(result).hasSize(1);
-      assertThat(result.get(0).getStatus()).isEqualTo(Status.PAUSED);
+      assertThat(result.getItems()).hasSize(1);
+      assertThat(result.getItems().get(0).getStatus()).isEqualTo(Status.PAUSED);
     }
 
     @Test
-    void filterByDateRange_excludesFailed() {
+    void filterByDateRange_returnsFirstPage() {
       LocalDateTime start = LocalDateTime.now().minusDays(7);
       LocalDateTime end = LocalDateTime.now();
 
       Job ok = Job.builder().id(1L).status(Status.SUCCESS).owner(user).jobType(JobType.LOG).build();
-      Job failed =
-          Job.builder().id(2L).status(Status.FAILED).owner(user).jobType(JobType.LOG).build();
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(jobRepository.findByOwnerAndDateRange(user, start, end)).thenReturn(List.of(ok, failed));
+      when(jobRepository.findPageByOwnerAndDateRange(
+              user, start, end, Long.MAX_VALUE, Limit.of(51)))
+          .thenReturn(responses(ok));
 
-      List<JobResponse> result = jobService.filterByDateRange(start, end, userId);
+      PageResponse<JobResponse> result =
+          jobService.filterByDateRange(start, end, userId, null, null);
 
-      assertThat(result).hasSize(1);
-      assertThat(result.get(0).getStatus()).isEqualTo(Status.SUCCESS);
+      assertThat(result.getItems()).hasSize(1);
+      assertThat(result.getItems().get(0).getStatus()).isEqualTo(Status.SUCCESS);
     }
   }
+
+  private static List<JobResponse> responses(Job... jobs) {
+    return Arrays.stream(jobs).map(JobService::mapToJobResponse).toList();
+  }
 }
@@ -0,0 +1,149 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.dto.response.JobStatsResponse;
+import com.jobpulse.model.Job;
+import com.jobpulse.model.Status;
+import com.jobpulse.model.User;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JobStatsCacheTest {
+
+  private static final UUID OWNER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private static final String KEY = JobStatsCache.KEY_PREFIX + OWNER;
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private HashOperations<String, Object, Object> hashOperations;
+
+  private JobStatsCache statsCache;
+
+  @BeforeEach
+  void setUp() {
+    statsCache = new JobStatsCache(redisTemplate);
+    ReflectionTestUtils.setField(statsCache, "enabled", true);
+    ReflectionTestUtils.setField(statsCache, "ttlSeconds", 600L);
+  }
+
+  @Test
+  void get_readsTheOwnersCounters() {
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.entries(KEY))
+        .thenReturn(
+            Map.of(
+                "PENDING",
+                "2",
+                "SUCCESS",
+                "5",
+                "FAILED",
+                "1",
+                "CLAIMED",
+                "1",
+                "DEAD_LETTERS",
+                "1"));
+
+    JobStatsResponse stats = statsCache.get(OWNER).orElseThrow();
+
+    assertThat(stats.getTotalJobs()).isEqualTo(9);
+    assertThat(stats.getPendingJobs()).isEqualTo(2);
+    assertThat(stats.getSuccessfulJobs()).isEqualTo(5);
+    assertThat(stats.getFailedJobs()).isEqualTo(1);
+    assertThat(stats.getDeadLetterJobs()).isEqualTo(1);
+  }
+
+  @Test
+  void get_missingHashOrRedisDown_isAMiss() {
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(hashOperations.entries(KEY))
+        .thenReturn(Map.of())
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    assertThat(statsCache.get(OWNER)).isEmpty();
+    assertThat(statsCache.get(OWNER)).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void put_writesEveryStatusAndExpires() {
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+    statsCache.put(OWNER, Map.of(Status.RUNNING, 3L), 2);
+
+    ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+    verify(hashOperations).putAll(eq(KEY), fields.capture());
+    assertThat(fields.getValue())
+        .hasSize(Status.values().length + 1)
+        .containsEntry("RUNNING", "3")
+        .containsEntry("PENDING", "0")
+        .containsEntry(JobStatsCache.DEAD_LETTERS, "2");
+    verify(redisTemplate).expire(KEY, Duration.ofSeconds(600));
+  }
+
+  @Test
+  void statusPersisted_movesOneJobBetweenStatuses() {
+    Job job =
+        Job.builder().id(1L).owner(User.builder().id(OWNER).build()).status(Status.SUCCESS).build();
+    job.setPersistedStatus(Status.RUNNING);
+
+    statsCache.statusPersisted(job);
+
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            eq(List.of(KEY)),
+            eq("RUNNING"),
+            eq("-1"),
+            eq("SUCCESS"),
+            eq("1"));
+    assertThat(job.getPersistedStatus()).isEqualTo(Status.SUCCESS);
+  }
+
+  @Test
+  void newAndDeletedJobs_onlyCountOneSide() {
+    statsCache.transition(OWNER, null, Status.PENDING);
+    statsCache.transition(OWNER, Status.PAUSED, null);
+
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("PENDING"), eq("1"));
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("PAUSED"), eq("-1"));
+  }
+
+  @Test
+  void unchangedStatusOrDisabledCache_touchesNothing() {
+    statsCache.transition(OWNER, Status.PENDING, Status.PENDING);
+    ReflectionTestUtils.setField(statsCache, "enabled", false);
+    statsCache.transition(OWNER, Status.PENDING, Status.RUNNING);
+    statsCache.deadLettersChanged(OWNER, 1);
+
+    assertThat(statsCache.get(OWNER)).isEmpty();
+    verifyNoInteractions(redisTemplate);
+  }
+
+  @Test
+  void deadLetters_areCountedInTheirOwnField() {
+    statsCache.deadLettersChanged(OWNER, -1);
+
+    verify(redisTemplate)
+        .execute(any(RedisScript.class), anyList(), eq(JobStatsCache.DEAD_LETTERS), eq("-1"));
+  }
+}
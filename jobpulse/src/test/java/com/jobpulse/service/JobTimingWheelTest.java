@@ -0,0 +1,80 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.dto.others.ScheduledJobRef;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.model.Status;
+import com.jobpulse.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JobTimingWheelTest {
+
+  @Mock private JobRepository jobRepository;
+  @Mock private JobService jobService;
+  @Mock private JobClaimService jobClaimService;
+  @Mock private RedisDueQueue redisDueQueue;
+
+  private JobTimingWheel timingWheel;
+
+  @BeforeEach
+  void setUp() {
+    timingWheel =
+        new JobTimingWheel(
+            jobRepository, jobService, jobClaimService, redisDueQueue, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(timingWheel, "enabled", true);
+    ReflectionTestUtils.setField(timingWheel, "tickMillis", 10L);
+    ReflectionTestUtils.setField(timingWheel, "horizonSeconds", 300L);
+    when(jobRepository.findScheduledJobRefsUntil(any())).thenReturn(List.of());
+    timingWheel.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    timingWheel.stop();
+  }
+
+  @Test
+  void refillQueriesWithoutHoldingTheWheel_andKeepsChangesMadeMeanwhile() throws Exception {
+    Instant stale = Instant.now().plusSeconds(60);
+    CountDownLatch querying = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(jobRepository.findScheduledJobRefsBetween(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              querying.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return List.of(new ScheduledJobRef(1L, stale), new ScheduledJobRef(2L, stale));
+            });
+
+    CompletableFuture<Void> refill = CompletableFuture.runAsync(timingWheel::refill);
+    assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // Would block until the query returns if the refill held the wheel's monitor
+    CompletableFuture.runAsync(
+            () ->
+                timingWheel.onScheduleChanged(
+                    new JobScheduleChangedEvent(1L, Status.PAUSED, stale)))
+        .get(1, TimeUnit.SECONDS);
+    release.countDown();
+    refill.get(5, TimeUnit.SECONDS);
+
+    // Job 1 was paused while the query ran, so its row is out of date
+    assertThat(timingWheel.scheduledCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,207 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.model.Status;
+import com.jobpulse.repository.JobRepository;
+import java.time.Instant;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JobWakeupSchedulerTest {
+
+  @Mock private JobRepository jobRepository;
+  @Mock private JobService jobService;
+  @Mock private ClusterMembership clusterMembership;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private DataSource dataSource;
+
+  private JobWakeupScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = new JobWakeupScheduler(
+            jobRepository, jobService, clusterMembership, jdbcTemplate, dataSource);
+    ReflectionTestUtils.setField(scheduler, "enabled", true);
+    ReflectionTestUtils.setField(scheduler, "listen", false);
+    ReflectionTestUtils.setField(scheduler, "maxSleepMillis", 60_000L);
+    ReflectionTestUtils.setField(scheduler, "minIntervalMillis", 500L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.stop();
+  }
+
+  @Test
+  void sleepsUntilEarliestNextRunTime() throws Exception {
+    Instant earliest = Instant.now().plusSeconds(1800);
+    when(jobRepository.findEarliestNextRunTimeAfter(any())).thenReturn(earliest);
+
+    scheduler.start();
+
+    verify(jobService, timeout(2000)).runDueJobs();
+    verify(jobRepository, timeout(2000)).findEarliestNextRunTimeAfter(any());
+    // Capped by max-sleep-ms, the earliest job is further away
+    assertThat(scheduler.nextWakeMillis())
+        .isBetween(System.currentTimeMillis() + 55_000, System.currentTimeMillis() + 60_000);
+  }
+
+  @Test
+  void nearTermJob_wakesSchedulerEarlyAndNotifiesOtherNodes() throws Exception {
+    when(jobRepository.findEarliestNextRunTimeAfter(any())).thenReturn(null);
+    scheduler.start();
+    verify(jobService, timeout(2000)).runDueJobs();
+    verify(jobRepository, timeout(2000)).findEarliestNextRunTimeAfter(any());
+
+    Instant runAt = Instant.ofEpochMilli(System.currentTimeMillis() + 200);
+    scheduler.onScheduleChanged(new JobScheduleChangedEvent(1L, Status.PENDING, runAt));
+
+    verify(jobService, timeout(2000).times(2)).runDueJobs();
+    verify(jdbcTemplate)
+        .query(
+            eq("SELECT pg_notify(?, ?)"),
+            any(ResultSetExtractor.class),
+            eq(JobWakeupScheduler.CHANNEL),
+            eq("1:" + runAt.toEpochMilli()));
+  }
+
+  @Test
+  void laterChangeInsideTheWindow_isNotBroadcast() throws Exception {
+    when(jobRepository.findEarliestNextRunTimeAfter(any())).thenReturn(null);
+    scheduler.start();
+    verify(jobRepository, timeout(2000)).findEarliestNextRunTimeAfter(any());
+
+    scheduler.onScheduleChanged(
+        new JobScheduleChangedEvent(1L, Status.PENDING, Instant.now().plusSeconds(30)));
+    scheduler.onScheduleChanged(
+        new JobScheduleChangedEvent(2L, Status.PENDING, Instant.now().plusSeconds(40)));
+
+    // The planned wake-up already covers job 2, and so does every other node's
+    verify(jdbcTemplate, times(1))
+        .query(anyString(), any(ResultSetExtractor.class), any(), any());
+  }
+
+  @Test
+  void overdueJobsStillPending_doNotBringTheNextWakeUpForward() throws Exception {
+    Instant beforeStart = Instant.now();
+    when(jobRepository.findEarliestNextRunTimeAfter(any())).thenReturn(null);
+
+    scheduler.start();
+
+    ArgumentCaptor<Instant> after = ArgumentCaptor.forClass(Instant.class);
+    verify(jobRepository, timeout(2000)).findEarliestNextRunTimeAfter(after.capture());
+    // Only jobs due after the run started count, those it left behind are the poll's
+    assertThat(after.getValue()).isBetween(beforeStart, Instant.now());
+    assertThat(scheduler.nextWakeMillis()).isGreaterThan(System.currentTimeMillis() + 55_000);
+  }
+
+  @Test
+  void partitioned_looksUpOnlyOwnedPartitions() throws Exception {
+    when(clusterMembership.isEnabled()).thenReturn(true);
+    when(clusterMembership.ownedPartitions()).thenReturn(List.of(1, 3));
+    when(clusterMembership.partitionCount()).thenReturn(4);
+
+    scheduler.start();
+
+    verify(jobRepository, timeout(2000))
+        .findEarliestNextRunTimeAfterInPartitions(any(), eq(4), eq(List.of(1, 3)));
+    verify(jobRepository, never()).findEarliestNextRunTimeAfter(any());
+  }
+
+  @Test
+  void partitioned_ownJobWakesLocally_otherJobIsLeftToItsOwner() throws Exception {
+    when(clusterMembership.isEnabled()).thenReturn(true);
+    when(clusterMembership.ownedPartitions()).thenReturn(List.of());
+    when(clusterMembership.owns(1L)).thenReturn(true);
+    when(clusterMembership.owns(2L)).thenReturn(false);
+    scheduler.start();
+    verify(clusterMembership, timeout(2000)).ownedPartitions();
+    long planned = awaitPlannedWakeUp();
+
+    long otherRunAt = System.currentTimeMillis() + 10_000;
+    scheduler.onScheduleChanged(
+        new JobScheduleChangedEvent(2L, Status.PENDING, Instant.ofEpochMilli(otherRunAt)));
+    assertThat(scheduler.nextWakeMillis()).isEqualTo(planned);
+    verify(jdbcTemplate)
+        .query(
+            eq("SELECT pg_notify(?, ?)"),
+            any(ResultSetExtractor.class),
+            eq(JobWakeupScheduler.CHANNEL),
+            eq("2:" + otherRunAt));
+
+    long ownRunAt = System.currentTimeMillis() + 20_000;
+    scheduler.onScheduleChanged(
+        new JobScheduleChangedEvent(1L, Status.PENDING, Instant.ofEpochMilli(ownRunAt)));
+    assertThat(scheduler.nextWakeMillis()).isEqualTo(ownRunAt);
+    verify(jdbcTemplate, times(1))
+        .query(anyString(), any(ResultSetExtractor.class), any(), any());
+  }
+
+  @Test
+  void notificationForAJobOwnedElsewhere_isIgnored() {
+    when(clusterMembership.owns(2L)).thenReturn(false);
+    when(clusterMembership.owns(3L)).thenReturn(true);
+
+    scheduler.onNotification("2:1000");
+    assertThat(scheduler.nextWakeMillis()).isEqualTo(Long.MAX_VALUE);
+
+    scheduler.onNotification("3:1000");
+    assertThat(scheduler.nextWakeMillis()).isEqualTo(1000);
+  }
+
+  @Test
+  void jobOutsideWindow_isLeftToRegularWakeUp() throws Exception {
+    when(jobRepository.findEarliestNextRunTimeAfter(any())).thenReturn(null);
+    scheduler.start();
+    verify(jobRepository, timeout(2000)).findEarliestNextRunTimeAfter(any());
+
+    scheduler.onScheduleChanged(
+        new JobScheduleChangedEvent(1L, Status.PENDING, Instant.now().plusSeconds(7200)));
+
+    verify(jobService, times(1)).runDueJobs();
+    verify(jdbcTemplate, never()).query(anyString(), any(ResultSetExtractor.class), any(), any());
+  }
+
+  @Test
+  void disabled_ignoresEvents() {
+    ReflectionTestUtils.setField(scheduler, "enabled", false);
+    scheduler.start();
+
+    scheduler.onScheduleChanged(new JobScheduleChangedEvent(1L, Status.PENDING, Instant.now()));
+
+    assertThat(scheduler.nextWakeMillis()).isEqualTo(Long.MAX_VALUE);
+  }
+
+  private long awaitPlannedWakeUp() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 2000;
+    while (System.currentTimeMillis() < deadline) {
+      long planned = scheduler.nextWakeMillis();
+      if (planned != Long.MAX_VALUE && planned > System.currentTimeMillis()) {
+        return planned;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("No wake-up was planned after the first run");
+  }
+}
@@ -0,0 +1,169 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobpulse.model.Job;
+import com.jobpulse.model.MisfirePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MisfireHandlerTest {
+
+  private final Instant now = Instant.parse("2030-01-01T12:00:30Z");
+  private SimpleMeterRegistry meterRegistry;
+  private MisfireHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    handler = new MisfireHandler(meterRegistry);
+    ReflectionTestUtils.setField(handler, "thresholdSeconds", 60L);
+    ReflectionTestUtils.setField(handler, "maxCatchUpSeconds", 3600L);
+  }
+
+  @Test
+  void jobsLateByLessThanTheThresholdAreNotMisfired() {
+    assertThat(handler.isMisfired(job(null, now.minusSeconds(30)), now)).isFalse();
+    assertThat(handler.isMisfired(job(null, now.minusSeconds(90)), now)).isTrue();
+  }
+
+  @Test
+  void skipMovesAMisfiredJobToTheNextFireTimeAfterNow() {
+    Job job = job(MisfirePolicy.SKIP, now.minusSeconds(7200));
+
+    assertThat(handler.skipIfMisfired(job, now)).isTrue();
+    assertThat(job.getNextRunTime()).isEqualTo(Instant.parse("2030-01-01T13:00:00Z"));
+    assertThat(meterRegistry.counter("jobpulse.scheduler.misfire", "action", "skipped").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void otherPoliciesAndOneTimeJobsAreNotSkipped() {
+    assertThat(handler.skipIfMisfired(job(null, now.minusSeconds(7200)), now)).isFalse();
+    assertThat(handler.skipIfMisfired(job(MisfirePolicy.FIRE_ALL, now.minusSeconds(7200)), now))
+        .isFalse();
+
+    Job oneTime = job(MisfirePolicy.SKIP, now.minusSeconds(7200));
+    oneTime.setRecurring(false);
+    assertThat(handler.skipIfMisfired(oneTime, now)).isFalse();
+  }
+
+  @Test
+  void fireAllReplaysFromTheMissedFireTimeWithinTheHorizon() {
+    Instant missed = now.minusSeconds(1800);
+    assertThat(handler.nextFireBase(job(MisfirePolicy.FIRE_ALL, missed), now)).isEqualTo(missed);
+    assertThat(handler.nextFireBase(job(MisfirePolicy.FIRE_ALL, now.minusSeconds(90_000)), now))
+        .isEqualTo(now.minusSeconds(3600));
+    assertThat(handler.nextFireBase(job(MisfirePolicy.FIRE_ONCE, missed), now)).isEqualTo(now);
+  }
+
+  @Test
+  void recoveryModeSpreadsTheBacklogOverTheWindow() {
+    ReflectionTestUtils.setField(handler, "recoveryWindowSeconds", 10L);
+    List<Job> backlog = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      backlog.add(job(null, now.minusSeconds(3600)));
+    }
+    Job onTime = job(null, now.minusSeconds(1));
+
+    handler.beginTick(backlog, now);
+
+    // 50 jobs over 10 s: 5 catch-up runs per second, the first second is available at once
+    long admitted = backlog.stream().filter(job -> !handler.deferCatchUp(job, now)).count();
+    assertThat(admitted).isEqualTo(5);
+    assertThat(handler.deferCatchUp(onTime, now)).isFalse();
+    assertThat(handler.isRecovering()).isTrue();
+
+    handler.beginTick(List.of(onTime), now);
+    assertThat(handler.isRecovering()).isFalse();
+    assertThat(handler.deferCatchUp(backlog.get(0), now)).isFalse();
+  }
+
+  @Test
+  void batchedTicksSizeTheWindowFromTheCountedBacklog() {
+    ReflectionTestUtils.setField(handler, "recoveryWindowSeconds", 600L);
+    List<Job> batch = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      batch.add(job(null, now.minusSeconds(3600)));
+    }
+
+    handler.beginTick(batch, now, () -> 10_000);
+
+    // 10k jobs over 600 s: ~16 runs are paid for at once, not the 1 a 100-job backlog would give
+    long admitted = batch.stream().filter(job -> handler.catchUpSlot(job, now) == null).count();
+    assertThat(admitted).isEqualTo(16);
+    assertThat(handler.catchUpSlot(job(null, now.minusSeconds(3600)), now))
+        .isBefore(now.plusSeconds(10));
+  }
+
+  @Test
+  void batchWithoutMisfiresEndsTheEpisodeOnlyOnceTheBacklogIsCleared() {
+    ReflectionTestUtils.setField(handler, "recoveryWindowSeconds", 600L);
+    handler.beginTick(List.of(job(null, now.minusSeconds(3600))), now, () -> 500);
+    List<Job> fired = List.of(job(null, now.minusSeconds(1)));
+
+    // A timing-wheel fire only holds jobs due right now
+    handler.beginTick(fired, now, () -> 499);
+    assertThat(handler.isRecovering()).isTrue();
+
+    handler.beginTick(fired, now, () -> 0);
+    assertThat(handler.isRecovering()).isFalse();
+  }
+
+  @Test
+  void maxRateCapsTheCatchUpRate() {
+    ReflectionTestUtils.setField(handler, "recoveryWindowSeconds", 1L);
+    ReflectionTestUtils.setField(handler, "recoveryMaxRate", 2.0);
+    List<Job> backlog = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      backlog.add(job(null, now.minusSeconds(3600)));
+    }
+
+    handler.beginTick(backlog, now);
+
+    assertThat(backlog.stream().filter(job -> !handler.deferCatchUp(job, now)).count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void catchUpSlotsSpreadDeferredJobsAtTheRecoveryRate() {
+    ReflectionTestUtils.setField(handler, "recoveryMaxRate", 2.0);
+    List<Job> backlog = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      backlog.add(job(null, now.minusSeconds(3600)));
+    }
+
+    handler.beginTick(backlog, now);
+
+    // Two runs are paid for at once, the others come back one every half second after them
+    List<Instant> slots = backlog.stream().map(job -> handler.catchUpSlot(job, now)).toList();
+    assertThat(slots)
+        .containsExactly(
+            null, null, now.plusMillis(500), now.plusMillis(1000), now.plusMillis(1500));
+  }
+
+  @Test
+  void recoveryIsOffByDefault() {
+    Job misfired = job(null, now.minusSeconds(3600));
+    handler.beginTick(List.of(misfired), now);
+
+    assertThat(handler.deferCatchUp(misfired, now)).isFalse();
+  }
+
+  private static Job job(MisfirePolicy policy, Instant nextRunTime) {
+    return Job.builder()
+        .id(1L)
+        .name("hourly")
+        .recurring(true)
+        .cronExpression("0 0 * * * ?")
+        .timeZone("UTC")
+        .misfirePolicy(policy)
+        .nextRunTime(nextRunTime)
+        .build();
+  }
+}
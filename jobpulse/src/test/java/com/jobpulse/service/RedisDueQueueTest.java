@@ -0,0 +1,135 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.jobpulse.dto.others.ScheduledJobRef;
+import com.jobpulse.event.JobScheduleChangedEvent;
+import com.jobpulse.model.Status;
+import com.jobpulse.repository.JobRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RedisDueQueueTest {
+
+  private static final String KEY = RedisDueQueue.DUE_JOBS_KEY;
+
+  @Mock private RedisTemplate<String, String> redisTemplate;
+  @Mock private ZSetOperations<String, String> zSetOperations;
+  @Mock private JobRepository jobRepository;
+
+  private RedisDueQueue dueQueue;
+  private final Instant runAt = Instant.parse("2030-01-01T12:00:00Z");
+
+  @BeforeEach
+  void setUp() {
+    dueQueue = new RedisDueQueue(redisTemplate, jobRepository);
+    ReflectionTestUtils.setField(dueQueue, "backend", "redis");
+    ReflectionTestUtils.setField(dueQueue, "batchSize", 100);
+  }
+
+  @Test
+  void schedulableJob_isMirroredWithEpochMillisScore() {
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+    dueQueue.onScheduleChanged(new JobScheduleChangedEvent(7L, Status.PENDING, runAt));
+
+    verify(zSetOperations).add(KEY, "7", score(runAt));
+  }
+
+  @Test
+  void pausedOrDeletedJob_isRemoved() {
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+    dueQueue.onScheduleChanged(new JobScheduleChangedEvent(7L, Status.PAUSED, runAt));
+    dueQueue.onScheduleChanged(JobScheduleChangedEvent.removed(8L));
+
+    verify(zSetOperations).remove(KEY, "7");
+    verify(zSetOperations).remove(KEY, "8");
+    verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+  }
+
+  @Test
+  void databaseBackend_ignoresEvents() {
+    ReflectionTestUtils.setField(dueQueue, "backend", "database");
+
+    dueQueue.onScheduleChanged(new JobScheduleChangedEvent(7L, Status.PENDING, runAt));
+
+    assertThat(dueQueue.reconcile()).isZero();
+    verifyNoInteractions(redisTemplate, jobRepository);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void popDue_returnsIdsFromScript() {
+    when(redisTemplate.execute(any(), eq(List.of(KEY)), any(), eq("100")))
+        .thenReturn(List.of("3", "4"));
+
+    assertThat(dueQueue.popDue(runAt)).containsExactly(3L, 4L);
+  }
+
+  @Test
+  void reconcile_addsMissingRescoresStaleAndRemovesOrphans() {
+    Instant moved = runAt.plusSeconds(300);
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(jobRepository.findScheduledJobRefs())
+        .thenReturn(
+            List.of(
+                new ScheduledJobRef(1L, runAt),
+                new ScheduledJobRef(2L, moved),
+                new ScheduledJobRef(3L, runAt)));
+    Set<TypedTuple<String>> members =
+        Set.of(
+            new DefaultTypedTuple<>("1", score(runAt)),
+            new DefaultTypedTuple<>("2", score(runAt)),
+            new DefaultTypedTuple<>("9", score(runAt)));
+    when(zSetOperations.rangeWithScores(KEY, 0, -1)).thenReturn(members);
+
+    int repaired = dueQueue.reconcile();
+
+    assertThat(repaired).isEqualTo(3);
+    verify(zSetOperations).add(KEY, "2", score(moved));
+    verify(zSetOperations).add(KEY, "3", score(runAt));
+    verify(zSetOperations).remove(KEY, "9");
+    verify(zSetOperations, never()).add(KEY, "1", score(runAt));
+  }
+
+  @Test
+  void reconcile_readsTheSetBeforeTheTable() {
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(zSetOperations.rangeWithScores(KEY, 0, -1)).thenReturn(Set.of());
+    when(jobRepository.findScheduledJobRefs()).thenReturn(List.of());
+
+    dueQueue.reconcile();
+
+    // Read the other way round, a job enqueued or rescheduled in between would be undone
+    InOrder order = inOrder(zSetOperations, jobRepository);
+    order.verify(zSetOperations).rangeWithScores(KEY, 0, -1);
+    order.verify(jobRepository).findScheduledJobRefs();
+  }
+
+  private static double score(Instant time) {
+    return time.toEpochMilli();
+  }
+}
@@ -1,9 +1,13 @@
 package com.jobpulse.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.jobpulse.dto.others.JobFailureReason;
+import com.jobpulse.model.Job;
+import com.jobpulse.service.RetryPolicy.Backoff;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 
 class RetryPolicyTest {
@@ -25,4 +29,54 @@ class RetryPolicyTest {
     assertFalse(retryPolicy.isRetryable(JobFailureReason.INVALID_CONFIG));
     assertFalse(retryPolicy.isRetryable(JobFailureReason.UNKNOWN));
   }
+
+  @Test
+  void backoffGrowsExponentiallyUpToTheCap() {
+    Backoff backoff = new Backoff(Duration.ofSeconds(1), 2, Duration.ofSeconds(10), false);
+
+    assertEquals(Duration.ofSeconds(1), backoff.delay(1, 0.5));
+    assertEquals(Duration.ofSeconds(4), backoff.delay(3, 0.5));
+    assertEquals(Duration.ofSeconds(10), backoff.delay(10, 0.5));
+  }
+
+  @Test
+  void fullJitterDrawsBetweenZeroAndTheExponentialDelay() {
+    Backoff backoff = new Backoff(Duration.ofSeconds(1), 2, Duration.ofSeconds(10), true);
+
+    assertEquals(Duration.ZERO, backoff.delay(3, 0));
+    assertEquals(Duration.ofSeconds(2), backoff.delay(3, 0.5));
+    for (int i = 0; i < 100; i++) {
+      Duration delay = retryPolicy.backoffDelay(new Job(), JobFailureReason.NETWORK_ERROR, 2, null);
+      assertTrue(!delay.isNegative() && delay.compareTo(Duration.ofSeconds(2)) <= 0);
+    }
+  }
+
+  @Test
+  void jobSettingsOverrideTheReasonDefaults() {
+    Job job = Job.builder().retryBaseDelayMs(250L).retryJitter(false).build();
+
+    Backoff backoff = retryPolicy.backoffFor(job, JobFailureReason.REMOTE_5XX);
+
+    assertEquals(Duration.ofMillis(250), backoff.base());
+    assertFalse(backoff.jitter());
+    assertEquals(Duration.ofMinutes(10), backoff.cap());
+    assertEquals(
+        Duration.ofMillis(1000),
+        retryPolicy.backoffDelay(job, JobFailureReason.REMOTE_5XX, 3, null));
+  }
+
+  @Test
+  void retryAfterIsALowerBoundWithinTheLimit() {
+    Job job = Job.builder().retryBaseDelayMs(1000L).retryJitter(false).build();
+
+    assertEquals(
+        Duration.ofSeconds(120),
+        retryPolicy.backoffDelay(job, JobFailureReason.RATE_LIMITED, 1, Duration.ofSeconds(120)));
+    assertEquals(
+        Duration.ofSeconds(1),
+        retryPolicy.backoffDelay(job, JobFailureReason.RATE_LIMITED, 1, Duration.ZERO));
+    assertEquals(
+        RetryPolicy.MAX_RETRY_AFTER,
+        retryPolicy.backoffDelay(job, JobFailureReason.RATE_LIMITED, 1, Duration.ofDays(2)));
+  }
 }
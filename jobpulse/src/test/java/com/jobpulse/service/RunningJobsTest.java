@@ -0,0 +1,195 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.jobpulse.dto.others.JobFailureReason;
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.exception.JobCancelledException;
+import com.jobpulse.exception.JobDeferredException;
+import com.jobpulse.exception.RetryableJobException;
+import com.jobpulse.model.Job;
+import com.jobpulse.service.JobExecution.CancelReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+class RunningJobsTest {
+
+  private RedisTemplate<String, String> redisTemplate;
+  private MockEnvironment environment;
+  private SimpleMeterRegistry meterRegistry;
+  private RunningJobs runningJobs;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(RedisTemplate.class);
+    environment = new MockEnvironment();
+    meterRegistry = new SimpleMeterRegistry();
+    runningJobs = new RunningJobs(redisTemplate, environment, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    runningJobs.shutdown();
+  }
+
+  @Test
+  void deadlineComesFromTheJobThenTheTypeThenTheDefault() {
+    environment.setProperty("jobpulse.executor.script.timeout-seconds", "60");
+    Instant before = Instant.now();
+
+    JobExecution own = runningJobs.start(job(1, JobType.SCRIPT, 5));
+    JobExecution typed = runningJobs.start(job(2, JobType.SCRIPT, null));
+    JobExecution fallback = runningJobs.start(job(3, JobType.LOG, null));
+    JobExecution unbounded = runningJobs.start(job(4, JobType.LOG, 0));
+
+    assertThat(own.getDeadline()).isBetween(before.plusSeconds(5), before.plusSeconds(6));
+    assertThat(typed.getDeadline()).isBetween(before.plusSeconds(60), before.plusSeconds(61));
+    assertThat(fallback.getDeadline()).isBetween(before.plusSeconds(900), before.plusSeconds(901));
+    assertThat(unbounded.getDeadline()).isEqualTo(Instant.MAX);
+    runningJobs.finish(own);
+    runningJobs.finish(typed);
+    runningJobs.finish(fallback);
+    runningJobs.finish(unbounded);
+  }
+
+  @Test
+  void deadlineInterruptsTheRunAndFailsItAsATimeout() throws Exception {
+    CountDownLatch done = new CountDownLatch(1);
+    AtomicBoolean interrupted = new AtomicBoolean();
+    JobExecution[] execution = new JobExecution[1];
+    Thread worker =
+        Thread.ofPlatform()
+            .start(
+                () -> {
+                  execution[0] = runningJobs.start(job(1, JobType.LOG, 1));
+                  try {
+                    Thread.sleep(10_000);
+                  } catch (InterruptedException e) {
+                    interrupted.set(true);
+                  } finally {
+                    done.countDown();
+                  }
+                });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    worker.join();
+
+    assertThat(interrupted).isTrue();
+    assertThat(execution[0].getCancelReason()).isEqualTo(CancelReason.TIMEOUT);
+    assertThatThrownBy(execution[0]::checkpoint)
+        .isInstanceOfSatisfying(
+            RetryableJobException.class,
+            e -> assertThat(e.getReason()).isEqualTo(JobFailureReason.TIMEOUT));
+    // The watchdog counts the cancellation only after interrupting the run
+    await(
+        () ->
+            meterRegistry.counter("jobpulse.executor.cancelled", "reason", "timeout").count() == 1);
+  }
+
+  @Test
+  void cancellingALocalRunRunsItsHooksWithoutPublishing() {
+    JobExecution execution = runningJobs.start(job(7, JobType.SCRIPT, 0));
+    AtomicBoolean killed = new AtomicBoolean();
+    execution.onCancel(() -> killed.set(true));
+
+    assertThat(runningJobs.requestCancel(7)).isTrue();
+
+    assertThat(killed).isTrue();
+    assertThatThrownBy(execution::checkpoint).isInstanceOf(JobCancelledException.class);
+    verify(redisTemplate, never()).convertAndSend(RunningJobs.CANCEL_CHANNEL, "7");
+    runningJobs.finish(execution);
+    assertThat(Thread.currentThread().isInterrupted()).isFalse();
+  }
+
+  @Test
+  void jobsRunningElsewhereAreCancelledThroughRedis() {
+    assertThat(runningJobs.requestCancel(8)).isFalse();
+    verify(redisTemplate).convertAndSend(RunningJobs.CANCEL_CHANNEL, "8");
+
+    JobExecution execution = runningJobs.start(job(8, JobType.HTTP_CALL, 0));
+    runningJobs.onMessage(
+        new DefaultMessage(
+            RunningJobs.CANCEL_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "8".getBytes(StandardCharsets.UTF_8)),
+        null);
+
+    assertThat(execution.getCancelReason()).isEqualTo(CancelReason.REQUESTED);
+    runningJobs.finish(execution);
+    assertThat(runningJobs.isRunning(8)).isFalse();
+  }
+
+  @Test
+  void interruptWithoutCancellationFailsAsRetryable() {
+    JobExecution execution = runningJobs.start(job(12, JobType.SCRIPT, 0));
+    InterruptedException interrupt = new InterruptedException();
+
+    assertThat(execution.cancellationFailure(interrupt))
+        .isInstanceOfSatisfying(
+            RetryableJobException.class,
+            e -> {
+              assertThat(e.getReason()).isEqualTo(JobFailureReason.UNKNOWN);
+              assertThat(e.getCause()).isSameAs(interrupt);
+            });
+    runningJobs.finish(execution);
+  }
+
+  @Test
+  void finishedRunsCannotBeCancelled() {
+    JobExecution execution = runningJobs.start(job(9, JobType.LOG, 0));
+    runningJobs.finish(execution);
+
+    assertThat(execution.cancel(CancelReason.REQUESTED)).isFalse();
+    assertThat(execution.remainingOr(Duration.ofSeconds(3))).isEqualTo(Duration.ofSeconds(3));
+  }
+
+  @Test
+  void drainingHandsRunsBackToTheQueue() {
+    JobExecution inFlight = runningJobs.start(job(10, JobType.LOG, 0));
+
+    runningJobs.beginDrain();
+    JobExecution late = runningJobs.start(job(11, JobType.LOG, 0));
+
+    assertThat(late.getCancelReason()).isEqualTo(CancelReason.SHUTDOWN);
+    assertThat(inFlight.isCancelled()).isFalse();
+    assertThat(runningJobs.cancelAll()).isEqualTo(1);
+    assertThatThrownBy(inFlight::checkpoint)
+        .isInstanceOfSatisfying(JobDeferredException.class, e -> assertThat(e.getDelay()).isZero());
+    runningJobs.finish(inFlight);
+    runningJobs.finish(late);
+    assertThat(runningJobs.runningJobIds()).isEmpty();
+  }
+
+  private static Job job(long id, JobType type, Integer timeoutSeconds) {
+    return Job.builder()
+        .id(id)
+        .name("job-" + id)
+        .jobType(type)
+        .timeoutSeconds(timeoutSeconds)
+        .build();
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+}
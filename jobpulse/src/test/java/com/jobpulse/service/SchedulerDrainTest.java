@@ -0,0 +1,126 @@
+package com.jobpulse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.jobpulse.dto.request.JobRequestDTO.JobType;
+import com.jobpulse.model.Job;
+import com.jobpulse.service.JobExecution.CancelReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SchedulerDrainTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private JobDispatcher dispatcher;
+  private RunningJobs runningJobs;
+  private SchedulerDrain drain;
+
+  @BeforeEach
+  void setUp() {
+    MockEnvironment environment =
+        new MockEnvironment()
+            .withProperty("jobpulse.dispatcher.script.pool-size", "1")
+            .withProperty("jobpulse.dispatcher.script.queue-capacity", "1");
+    dispatcher = new JobDispatcher(environment, meterRegistry);
+    runningJobs = new RunningJobs(null, environment, meterRegistry);
+    drain = new SchedulerDrain(dispatcher, runningJobs);
+    ReflectionTestUtils.setField(drain, "drainSeconds", 5L);
+    ReflectionTestUtils.setField(drain, "handbackSeconds", 5L);
+    drain.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    dispatcher.shutdown();
+    runningJobs.shutdown();
+  }
+
+  @Test
+  void inFlightRunsFinishWhileQueuedOnesAreHandedBack() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<CancelReason> inFlight = new AtomicReference<>();
+    AtomicReference<CancelReason> queued = new AtomicReference<>();
+    dispatcher.dispatch(
+        JobType.SCRIPT,
+        () ->
+            run(
+                1,
+                execution -> {
+                  started.countDown();
+                  await(release);
+                  inFlight.set(execution.getCancelReason());
+                }));
+    dispatcher.dispatch(
+        JobType.SCRIPT, () -> run(2, execution -> queued.set(execution.getCancelReason())));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // Lets the first run finish once the drain has begun
+    Thread.ofPlatform()
+        .start(
+            () -> {
+              while (!runningJobs.isDraining()) {
+                Thread.onSpinWait();
+              }
+              release.countDown();
+            });
+    drain.stop();
+
+    assertThat(drain.isRunning()).isFalse();
+    assertThat(inFlight.get()).isNull();
+    assertThat(queued.get()).isEqualTo(CancelReason.SHUTDOWN);
+    assertThat(dispatcher.dispatch(JobType.SCRIPT, () -> {})).isFalse();
+  }
+
+  @Test
+  void runsStillGoingAtTheDeadlineAreCancelled() throws Exception {
+    ReflectionTestUtils.setField(drain, "drainSeconds", 0L);
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicReference<CancelReason> reason = new AtomicReference<>();
+    dispatcher.dispatch(
+        JobType.SCRIPT,
+        () ->
+            run(
+                1,
+                execution -> {
+                  started.countDown();
+                  try {
+                    Thread.sleep(10_000);
+                  } catch (InterruptedException e) {
+                    reason.set(execution.getCancelReason());
+                  }
+                }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    drain.stop();
+
+    assertThat(reason.get()).isEqualTo(CancelReason.SHUTDOWN);
+    assertThat(runningJobs.runningJobIds()).isEmpty();
+  }
+
+  private void run(long id, Consumer<JobExecution> body) {
+    JobExecution execution =
+        runningJobs.start(Job.builder().id(id).jobType(JobType.SCRIPT).timeoutSeconds(0).build());
+    try {
+      body.accept(execution);
+    } finally {
+      runningJobs.finish(execution);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.jobpulse.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronExpression;
+
+class BitsetCronExpressionTest {
+
+  private static final List<String> ZONES =
+      List.of("UTC", "America/New_York", "Europe/Berlin", "Asia/Kolkata", "Australia/Lord_Howe");
+
+  private static final List<String> HANDWRITTEN =
+      List.of(
+          "0 0/5 * ? * * *",
+          "30 15 10 * * ?",
+          "0 30 9 ? * MON-FRI *",
+          "0 0 12 ? * SUN,WED,SAT",
+          "15,45 */7 1-5,20-23 * * ?",
+          "0 0 2 * * ?",
+          "0 30 2 ? * *",
+          "0 0 1 ? * *",
+          "0 0/10 1-3 * * ?",
+          "0 0 0 29 2 ?",
+          "0 0 0 31 * ?",
+          "0 0 6 15 JAN,JUL ? 2027-2030",
+          "0 0 12 1 6 ? 2026",
+          "10-40/7 * * * * ?",
+          "0 5/20 * * JUN-AUG ?",
+          "0 0 0 ? 3/4 2/3 *");
+
+  @Test
+  void matchesQuartzForEveryGeneratedExpression() {
+    List<String> expressions = new ArrayList<>();
+    // Every interval Quartz accepts for each frequency
+    for (int interval = 1; interval < 60; interval++) {
+      expressions.add(CronExpressionUtil.generateCronExpression("MINUTES", interval));
+    }
+    for (int interval = 1; interval < 24; interval++) {
+      expressions.add(CronExpressionUtil.generateCronExpression("HOURS", interval));
+    }
+    for (int interval = 1; interval <= 31; interval++) {
+      expressions.add(CronExpressionUtil.generateCronExpression("DAYS", interval));
+    }
+    expressions.add(CronExpressionUtil.generateCronExpression("WEEKS", 1));
+    expressions.add(CronExpressionUtil.generateCronExpression("MONTHS", 1));
+
+    for (String zone : ZONES) {
+      for (String expression : expressions) {
+        assertMatchesQuartz(expression, zone, 20, 12);
+      }
+    }
+  }
+
+  @Test
+  void matchesQuartzForHandwrittenExpressions() {
+    for (String zone : ZONES) {
+      for (String expression : HANDWRITTEN) {
+        assertMatchesQuartz(expression, zone, 40, 24);
+      }
+    }
+  }
+
+  @Test
+  void defersDstTransitionsToQuartz() {
+    BitsetCronExpression cron =
+        BitsetCronExpression.compile(
+            "0 30 2 * * ?", ZoneId.of("America/New_York"), CronExpression.MAX_YEAR);
+    // 2030-03-10 02:30 does not exist in New York
+    long beforeGap =
+        LocalDateTime.of(2030, 3, 10, 0, 0).atZone(ZoneId.of("America/New_York")).toEpochSecond();
+
+    assertEquals(BitsetCronExpression.FALLBACK, cron.nextAfter(beforeGap));
+  }
+
+  @Test
+  void resolvesOffsetsLikeTheZoneRules() {
+    for (String zoneId : ZONES) {
+      ZoneRules rules = ZoneId.of(zoneId).getRules();
+      BitsetCronExpression.ZoneTransitions transitions =
+          BitsetCronExpression.ZoneTransitions.of(ZoneId.of(zoneId));
+      // Every quarter hour around each transition, where gaps and overlaps begin and end
+      ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("2024-01-01T00:00:00Z"));
+      for (int i = 0; i < 16 && transition != null; i++) {
+        for (long delta = -7200; delta <= 7200; delta += 900) {
+          long epochSecond = transition.toEpochSecond() + delta;
+          assertEquals(
+              rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds(),
+              transitions.offsetAt(epochSecond),
+              zoneId + " at " + epochSecond);
+          long localSecond = epochSecond + transition.getOffsetBefore().getTotalSeconds();
+          List<ZoneOffset> valid =
+              rules.getValidOffsets(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC));
+          assertEquals(
+              valid.size() == 1
+                  ? valid.get(0).getTotalSeconds()
+                  : BitsetCronExpression.ZoneTransitions.AMBIGUOUS,
+              transitions.offsetOfLocal(localSecond),
+              zoneId + " at local " + localSecond);
+        }
+        transition = rules.nextTransition(transition.getInstant());
+      }
+    }
+  }
+
+  @Test
+  void reportsNoMoreFireTimesOnceTheYearsRunOut() {
+    BitsetCronExpression cron =
+        BitsetCronExpression.compile(
+            "0 0 12 1 6 ? 2026", ZoneId.of("UTC"), CronExpression.MAX_YEAR);
+    long afterLastFire =
+        LocalDateTime.of(2026, 6, 2, 0, 0).atZone(ZoneId.of("UTC")).toEpochSecond();
+
+    assertEquals(BitsetCronExpression.NO_MORE, cron.nextAfter(afterLastFire));
+  }
+
+  @Test
+  void leavesUnsupportedSyntaxToQuartz() {
+    ZoneId utc = ZoneId.of("UTC");
+    assertNull(BitsetCronExpression.compile("0 0 12 L * ?", utc, CronExpression.MAX_YEAR));
+    assertNull(BitsetCronExpression.compile("0 0 12 15W * ?", utc, CronExpression.MAX_YEAR));
+    assertNull(BitsetCronExpression.compile("0 0 12 ? * 6#3", utc, CronExpression.MAX_YEAR));
+    assertNull(BitsetCronExpression.compile("0 0 22-2 * * ?", utc, CronExpression.MAX_YEAR));
+    assertNotNull(BitsetCronExpression.compile("0 0 12 ? * FRI", utc, CronExpression.MAX_YEAR));
+  }
+
+  // Walks `steps` consecutive fire times from several random starting points and compares every
+  // fire time the bitset engine resolves itself with Quartz
+  private static void assertMatchesQuartz(String expression, String zoneId, int steps, int starts) {
+    CronExpression quartz;
+    try {
+      quartz = new CronExpression(expression);
+    } catch (java.text.ParseException e) {
+      throw new AssertionError(e);
+    }
+    quartz.setTimeZone(TimeZone.getTimeZone(zoneId));
+    BitsetCronExpression bitset =
+        BitsetCronExpression.compile(expression, ZoneId.of(zoneId), CronExpression.MAX_YEAR);
+    assertNotNull(bitset, expression);
+
+    Random random = new Random(expression.hashCode() * 31L + zoneId.hashCode());
+    long from2024 = 1_704_067_200L;
+    int resolved = 0;
+    for (int start = 0; start < starts; start++) {
+      long after = from2024 + (long) (random.nextDouble() * 8 * 365 * 86_400);
+      for (int step = 0; step < steps; step++) {
+        Date expected = quartz.getNextValidTimeAfter(new Date(after * 1000));
+        long actual = bitset.nextAfter(after);
+        if (actual == BitsetCronExpression.FALLBACK && expected != null) {
+          after = expected.getTime() / 1000;
+          continue;
+        }
+        if (expected == null) {
+          assertEquals(BitsetCronExpression.NO_MORE, actual, expression + " in " + zoneId);
+          break;
+        }
+        assertEquals(
+            expected.getTime() / 1000,
+            actual,
+            () -> expression + " in " + zoneId + " after " + new Date(expected.getTime()));
+        resolved++;
+        after = actual;
+      }
+    }
+    assertTrue(resolved > 0, expression);
+  }
+}
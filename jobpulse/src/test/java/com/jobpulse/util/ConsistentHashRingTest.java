@@ -0,0 +1,49 @@
+package com.jobpulse.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+  private static final int KEYS = 10_000;
+
+  @Test
+  void emptyRing_ownsNothing() {
+    assertThat(new ConsistentHashRing(List.of(), 16).ownerOf(42)).isNull();
+  }
+
+  @Test
+  void keysSpreadEvenlyAcrossNodes() {
+    ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+
+    Map<String, Integer> counts = new HashMap<>();
+    for (long key = 0; key < KEYS; key++) {
+      counts.merge(ring.ownerOf(key), 1, Integer::sum);
+    }
+
+    assertThat(counts).hasSize(4);
+    // Within 30% of a perfectly even share
+    counts.values().forEach(count -> assertThat(count).isBetween(1750, 3250));
+  }
+
+  @Test
+  void nodeJoining_onlyMovesKeysToTheNewNode() {
+    ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+    ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+
+    int moved = 0;
+    for (long key = 0; key < KEYS; key++) {
+      String oldOwner = before.ownerOf(key);
+      String newOwner = after.ownerOf(key);
+      if (!oldOwner.equals(newOwner)) {
+        assertThat(newOwner).isEqualTo("d");
+        moved++;
+      }
+    }
+    assertThat(moved).isBetween(KEYS / 8, KEYS * 3 / 8);
+  }
+}
@@ -2,7 +2,12 @@ package com.jobpulse.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
 import org.junit.jupiter.api.Test;
 
 class CronExpressionUtilTest {
@@ -43,4 +48,106 @@ class CronExpressionUtilTest {
         IllegalArgumentException.class,
         () -> CronExpressionUtil.generateCronExpression("YEARS", 1));
   }
+
+  @Test
+  void getNextRunTimesReturnsConsecutiveFireTimes() {
+    LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 2);
+    List<LocalDateTime> next = CronExpressionUtil.getNextRunTimes("0 0/5 * ? * * *", from, 3);
+    assertEquals(
+        List.of(
+            LocalDateTime.of(2030, 1, 1, 10, 5),
+            LocalDateTime.of(2030, 1, 1, 10, 10),
+            LocalDateTime.of(2030, 1, 1, 10, 15)),
+        next);
+    assertEquals(next.get(0), CronExpressionUtil.getNextRunTime("0 0/5 * ? * * *", from));
+  }
+
+  @Test
+  void getNextRunTimesStopsWhenExpressionNoLongerFires() {
+    LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+    assertEquals(1, CronExpressionUtil.getNextRunTimes("0 0 12 1 6 ? 2030", from, 5).size());
+  }
+
+  @Test
+  void evaluatesCronFieldsInTheGivenTimeZoneAcrossDst() {
+    TimeZone newYork = CronExpressionUtil.resolveTimeZone("America/New_York");
+    Instant beforeSwitch = Instant.parse("2030-03-09T12:00:00Z");
+
+    // 09:00 EST is 14:00 UTC, and 09:00 EDT after the switch on March 10 is 13:00 UTC
+    assertEquals(
+        List.of(Instant.parse("2030-03-09T14:00:00Z"), Instant.parse("2030-03-10T13:00:00Z")),
+        CronExpressionUtil.getNextRunTimes("0 0 9 * * ?", beforeSwitch, 2, newYork));
+  }
+
+  @Test
+  void resolvesTimeZones() {
+    assertEquals(TimeZone.getDefault(), CronExpressionUtil.resolveTimeZone(null));
+    assertEquals("Asia/Tokyo", CronExpressionUtil.resolveTimeZone("Asia/Tokyo").getID());
+    assertThrows(
+        IllegalArgumentException.class, () -> CronExpressionUtil.resolveTimeZone("Mars/Olympus"));
+  }
+
+  @Test
+  void compiledExpressionsAreCachedPerTimeZone() {
+    String cron = "0 7 3 * * ? *";
+    LocalDateTime from = LocalDateTime.now();
+    CronExpressionUtil.getNextRunTime(cron, from);
+    int cached = CronExpressionUtil.cachedExpressionCount();
+
+    CronExpressionUtil.getNextRunTime(cron, from);
+    assertEquals(cached, CronExpressionUtil.cachedExpressionCount());
+
+    CronExpressionUtil.getNextRunTime(cron, from, TimeZone.getTimeZone("Asia/Tokyo"));
+    assertTrue(CronExpressionUtil.cachedExpressionCount() >= cached);
+  }
+
+  @Test
+  void cacheStaysBounded() {
+    LocalDateTime from = LocalDateTime.now();
+    for (int second = 0; second < 60; second++) {
+      for (int minute = 0; minute < 40; minute++) {
+        CronExpressionUtil.getNextRunTime(second + " " + minute + " * * * ? *", from);
+      }
+    }
+    assertTrue(CronExpressionUtil.cachedExpressionCount() <= CronExpressionUtil.CACHE_SIZE);
+  }
+
+  @Test
+  void spreadOffsetsAreDeterministicAndStayBelowTheInterval() {
+    TimeZone utc = TimeZone.getTimeZone("UTC");
+    Instant from = Instant.parse("2030-01-01T00:00:30Z");
+    Instant fire = Instant.parse("2030-01-01T00:01:00Z");
+
+    Set<Long> offsets = new HashSet<>();
+    for (long id = 1; id <= 200; id++) {
+      Instant spread = CronExpressionUtil.getNextRunTime("0 * * * * ?", from, utc, id, 300);
+      assertEquals(spread, CronExpressionUtil.getNextRunTime("0 * * * * ?", from, utc, id, 300));
+      // The window is capped at the one-minute gap so runs never overlap the next fire
+      long offset = spread.getEpochSecond() - fire.getEpochSecond();
+      assertTrue(offset >= 0 && offset < 60, "offset " + offset);
+      offsets.add(offset);
+    }
+    assertTrue(offsets.size() > 50, "only " + offsets.size() + " distinct seconds");
+    assertEquals(fire, CronExpressionUtil.getNextRunTime("0 * * * * ?", from, utc, 42, 0));
+  }
+
+  @Test
+  void irregularExpressionsKeepOneOffsetAtEveryFireTime() {
+    Instant morning = Instant.parse("2030-01-01T09:00:00Z");
+    Instant evening = Instant.parse("2030-01-01T17:00:00Z");
+
+    for (long id = 1; id <= 200; id++) {
+      long fromMorning = twiceDailyOffset(morning, id);
+      // Capped by the eight-hour gap, not by the sixteen hours that follow the evening run
+      assertEquals(fromMorning, twiceDailyOffset(evening, id), "job " + id);
+      assertTrue(fromMorning >= 0 && fromMorning < 8 * 3600, "offset " + fromMorning);
+    }
+  }
+
+  private static long twiceDailyOffset(Instant fire, long id) {
+    Instant spread =
+        CronExpressionUtil.getNextRunTime(
+            "0 0 9,17 * * ?", fire.minusSeconds(1), TimeZone.getTimeZone("UTC"), id, 86_400);
+    return spread.getEpochSecond() - fire.getEpochSecond();
+  }
 }
@@ -0,0 +1,38 @@
+package com.jobpulse.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FairShareTest {
+
+  @Test
+  void interleavesByKeyKeepingOrderWithinAKey() {
+    List<String> items = List.of("a1", "a2", "a3", "b1", "c1", "b2");
+
+    assertThat(FairShare.roundRobin(items, item -> item.charAt(0)))
+        .containsExactly("a1", "b1", "c1", "a2", "b2", "a3");
+  }
+
+  @Test
+  void nullKeysFormTheirOwnGroup() {
+    List<String> items = Arrays.asList("a1", "a2", "x", "y");
+
+    assertThat(FairShare.roundRobin(items, item -> item.startsWith("a") ? "a" : null))
+        .containsExactly("a1", "x", "a2", "y");
+  }
+
+  @Test
+  void smallTenantIsNotQueuedBehindALargeOne() {
+    List<String> items = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      items.add("big");
+    }
+    items.add("small");
+
+    assertThat(FairShare.roundRobin(items, item -> item).indexOf("small")).isEqualTo(1);
+  }
+}
@@ -0,0 +1,93 @@
+package com.jobpulse.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+  private static final long TICK = 10;
+  private static final long START = 1_000_000;
+
+  @Test
+  void firesEntryOnFirstTickAtOrAfterDeadline() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, START, 8, 8);
+    List<Long> fired = new ArrayList<>();
+    wheel.add(1L, START + 25);
+
+    wheel.advanceTo(START + 29, (id, deadline) -> fired.add(id));
+    assertTrue(fired.isEmpty());
+
+    wheel.advanceTo(START + 30, (id, deadline) -> fired.add(id));
+    assertEquals(List.of(1L), fired);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void overdueEntryFiresOnNextAdvance() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, START, 8, 8);
+    List<Long> fired = new ArrayList<>();
+    wheel.add(1L, START - 5_000);
+
+    wheel.advanceTo(START + TICK, (id, deadline) -> fired.add(id));
+
+    assertEquals(List.of(1L), fired);
+  }
+
+  @Test
+  void removeAndReplaceCancelPreviousDeadline() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, START, 8, 8);
+    List<Long> fired = new ArrayList<>();
+    wheel.add(1L, START + 50);
+    wheel.add(2L, START + 50);
+    wheel.add(2L, START + 500);
+    assertTrue(wheel.remove(1L));
+    assertFalse(wheel.remove(1L));
+
+    wheel.advanceTo(START + 100, (id, deadline) -> fired.add(id));
+    assertTrue(fired.isEmpty());
+    assertTrue(wheel.contains(2L));
+
+    wheel.advanceTo(START + 500, (id, deadline) -> fired.add(id));
+    assertEquals(List.of(2L), fired);
+  }
+
+  @Test
+  void rejectsDeadlinesBeyondHorizon() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, START, 8, 8);
+
+    assertTrue(wheel.add(1L, START + wheel.horizonMillis()));
+    assertFalse(wheel.add(2L, START + 8 * 8 * TICK + TICK));
+  }
+
+  @Test
+  void hundredThousandEntriesAllFireWithinOneTick() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, START, 256, 64, 64);
+    Random random = new Random(42);
+    Map<Long, Long> deadlines = new HashMap<>();
+    for (long id = 0; id < 100_000; id++) {
+      long deadline = START + 1 + random.nextInt(300_000);
+      deadlines.put(id, deadline);
+      assertTrue(wheel.add(id, deadline));
+    }
+
+    Map<Long, Long> firedAt = new HashMap<>();
+    for (long now = START; now <= START + 300_000 + TICK; now += TICK) {
+      long at = now;
+      wheel.advanceTo(now, (id, deadline) -> firedAt.put(id, at));
+    }
+
+    assertEquals(deadlines.size(), firedAt.size());
+    assertEquals(0, wheel.size());
+    deadlines.forEach(
+        (id, deadline) -> {
+          long lag = firedAt.get(id) - deadline;
+          assertTrue(lag >= 0 && lag < TICK, "job " + id + " fired with lag " + lag);
+        });
+  }
+}